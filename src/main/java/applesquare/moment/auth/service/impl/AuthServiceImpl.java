@@ -11,6 +11,7 @@ import applesquare.moment.common.service.StateService;
 import applesquare.moment.email.dto.MailDTO;
 import applesquare.moment.email.exception.EmailValidationException;
 import applesquare.moment.email.service.EmailSendService;
+import applesquare.moment.user.event.UserCreatedEvent;
 import applesquare.moment.user.model.UserInfo;
 import applesquare.moment.user.repository.UserInfoRepository;
 import applesquare.moment.user.service.UserInfoService;
@@ -18,6 +19,7 @@ import applesquare.moment.util.StringUtil;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,6 +38,7 @@ public class AuthServiceImpl implements AuthService {
     private final AddressService addressService;
     private final StateService stateService;
     private final EmailSendService emailSendService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${moment.front.reset-password}")
     private String pwResetUrl;
@@ -110,6 +113,9 @@ public class AuthServiceImpl implements AuthService {
         // UserAccount, UserInfo는 OneToOne으로 연결되어 있기 때문에 UserAccount만 저장
         userAccountRepository.save(userAccount);
 
+        // 사용자 생성 이벤트 발행 (커밋 이후 검색 색인 반영)
+        eventPublisher.publishEvent(new UserCreatedEvent(userId));
+
         // 이메일 인증 상태 제거하기 (일회용)
         if(email!=null){
             stateService.delete(emailState);
@@ -0,0 +1,26 @@
+package applesquare.moment.comment.mapper;
+
+import applesquare.moment.comment.dto.CommentReadAllResponseDTO;
+import applesquare.moment.comment.model.Comment;
+import applesquare.moment.user.dto.UserProfileReadResponseDTO;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Comment 엔티티와 댓글 DTO 간 변환 (컴파일 시점에 변환 코드 생성)
+ */
+@Mapper(componentModel = "spring")
+public interface CommentMapper {
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "comment.id")
+    @Mapping(target = "content", source = "comment.content")
+    @Mapping(target = "regDate", source = "comment.regDate")
+    @Mapping(target = "writer", source = "writer")
+    @Mapping(target = "likeCount", source = "likeCount")
+    @Mapping(target = "liked", source = "liked")
+    CommentReadAllResponseDTO toReadAllDTO(Comment comment,
+                                           UserProfileReadResponseDTO writer,
+                                           long likeCount,
+                                           boolean liked);
+}
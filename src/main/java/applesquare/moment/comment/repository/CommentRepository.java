@@ -41,4 +41,11 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
                 "AND c.writer.id=:userId")
     List<Long> findAllCommentedPostIdByPostIdsAndUserId(@Param("postIds") List<Long> postIds,
                                                         @Param("userId") String userId);
+
+    @Query("SELECT DISTINCT c.post.id " +
+            "FROM Comment c " +
+            "WHERE c.writer.id=:userId")
+    List<Long> findAllCommentedPostIdByUserId(@Param("userId") String userId);
+
+    boolean existsByPostIdAndWriterId(Long postId, String writerId);
 }
@@ -4,6 +4,7 @@ import applesquare.moment.auth.exception.TokenException;
 import applesquare.moment.comment.dto.CommentCreateRequestDTO;
 import applesquare.moment.comment.dto.CommentReadAllResponseDTO;
 import applesquare.moment.comment.dto.CommentUpdateRequestDTO;
+import applesquare.moment.comment.mapper.CommentMapper;
 import applesquare.moment.comment.model.Comment;
 import applesquare.moment.comment.repository.CommentRepository;
 import applesquare.moment.comment.service.CommentService;
@@ -13,14 +14,16 @@ import applesquare.moment.common.service.SecurityService;
 import applesquare.moment.like.repository.CommentLikeRepository;
 import applesquare.moment.post.model.Post;
 import applesquare.moment.post.repository.PostRepository;
+import applesquare.moment.post.service.PostDetailCacheService;
+import applesquare.moment.post.service.PostStatsService;
 import applesquare.moment.user.dto.UserProfileReadResponseDTO;
 import applesquare.moment.user.model.UserInfo;
 import applesquare.moment.user.repository.UserInfoRepository;
 import applesquare.moment.user.service.UserProfileService;
+import applesquare.moment.viewer.service.ViewerStateService;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -30,6 +33,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional
@@ -41,7 +45,10 @@ public class CommentServiceImpl implements CommentService {
     private final UserInfoRepository userInfoRepository;
     private final SecurityService securityService;
     private final UserProfileService userProfileService;
-    private final ModelMapper modelMapper;
+    private final PostStatsService postStatsService;
+    private final PostDetailCacheService postDetailCacheService;
+    private final ViewerStateService viewerStateService;
+    private final CommentMapper commentMapper;
 
 
     /**
@@ -73,6 +80,11 @@ public class CommentServiceImpl implements CommentService {
         // DB 저장
         Comment result=commentRepository.save(comment);
 
+        // 게시물 통계 갱신
+        postStatsService.addCommentCount(postId, 1);
+        postDetailCacheService.evict(postId);
+        viewerStateService.addCommentedPost(userId, postId);
+
         // 리소스 ID 반환
         return result.getId();
     }
@@ -130,6 +142,11 @@ public class CommentServiceImpl implements CommentService {
 
         // DB 삭제
         commentRepository.deleteById(commentId);
+
+        // 게시물 통계 갱신
+        postStatsService.addCommentCount(comment.getPost().getId(), -1);
+        postDetailCacheService.evict(comment.getPost().getId());
+        viewerStateService.removeCommentedPost(userId, comment.getPost().getId());
     }
 
     /**
@@ -181,17 +198,19 @@ public class CommentServiceImpl implements CommentService {
                 commentLikeRepository.findAllLikedCommentIdByCommentIdsAndUserId(commentIds, myUserId)
                 : new ArrayList<>();
 
+        // 작성자 프로필 한 번에 조회
+        List<String> writerIds=tuples.stream().map((tuple)->{
+            Comment comment=(Comment) tuple.get("comment");
+            return comment.getWriter().getId();
+        }).toList();
+        Map<String, UserProfileReadResponseDTO> writerProfileMap=userProfileService.readProfilesByIds(writerIds);
+
         // DTO 변환
         List<CommentReadAllResponseDTO> commentReadAllResponseDTOS=tuples.stream().map(tuple -> {
             Comment comment=(Comment) tuple.get("comment");
             long likeCount=(long) tuple.get("likeCount");
-            CommentReadAllResponseDTO commentReadAllResponseDTO=modelMapper.map(comment, CommentReadAllResponseDTO.class);
-            UserProfileReadResponseDTO writer=userProfileService.readProfileById(comment.getWriter().getId());
-            return commentReadAllResponseDTO.toBuilder()
-                    .writer(writer)
-                    .likeCount(likeCount)
-                    .liked(likedCommentIds.contains(comment.getId()))
-                    .build();
+            UserProfileReadResponseDTO writer=writerProfileMap.get(comment.getWriter().getId());
+            return commentMapper.toReadAllDTO(comment, writer, likeCount, likedCommentIds.contains(comment.getId()));
         }).toList();
 
         PageResponseDTO<CommentReadAllResponseDTO> pageResponseDTO=PageResponseDTO.<CommentReadAllResponseDTO>builder()
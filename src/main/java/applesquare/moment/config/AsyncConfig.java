@@ -0,0 +1,114 @@
+package applesquare.moment.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+    public static final String EVENT_TASK_EXECUTOR="eventTaskExecutor";
+    public static final String SEARCH_TASK_EXECUTOR="searchTaskExecutor";
+    public static final String MEDIA_TASK_EXECUTOR="mediaTaskExecutor";
+    public static final String FILE_TASK_EXECUTOR="fileTaskExecutor";
+    public static final String MAINTENANCE_TASK_EXECUTOR="maintenanceTaskExecutor";
+
+    @Value("${applesquare.moment.async.event.pool-size:4}")
+    private int eventPoolSize;
+
+    @Value("${applesquare.moment.async.event.queue-capacity:10000}")
+    private int eventQueueCapacity;
+
+    @Value("${applesquare.moment.async.search.pool-size:16}")
+    private int searchPoolSize;
+
+    @Value("${applesquare.moment.async.search.queue-capacity:200}")
+    private int searchQueueCapacity;
+
+    @Value("${applesquare.moment.async.media.pool-size:2}")
+    private int mediaPoolSize;
+
+    @Value("${applesquare.moment.async.file.pool-size:8}")
+    private int filePoolSize;
+
+    @Value("${applesquare.moment.async.file.queue-capacity:100}")
+    private int fileQueueCapacity;
+
+    @Value("${applesquare.moment.async.maintenance.queue-capacity:100}")
+    private int maintenanceQueueCapacity;
+
+
+    @Bean(name = EVENT_TASK_EXECUTOR)
+    public Executor eventTaskExecutor(){
+        // 트랜잭션 커밋 이후의 후속 작업 (타임라인 전파 등) 처리용 스레드 풀
+        ThreadPoolTaskExecutor executor=new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(eventPoolSize);
+        executor.setMaxPoolSize(eventPoolSize);
+        executor.setQueueCapacity(eventQueueCapacity);
+        executor.setThreadNamePrefix("event-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = SEARCH_TASK_EXECUTOR)
+    public Executor searchTaskExecutor(){
+        // 통합 검색의 섹션별 하위 검색을 동시에 실행하는 스레드 풀
+        // (큐가 가득 차면 거절하고, 해당 섹션만 실패로 응답한다.)
+        ThreadPoolTaskExecutor executor=new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(searchPoolSize);
+        executor.setMaxPoolSize(searchPoolSize);
+        executor.setQueueCapacity(searchQueueCapacity);
+        executor.setThreadNamePrefix("search-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = MEDIA_TASK_EXECUTOR)
+    public Executor mediaTaskExecutor(){
+        // 게시물 미디어 처리 작업 (썸네일 생성) 용 스레드 풀
+        // (작업자는 스레드 수만큼만 작업을 선점하므로 큐에는 작업이 쌓이지 않는다.)
+        ThreadPoolTaskExecutor executor=new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mediaPoolSize);
+        executor.setMaxPoolSize(mediaPoolSize);
+        executor.setQueueCapacity(mediaPoolSize);
+        executor.setThreadNamePrefix("media-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = FILE_TASK_EXECUTOR)
+    public Executor fileTaskExecutor(){
+        // 게시물 첨부파일을 저장소로 동시에 옮기는 I/O 스레드 풀
+        // (큐가 가득 차면 요청 스레드가 직접 옮기므로, 업로드가 거절되지는 않는다.)
+        ThreadPoolTaskExecutor executor=new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(filePoolSize);
+        executor.setMaxPoolSize(filePoolSize);
+        executor.setQueueCapacity(fileQueueCapacity);
+        executor.setThreadNamePrefix("file-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = MAINTENANCE_TASK_EXECUTOR)
+    public Executor maintenanceTaskExecutor(){
+        // 시작 시 데이터 보정 (백필, 저장소 이전, 색인 재구성 등) 을 하나씩 실행하는 스레드
+        // (오래 걸리거나 쉬어 가며 진행하는 작업이 이벤트 후속 처리 스레드를 차지하지 않도록 분리한다.)
+        ThreadPoolTaskExecutor executor=new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(maintenanceQueueCapacity);
+        executor.setThreadNamePrefix("maintenance-");
+        executor.initialize();
+        return executor;
+    }
+}
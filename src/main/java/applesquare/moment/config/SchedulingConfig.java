@@ -0,0 +1,27 @@
+package applesquare.moment.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    @Value("${applesquare.moment.scheduling.pool-size:8}")
+    private int schedulingPoolSize;
+
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(){
+        // 주기 작업 (미디어 작업 선점, 조회수 반영, 셀 재구성 등) 실행용 스레드 풀
+        // (스레드가 하나뿐이면 오래 걸리는 작업 하나가 다른 모든 주기 작업을 밀어낸다.)
+        ThreadPoolTaskScheduler scheduler=new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(schedulingPoolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
@@ -1,14 +1,13 @@
 package applesquare.moment.file.controller;
 
-import applesquare.moment.file.service.FileService;
+import applesquare.moment.file.service.MediaServeService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.io.IOException;
@@ -17,27 +16,24 @@ import java.io.IOException;
 @RequiredArgsConstructor
 @RequestMapping("/api/files")
 public class FileController {
-    private final FileService fileService;
+    private final MediaServeService mediaServeService;
 
     /**
      * 파일 조회 API
+     * (범위 요청과 조건부 요청을 지원하고, 이미지는 너비별 변환 이미지를 요청할 수 있다.)
+     *
      * @param filename 파일명
-     * @return  (status) 200,
+     * @param width 이미지 너비 (150, 320, 640, 1080 중 요청한 너비 이상인 가장 작은 너비로 변환, 없으면 원본)
+     * @return  (status) 200 (전체 파일), 206 (범위 요청), 304 (캐시 유효), 416 (잘못된 범위),
      *          (contentType) 파일 형식
-     *          (body) 파일 자원
+     *          (body) 파일 내용
      * @throws IOException IOException
      */
     @GetMapping("/{filename}")
-    public ResponseEntity<Resource> read(@PathVariable String filename) throws IOException {
-        // 파일 조회
-        Resource resource=fileService.read(filename);
-
-        // 파일 형식 조회
-        String contentType=fileService.getResourceContentType(resource);
-        MediaType mediaType=MediaType.parseMediaType(contentType);
-
-        return ResponseEntity.status(HttpStatus.OK)
-                .contentType(mediaType)
-                .body(resource);
+    public void read(@PathVariable String filename,
+                     @RequestParam(name = "w", required = false) Integer width,
+                     HttpServletRequest request,
+                     HttpServletResponse response) throws IOException {
+        mediaServeService.serve(filename, width, request, response);
     }
 }
@@ -13,7 +13,11 @@ import lombok.NoArgsConstructor;
 @Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "storage_file")
+@Table(name = "storage_file",
+        indexes = {
+                @Index(name = "uk_storage_file_filename", columnList = "filename", unique = true)
+        }
+)
 public class StorageFile extends BaseEntity{
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
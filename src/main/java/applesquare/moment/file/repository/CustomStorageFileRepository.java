@@ -0,0 +1,9 @@
+package applesquare.moment.file.repository;
+
+import applesquare.moment.file.model.StorageFile;
+
+import java.util.List;
+
+public interface CustomStorageFileRepository {
+    int insertAll(List<StorageFile> storageFiles);
+}
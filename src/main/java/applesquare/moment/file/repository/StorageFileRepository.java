@@ -5,10 +5,19 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface StorageFileRepository extends JpaRepository<StorageFile, Long> {
+public interface StorageFileRepository extends JpaRepository<StorageFile, Long>, CustomStorageFileRepository {
+    Optional<StorageFile> findByFilename(String filename);
     void deleteByFilename(String filename);
+    List<StorageFile> findAllByFilenameIn(Collection<String> filenames);
+
+    @Query("SELECT sf.contentType " +
+            "FROM StorageFile sf " +
+            "WHERE sf.filename=:filename")
+    Optional<String> findContentTypeByFilename(@Param("filename") String filename);
 
     @Query("SELECT sf.filename " +
             "FROM StorageFile sf " +
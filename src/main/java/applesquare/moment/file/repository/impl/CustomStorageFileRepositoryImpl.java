@@ -0,0 +1,50 @@
+package applesquare.moment.file.repository.impl;
+
+import applesquare.moment.file.model.StorageFile;
+import applesquare.moment.file.repository.CustomStorageFileRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Transactional
+public class CustomStorageFileRepositoryImpl implements CustomStorageFileRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * StorageFile 목록을 INSERT 문 하나로 저장
+     * (ID 자동 증가 엔티티는 JDBC 배치가 되지 않으므로, 여러 행을 한 번에 넣는 네이티브 쿼리를 사용한다.)
+     *
+     * @param storageFiles 저장할 StorageFile 목록 (ID 없음)
+     * @return 저장한 행 개수
+     */
+    @Override
+    public int insertAll(List<StorageFile> storageFiles){
+        if(storageFiles.isEmpty()) return 0;
+
+        StringBuilder sql=new StringBuilder("INSERT INTO storage_file " +
+                "(filename, original_filename, content_type, file_size, uploader_id, reg_date, mod_date) VALUES ");
+        for(int i=0; i<storageFiles.size(); i++){
+            if(i>0) sql.append(", ");
+            sql.append("(?, ?, ?, ?, ?, ?, ?)");
+        }
+
+        Query query=entityManager.createNativeQuery(sql.toString());
+        LocalDateTime now=LocalDateTime.now();
+        int position=1;
+        for(StorageFile storageFile : storageFiles){
+            query.setParameter(position++, storageFile.getFilename());
+            query.setParameter(position++, storageFile.getOriginalFilename());
+            query.setParameter(position++, storageFile.getContentType());
+            query.setParameter(position++, storageFile.getFileSize());
+            query.setParameter(position++, storageFile.getUploader().getId());
+            query.setParameter(position++, now);
+            query.setParameter(position++, now);
+        }
+        return query.executeUpdate();
+    }
+}
@@ -1,9 +1,8 @@
 package applesquare.moment.file.service;
 
-import org.springframework.web.multipart.MultipartFile;
-
 import java.io.IOException;
+import java.nio.file.Path;
 
 public interface CloudinaryService {
-    byte[] convertVideoToThumbnail(MultipartFile video, String thumbFilename, int width, int videoLength) throws IOException;
+    void convertVideoToThumbnail(Path video, Path thumbPath, String thumbFilename, int width, int videoLength) throws IOException;
 }
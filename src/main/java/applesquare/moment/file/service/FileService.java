@@ -8,6 +8,8 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 
 
 public interface FileService {
@@ -49,10 +51,13 @@ public interface FileService {
 
 
     StorageFile upload(MultipartFile file, UserInfo writer) throws IOException;
-    StorageFile uploadThumbnail(MultipartFile file, String filename, UserInfo writer) throws IOException;
+    List<StorageFile> uploadAll(List<MultipartFile> files, UserInfo writer) throws IOException;
+    StorageFile createThumbnail(String filename) throws IOException;
     Resource read(String filename) throws FileNotFoundException;
+    Path resolveFilePath(String filename) throws FileNotFoundException;
     void delete(String filename) throws IOException;
     void deleteThumbnail(String filename) throws IOException;
+    int migrateLegacyFiles(int batchSize) throws IOException;
 
     String getResourceContentType(Resource resource) throws IOException;
 
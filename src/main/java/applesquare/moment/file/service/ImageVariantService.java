@@ -0,0 +1,30 @@
+package applesquare.moment.file.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+public interface ImageVariantService {
+    List<Integer> WIDTH_BUCKETS=List.of(150, 320, 640, 1080);  // 제공하는 이미지 너비 (px)
+    String VARIANT_FILE_PREFIX="w";
+    long DEFAULT_CACHE_MAX_BYTES=1024L*1024*1024;  // 변환 이미지 디스크 캐시 최대 크기 (1GB)
+
+
+    /**
+     * 요청한 너비 이상인 가장 작은 버킷 찾기
+     * (가장 큰 버킷보다 넓은 너비를 요청했다면 가장 큰 버킷)
+     *
+     * @param width 요청한 너비
+     * @return 버킷 너비
+     */
+    static int toWidthBucket(int width){
+        for(int bucket : WIDTH_BUCKETS){
+            if(width<=bucket) return bucket;
+        }
+        return WIDTH_BUCKETS.get(WIDTH_BUCKETS.size()-1);
+    }
+
+
+    Path resolveVariantPath(String filename, Path originalPath, int width) throws IOException;
+    void deleteVariants(String filename);
+}
@@ -0,0 +1,15 @@
+package applesquare.moment.file.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+public interface MediaServeService {
+    int CONTENT_TYPE_CACHE_MAX_SIZE=10000;
+    long CACHE_MAX_AGE_SECONDS=365L*24*60*60;  // 1년 (파일명에 UUID가 들어가므로 내용이 바뀌지 않는다.)
+    long SENDFILE_MIN_SIZE=48*1024;  // 48KB 이상만 sendfile 사용 (Tomcat 기본값)
+
+
+    void serve(String filename, Integer width, HttpServletRequest request, HttpServletResponse response) throws IOException;
+}
@@ -0,0 +1,56 @@
+package applesquare.moment.file.service;
+
+import applesquare.moment.config.AsyncConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 경로 바로 아래에 저장된 기존 파일을 샤드 디렉토리로 옮긴다.
+ * (애플리케이션 시작 후 별도 스레드에서 묶음 단위로 처리하고, 옮기는 동안에도 기존 경로의 파일은 그대로 조회된다.)
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class UploadLayoutMigration {
+    public static final int MIGRATION_BATCH_SIZE=1000;
+
+    private final FileService fileService;
+
+    @Value("${applesquare.moment.file.layout-migration.enabled:true}")
+    private boolean enabled;
+    @Value("${applesquare.moment.file.layout-migration.batch-delay-ms:100}")
+    private long batchDelayMs;
+
+
+    @Async(AsyncConfig.MAINTENANCE_TASK_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate(){
+        if(!enabled) return;
+
+        int movedCount=0;
+        try{
+            int batchCount;
+            do{
+                batchCount=fileService.migrateLegacyFiles(MIGRATION_BATCH_SIZE);
+                movedCount+=batchCount;
+
+                // 디스크 I/O를 요청 처리와 나눠 쓰도록 묶음 사이에 잠시 쉰다.
+                if(batchCount>0) Thread.sleep(batchDelayMs);
+            } while(batchCount>=MIGRATION_BATCH_SIZE);
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+        } catch (Exception e){
+            // 남은 파일은 기존 경로에서 계속 조회되고, 다음 시작 시 이어서 옮긴다.
+            log.error("업로드 파일 디렉토리 이전에 실패했습니다. "+e.getMessage());
+        }
+
+        if(movedCount>0){
+            log.info("업로드 파일 디렉토리 이전 완료 (moved = "+movedCount+")");
+        }
+    }
+}
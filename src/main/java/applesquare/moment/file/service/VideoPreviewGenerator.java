@@ -0,0 +1,24 @@
+package applesquare.moment.file.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 동영상 미리보기(썸네일 영상) 생성기
+ * (applesquare.moment.file.video-preview.backend 설정으로 구현체를 선택한다. local(기본) 또는 cloudinary)
+ */
+public interface VideoPreviewGenerator {
+    String BACKEND_PROPERTY="applesquare.moment.file.video-preview.backend";
+
+
+    /**
+     * 원본 영상의 앞부분을 잘라서 주어진 너비로 줄인 미리보기 영상 생성
+     *
+     * @param videoPath 원본 영상 경로
+     * @param previewPath 미리보기 영상을 저장할 경로 (원본과 같은 확장자)
+     * @param width 미리보기 영상의 너비 (높이는 원본 비율에 맞춘다.)
+     * @param videoLength 미리보기 영상의 길이 (초 단위)
+     * @throws IOException 생성에 실패한 경우
+     */
+    void generate(Path videoPath, Path previewPath, int width, int videoLength) throws IOException;
+}
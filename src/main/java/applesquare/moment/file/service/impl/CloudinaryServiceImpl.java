@@ -1,28 +1,26 @@
 package applesquare.moment.file.service.impl;
 
-import applesquare.moment.file.exception.FileTransferException;
 import applesquare.moment.file.service.CloudinaryService;
 import com.cloudinary.Cloudinary;
 import com.cloudinary.EagerTransformation;
 import com.cloudinary.utils.ObjectUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URLDecoder;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 
 
 @Log4j2
@@ -33,18 +31,7 @@ public class CloudinaryServiceImpl implements CloudinaryService {
     private final Cloudinary cloudinary;
 
     @Override
-    public byte[] convertVideoToThumbnail(MultipartFile video, String thumbFilename, int width, int videoLength) throws IOException {
-        // 입력 동영상을 임시로 저장할 경로 정의
-        Path tmpFile = Files.createTempFile("tmp_", video.getOriginalFilename());
-
-        // 임시 파일에 원본 영상 저장
-        try {
-            video.transferTo(tmpFile.toFile());
-        } catch (IOException e) {
-            e.printStackTrace();
-            throw new FileTransferException();
-        }
-
+    public void convertVideoToThumbnail(Path video, Path thumbPath, String thumbFilename, int width, int videoLength) throws IOException {
         // 변환 옵션 설정
         EagerTransformation eagerTransformation = new EagerTransformation()
                 .duration(videoLength) // 영상 길이를 videoLength 초로 자름
@@ -60,57 +47,47 @@ public class CloudinaryServiceImpl implements CloudinaryService {
 
         try {
             // Cloudinary 업로드 및 변환
-            Map<String, Object> uploadResult = cloudinary.uploader().upload(tmpFile.toFile(), uploadOptions);
+            Map<String, Object> uploadResult = cloudinary.uploader().upload(video.toFile(), uploadOptions);
 
             // 변환된 파일 URL 추출
             List<Map<String, Object>> eagerResults = (List<Map<String, Object>>) uploadResult.get("eager");
             String transformedUrl = (String) eagerResults.get(0).get("secure_url");
             String decodedURL = URLDecoder.decode(transformedUrl, "UTF-8");
 
-            // 파일 다운로드 및 저장
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Accept", "video/mp4");    // 동영상 데이터 수락
-
-            HttpEntity<String> requestEntity = new HttpEntity<>(headers);
-            ResponseEntity<byte[]> response = restTemplate.exchange(
+            // 변환된 파일을 썸네일 경로로 스트리밍 다운로드 (응답 본문을 메모리에 모으지 않는다.)
+            restTemplate.execute(
                     decodedURL,    // 요청 URL
                     HttpMethod.GET,    // HTTP 메서드
-                    requestEntity,    // 요청 헤더 및 엔터티
-                    byte[].class    // 응답 타입 (바이너리 데이터)
+                    request -> request.getHeaders().set(HttpHeaders.ACCEPT, "video/mp4"),    // 동영상 데이터 수락
+                    response -> {
+                        try(InputStream inputStream=response.getBody()){
+                            Files.copy(inputStream, thumbPath, StandardCopyOption.REPLACE_EXISTING);
+                        }
+                        return null;
+                    }
             );
-            byte[] fileBytes=response.getBody();
-
-            // 썸네일 영상의 비트 배열 반환
-            return fileBytes;
 
-        } catch (IOException e) {
+        } catch (IOException | RestClientException e) {
             e.printStackTrace();
+
+            // 내려받다가 중단된 썸네일 파일 삭제
+            Files.deleteIfExists(thumbPath);
             throw new IOException("영상 편집에 실패했습니다.");
         } finally {
-            // 임시 파일 삭제
+            // Cloudinary 파일 삭제 (미디어 처리 작업 스레드에서 실행되므로 기다려도 된다.)
             try {
-                Files.deleteIfExists(tmpFile);
+                // 삭제 옵션 설정
+                Map<String, Object> deleteOptions = ObjectUtils.asMap(
+                        "resource_type", "video",  // 비디오 파일 삭제
+                        "type", "upload"  // 업로드된 파일 삭제
+                );
+
+                // Cloudinary에 업로드된 파일 삭제
+                cloudinary.uploader().destroy(thumbFilename, deleteOptions);
             } catch (IOException e) {
                 e.printStackTrace();
-                log.error("임시 파일 삭제에 실패했습니다. (path=" + tmpFile + ")");
+                log.error("Cloudinary 파일 삭제에 실패했습니다. (public_id=" + thumbFilename + ")");
             }
-
-            // 비동기로 Cloudinary 파일 삭제
-            CompletableFuture.runAsync(() -> {
-                try {
-                    // 삭제 옵션 설정
-                    Map<String, Object> deleteOptions = ObjectUtils.asMap(
-                            "resource_type", "video",  // 비디오 파일 삭제
-                            "type", "upload"  // 업로드된 파일 삭제
-                    );
-
-                    // Cloudinary에 업로드된 파일 삭제
-                    cloudinary.uploader().destroy(thumbFilename, deleteOptions);
-                } catch (IOException e) {
-                    e.printStackTrace();
-                    log.error("Cloudinary 파일 삭제에 실패했습니다. (public_id=" + thumbFilename + ")");
-                }
-            });
         }
     }
 }
@@ -0,0 +1,27 @@
+package applesquare.moment.file.service.impl;
+
+import applesquare.moment.file.service.CloudinaryService;
+import applesquare.moment.file.service.VideoPreviewGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Cloudinary 변환으로 미리보기 영상 생성 (선택 구현체, ffmpeg를 설치할 수 없는 환경용)
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = VideoPreviewGenerator.BACKEND_PROPERTY, havingValue = "cloudinary")
+public class CloudinaryVideoPreviewGenerator implements VideoPreviewGenerator {
+    private final CloudinaryService cloudinaryService;
+
+
+    @Override
+    public void generate(Path videoPath, Path previewPath, int width, int videoLength) throws IOException {
+        // 미리보기 파일명을 Cloudinary public_id로 사용
+        cloudinaryService.convertVideoToThumbnail(videoPath, previewPath, previewPath.getFileName().toString(), width, videoLength);
+    }
+}
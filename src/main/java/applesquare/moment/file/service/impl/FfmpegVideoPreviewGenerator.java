@@ -0,0 +1,146 @@
+package applesquare.moment.file.service.impl;
+
+import applesquare.moment.file.service.VideoPreviewGenerator;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 ffmpeg 프로세스로 미리보기 영상 생성
+ *
+ * 원격 서비스에 원본을 올리고 변환 결과를 다시 내려받는 대신, 같은 서버에서 바로 자르고 줄인다.
+ * 인코딩은 CPU를 많이 쓰므로 동시에 실행하는 프로세스 수를 제한하고, 제한 시간을 넘기면 프로세스를 종료한다.
+ * 기본 구현체이므로, 시작할 때 ffmpeg를 실행할 수 없다면 오류 로그로 알린다.
+ * (ffmpeg가 없는 서버도 그대로 시작하고, 동영상 미디어 작업은 실패 후 재시도한다.
+ *  기존처럼 Cloudinary를 사용하려면 applesquare.moment.file.video-preview.backend=cloudinary로 설정한다.)
+ */
+@Log4j2
+@Service
+@ConditionalOnProperty(name = VideoPreviewGenerator.BACKEND_PROPERTY, havingValue = "local", matchIfMissing = true)
+public class FfmpegVideoPreviewGenerator implements VideoPreviewGenerator {
+    private static final String TEMP_FILE_PREFIX="tmp_";
+    private static final String ERROR_OUTPUT_SUFFIX=".log";
+    private static final int MAX_ERROR_OUTPUT_LENGTH=500;  // 실패 사유에 담을 ffmpeg 출력의 최대 길이 (마지막 부분)
+    private static final long VERSION_CHECK_TIMEOUT_SECONDS=10;
+    private static final String BACKEND_HINT="ffmpeg를 설치하거나, 원격 서비스(Cloudinary)를 사용하려면 "+VideoPreviewGenerator.BACKEND_PROPERTY+"=cloudinary로 설정하세요.";
+
+    private final String ffmpegPath;
+    private final long timeoutSeconds;
+    private final Semaphore processPermits;
+
+
+    public FfmpegVideoPreviewGenerator(@Value("${applesquare.moment.file.video-preview.ffmpeg-path:ffmpeg}") String ffmpegPath,
+                                       @Value("${applesquare.moment.file.video-preview.timeout-seconds:120}") long timeoutSeconds,
+                                       @Value("${applesquare.moment.file.video-preview.max-processes:2}") int maxProcesses){
+        this.ffmpegPath=ffmpegPath;
+        this.timeoutSeconds=timeoutSeconds;
+        this.processPermits=new Semaphore(Math.max(1, maxProcesses));
+    }
+
+
+    /**
+     * 시작 시 ffmpeg 실행 가능 여부 확인
+     * (미디어 작업이 모두 실패한 뒤에야 알게 되지 않도록, 실행할 수 없다면 시작할 때 오류 로그를 남긴다.
+     *  시작은 막지 않으며, 그동안의 동영상 미디어 작업은 실패 후 재시도하므로 ffmpeg를 설치하면 다시 처리된다.)
+     */
+    @PostConstruct
+    public void verify(){
+        try{
+            Process process=new ProcessBuilder(ffmpegPath, "-version")
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            try{
+                if(!process.waitFor(VERSION_CHECK_TIMEOUT_SECONDS, TimeUnit.SECONDS) || process.exitValue()!=0){
+                    log.error("ffmpeg 실행 확인에 실패했습니다. (ffmpegPath = "+ffmpegPath+") "+BACKEND_HINT);
+                }
+            } finally {
+                process.destroyForcibly();
+            }
+        } catch (IOException e){
+            log.error("ffmpeg를 실행할 수 없습니다. (ffmpegPath = "+ffmpegPath+") "+e.getMessage()+" "+BACKEND_HINT);
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            log.error("ffmpeg 실행 확인이 중단되었습니다.");
+        }
+    }
+
+    @Override
+    public void generate(Path videoPath, Path previewPath, int width, int videoLength) throws IOException {
+        // 임시 파일에 쓴 뒤 이름을 바꾸므로, 쓰다 만 미리보기 영상이 남지 않는다. (컨테이너 형식은 확장자로 결정)
+        Path tempPath=previewPath.resolveSibling(TEMP_FILE_PREFIX+previewPath.getFileName());
+        Path errorOutputPath=previewPath.resolveSibling(TEMP_FILE_PREFIX+previewPath.getFileName()+ERROR_OUTPUT_SUFFIX);
+        List<String> command=List.of(
+                ffmpegPath,
+                "-nostdin",  // 표준 입력을 읽지 않는다. (입력을 기다리며 멈추지 않도록)
+                "-y",
+                "-loglevel", "error",
+                "-i", videoPath.toString(),
+                "-t", String.valueOf(videoLength),  // 앞부분 videoLength 초만 사용
+                "-vf", "scale="+width+":-2",  // 너비를 width로 줄이고, 높이는 원본 비율에 맞춘 짝수
+                "-an",  // 소리 제거
+                tempPath.toString()
+        );
+
+        processPermits.acquireUninterruptibly();
+        try{
+            Process process=new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(errorOutputPath.toFile())
+                    .start();
+            try{
+                if(!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)){
+                    throw new IOException("미리보기 영상 생성 시간을 초과했습니다. (timeout = "+timeoutSeconds+"s) "+readErrorOutput(errorOutputPath));
+                }
+                if(process.exitValue()!=0){
+                    throw new IOException("미리보기 영상 생성에 실패했습니다. (exitCode = "+process.exitValue()+") "+readErrorOutput(errorOutputPath));
+                }
+            } catch (InterruptedException e){
+                Thread.currentThread().interrupt();
+                throw new IOException("미리보기 영상 생성이 중단되었습니다.");
+            } finally {
+                process.destroyForcibly();
+            }
+
+            Files.move(tempPath, previewPath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e){
+            Files.deleteIfExists(tempPath);
+            throw e;
+        } finally {
+            Files.deleteIfExists(errorOutputPath);
+            processPermits.release();
+        }
+    }
+
+
+    /**
+     * ffmpeg 출력의 마지막 부분 읽기 (최대 MAX_ERROR_OUTPUT_LENGTH 바이트)
+     */
+    private String readErrorOutput(Path errorOutputPath){
+        try(FileChannel channel=FileChannel.open(errorOutputPath, StandardOpenOption.READ)){
+            long size=channel.size();
+            ByteBuffer buffer=ByteBuffer.allocate((int)Math.min(size, MAX_ERROR_OUTPUT_LENGTH));
+            long start=size-buffer.capacity();
+            while(buffer.hasRemaining()){
+                if(channel.read(buffer, start+buffer.position())<=0) break;
+            }
+            return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8).trim();
+        } catch (IOException e){
+            return "";
+        }
+    }
+}
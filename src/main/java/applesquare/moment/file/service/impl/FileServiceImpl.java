@@ -1,14 +1,16 @@
 package applesquare.moment.file.service.impl;
 
+import applesquare.moment.config.AsyncConfig;
 import applesquare.moment.file.exception.FileTransferException;
 import applesquare.moment.file.model.StorageFile;
 import applesquare.moment.file.repository.StorageFileRepository;
-import applesquare.moment.file.service.CloudinaryService;
 import applesquare.moment.file.service.FileService;
+import applesquare.moment.file.service.ImageVariantService;
+import applesquare.moment.file.service.VideoPreviewGenerator;
 import applesquare.moment.user.model.UserInfo;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
@@ -16,16 +18,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.*;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.UUID;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 @Log4j2
 @Service
-@RequiredArgsConstructor
 public class FileServiceImpl implements FileService {
     private static final String FILE_NAME_SEPARATOR="_";
+    private static final int SHARD_KEY_LENGTH=4;  // 샤드 디렉토리 2단계 (ab/cd)
     private final String THUMBNAIL_FILE_PREFIX="thumb_";
     private final int THUMBNAIL_WIDTH_SIZE=500;  // 500px
     private final int THUMBNAIL_VIDEO_SEC=7;  // 7초
@@ -34,8 +37,21 @@ public class FileServiceImpl implements FileService {
     @Value("${applesquare.moment.file.base-url}")
     private String baseUrl;
 
-    private final CloudinaryService cloudinaryService;
+    private final VideoPreviewGenerator videoPreviewGenerator;
+    private final ImageVariantService imageVariantService;
     private final StorageFileRepository storageFileRepository;
+    private final Executor fileTaskExecutor;
+
+
+    public FileServiceImpl(VideoPreviewGenerator videoPreviewGenerator,
+                           ImageVariantService imageVariantService,
+                           StorageFileRepository storageFileRepository,
+                           @Qualifier(AsyncConfig.FILE_TASK_EXECUTOR) Executor fileTaskExecutor){
+        this.videoPreviewGenerator=videoPreviewGenerator;
+        this.imageVariantService=imageVariantService;
+        this.storageFileRepository=storageFileRepository;
+        this.fileTaskExecutor=fileTaskExecutor;
+    }
 
 
     /**
@@ -52,7 +68,7 @@ public class FileServiceImpl implements FileService {
 
         // 파일명 정하기
         String filename=generateFilename(file);
-        Path uploadPath=generateFilePath(filename);
+        Path uploadPath=prepareFilePath(filename);
 
         try{
             // 임시 저장된 파일을 업로드 경로로 전송
@@ -88,16 +104,116 @@ public class FileServiceImpl implements FileService {
     }
 
     /**
-     * 썸네일 파일을 저장소에 업로드
+     * 여러 파일을 저장소에 동시에 업로드
+     * (파일 전송은 I/O 스레드 풀에서 동시에 진행하고, StorageFile은 INSERT 문 하나로 저장한다.
+     *  하나라도 실패하면 이번에 옮긴 파일을 모두 삭제한다.)
+     *
+     * @param files 업로드할 파일 목록
+     * @param writer 업로드한 사용자
+     * @return 저장한 StorageFile 목록 (입력과 같은 순서)
+     */
+    @Override
+    public List<StorageFile> uploadAll(List<MultipartFile> files, UserInfo writer) throws IOException {
+        List<StorageFile> storageFiles=new ArrayList<>();
+        if(files==null || files.isEmpty()) return storageFiles;
+
+        // 파일명 정하기 (파일을 옮기기 전에 모든 입력을 검사)
+        List<String> filenames=new ArrayList<>(files.size());
+        for(MultipartFile file : files){
+            if(file==null){
+                throw new IllegalArgumentException("지원하지 않는 형식의 파일입니다. (type = null)");
+            }
+            filenames.add(generateFilename(file));
+        }
+
+        // 임시 저장된 파일들을 업로드 경로로 동시에 전송
+        List<CompletableFuture<Void>> transfers=new ArrayList<>(files.size());
+        for(int i=0; i<files.size(); i++){
+            MultipartFile file=files.get(i);
+            String filename=filenames.get(i);
+            transfers.add(CompletableFuture.runAsync(()->{
+                try{
+                    file.transferTo(prepareFilePath(filename));
+                } catch (IOException e){
+                    throw new UncheckedIOException(e);
+                }
+            }, fileTaskExecutor));
+        }
+
+        try{
+            // 모든 전송이 끝날 때까지 기다린 뒤 실패 여부 확인 (실패하더라도 나머지 전송이 끝나야 정리할 수 있다.)
+            Throwable transferFailure=null;
+            for(CompletableFuture<Void> transfer : transfers){
+                try{
+                    transfer.join();
+                } catch (CompletionException e){
+                    if(transferFailure==null) transferFailure=e.getCause();
+                }
+            }
+            if(transferFailure!=null){
+                log.error("파일 전송에 실패했습니다. "+transferFailure.getMessage());
+                throw new FileTransferException();
+            }
+
+            // StorageFile 목록을 한 번에 저장
+            List<StorageFile> newStorageFiles=new ArrayList<>(files.size());
+            for(int i=0; i<files.size(); i++){
+                MultipartFile file=files.get(i);
+                newStorageFiles.add(StorageFile.builder()
+                        .filename(filenames.get(i))
+                        .originalFilename(file.getOriginalFilename())
+                        .contentType(file.getContentType())
+                        .fileSize(file.getSize())
+                        .uploader(writer)
+                        .build());
+            }
+            storageFileRepository.insertAll(newStorageFiles);
+
+            // 저장한 StorageFile을 입력 순서대로 다시 조회 (ID 포함)
+            Map<String, StorageFile> savedStorageFiles=new HashMap<>();
+            for(StorageFile storageFile : storageFileRepository.findAllByFilenameIn(filenames)){
+                savedStorageFiles.put(storageFile.getFilename(), storageFile);
+            }
+            for(String filename : filenames){
+                StorageFile storageFile=savedStorageFiles.get(filename);
+                if(storageFile==null){
+                    throw new IllegalStateException("저장한 파일 정보를 찾을 수 없습니다. (filename = "+filename+")");
+                }
+                storageFiles.add(storageFile);
+            }
+            return storageFiles;
+
+        } catch (RuntimeException e){
+            // 이번에 업로드한 파일 모두 삭제
+            for(String filename : filenames){
+                try{
+                    Files.deleteIfExists(generateFilePath(filename));
+                } catch (IOException ioException){
+                    log.error("업로드한 파일 삭제에 실패했습니다. (filename = "+filename+") "+ioException.getMessage());
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 저장소에 업로드된 원본 파일로 썸네일 파일 생성
+     * (이전 시도에서 남은 썸네일이 있다면 덮어쓰므로, 같은 파일로 여러 번 호출해도 된다.)
+     *
      * @param filename 업로드된 원본 파일 이름
-     * @param file 원본 파일
-     * @return 업로드한 썸네일 파일명
+     * @return 생성한 썸네일 StorageFile
+     * @throws IOException 원본 파일이 없거나, 썸네일 생성에 실패한 경우
      */
     @Override
-    public StorageFile uploadThumbnail(MultipartFile file, String filename, UserInfo writer) throws IOException {
-        if(FileService.isImage(file)) return uploadThumbnailImage(file, filename, writer, THUMBNAIL_WIDTH_SIZE);
-        else if(FileService.isVideo(file)) return uploadThumbnailVideo(file, filename, writer, THUMBNAIL_WIDTH_SIZE, THUMBNAIL_VIDEO_SEC);
-        else throw new IllegalArgumentException("지원하지 않는 형식의 파일입니다. (type="+file.getContentType()+")");
+    public StorageFile createThumbnail(String filename) throws IOException {
+        StorageFile originalFile=storageFileRepository.findByFilename(filename)
+                .orElseThrow(()-> new FileNotFoundException("존재하지 않는 파일입니다. (filename = "+filename+")"));
+        Path originalPath=resolveFilePath(filename);
+
+        String contentType=originalFile.getContentType();
+        if(contentType.startsWith(CONTENT_TYPE_IMAGE_PREFIX)) return createThumbnailImage(originalFile, originalPath, THUMBNAIL_WIDTH_SIZE);
+        else if(contentType.startsWith(CONTENT_TYPE_VIDEO_PREFIX)) return createThumbnailVideo(originalFile, originalPath, THUMBNAIL_WIDTH_SIZE, THUMBNAIL_VIDEO_SEC);
+        else throw new IllegalArgumentException("지원하지 않는 형식의 파일입니다. (type="+contentType+")");
     }
 
     /**
@@ -109,11 +225,11 @@ public class FileServiceImpl implements FileService {
     @Override
     public Resource read(String filename) throws FileNotFoundException {
         // 자원 찾기
-        Path filePath=generateFilePath(filename);
-        Resource resource=new FileSystemResource(filePath);
+        Path filePath=findFilePath(filename);
 
         // 자원이 존재하는지 검사
-        if(resource.exists()){
+        if(filePath!=null){
+            Resource resource=new FileSystemResource(filePath);
             // 자원이 존재한다면 반환
             return resource;
         }
@@ -123,6 +239,28 @@ public class FileServiceImpl implements FileService {
         }
     }
 
+    /**
+     * 파일명으로 저장소의 파일 경로 찾기
+     * (샤드 디렉토리를 먼저 찾고, 아직 옮기지 않은 파일은 기존 경로에서 찾는다.
+     *  업로드 경로 밖을 가리키는 파일명은 허용하지 않는다.)
+     *
+     * @param filename 파일명
+     * @return 파일 경로
+     * @throws FileNotFoundException 파일이 없는 경우 발생하는 예외
+     */
+    @Override
+    public Path resolveFilePath(String filename) throws FileNotFoundException {
+        if(filename==null || filename.isBlank() || filename.contains("/") || filename.contains("\\") || filename.equals(".") || filename.equals("..")){
+            throw new FileNotFoundException("존재하지 않는 파일입니다. (filename = "+filename+")");
+        }
+
+        Path filePath=findFilePath(filename);
+        if(filePath==null){
+            throw new FileNotFoundException("존재하지 않는 파일입니다. (filename = "+filename+")");
+        }
+        return filePath;
+    }
+
     /**
      * 파일 삭제
      * @param filename 파일명
@@ -131,17 +269,19 @@ public class FileServiceImpl implements FileService {
     @Override
     public void delete(String filename) throws IOException {
         // 파일 찾기
-        Path filePath=generateFilePath(filename);
-        File file=filePath.toFile();
+        Path filePath=findFilePath(filename);
 
         // 파일이 존재하는지 검사
-        if(file.exists()){
+        if(filePath!=null){
             // 파일이 존재한다면 삭제
-            boolean deleted=file.delete();
+            boolean deleted=filePath.toFile().delete();
             if(!deleted){
                 // 파일 삭제에 실패했다면 예외 던지기
                 throw new IOException("파일 삭제에 실패했습니다. (filename = " + filename + ")");
             }
+
+            // 너비별 변환 이미지 삭제
+            imageVariantService.deleteVariants(filename);
         }
         else{
             // 파일이 이미 삭제된 경우 예외 던지기
@@ -157,17 +297,17 @@ public class FileServiceImpl implements FileService {
     public void deleteThumbnail(String filename) throws IOException {
         // 파일 찾기
         String thumbFilename=convertFilenameToThumbFilename(filename);
-        Path filePath=generateFilePath(thumbFilename);
-        File file=filePath.toFile();
+        Path filePath=findFilePath(thumbFilename);
 
         // 파일이 존재하는지 검사
-        if(file.exists()){
+        if(filePath!=null){
             // 파일이 존재한다면 삭제
-            boolean deleted=file.delete();
+            boolean deleted=filePath.toFile().delete();
             if(!deleted){
                 // 파일 삭제에 실패했다면 예외 던지기
                 throw new IOException("파일 삭제에 실패했습니다. (filename = " + thumbFilename + ")");
             }
+            imageVariantService.deleteVariants(thumbFilename);
 
             // DB에서 StorageFile 삭제
             storageFileRepository.deleteByFilename(thumbFilename);
@@ -178,6 +318,36 @@ public class FileServiceImpl implements FileService {
         }
     }
 
+    /**
+     * 업로드 경로 바로 아래에 남아 있는 파일을 샤드 디렉토리로 옮기기 (한 번에 batchSize개)
+     * (같은 파일 시스템 안에서 이름만 바꾸므로, 옮기는 동안에도 기존 경로 또는 새 경로 중 하나로 조회된다.)
+     *
+     * @param batchSize 한 번에 옮길 최대 파일 개수
+     * @return 옮긴 파일 개수 (0이면 더 이상 옮길 파일이 없다.)
+     * @throws IOException 업로드 경로를 읽지 못한 경우
+     */
+    @Override
+    public int migrateLegacyFiles(int batchSize) throws IOException {
+        int movedCount=0;
+        try(DirectoryStream<Path> legacyFiles=Files.newDirectoryStream(Paths.get(uploadDirectory), Files::isRegularFile)){
+            for(Path legacyFilePath : legacyFiles){
+                if(movedCount>=batchSize) break;
+
+                String filename=legacyFilePath.getFileName().toString();
+                try{
+                    Path filePath=prepareFilePath(filename);
+                    Files.move(legacyFilePath, filePath, StandardCopyOption.ATOMIC_MOVE);
+                    movedCount++;
+                } catch (FileAlreadyExistsException e){
+                    log.warn("샤드 디렉토리에 같은 이름의 파일이 이미 있습니다. (filename = "+filename+")");
+                } catch (NoSuchFileException e){
+                    // 옮기기 전에 삭제된 파일
+                }
+            }
+        }
+        return movedCount;
+    }
+
     /**
      * 파일의 ContentType 추출
      * @param resource 자원
@@ -264,111 +434,126 @@ public class FileServiceImpl implements FileService {
         return uuid+FILE_NAME_SEPARATOR+originalFilename;
     }
 
+    /**
+     * 파일명으로 샤드 디렉토리 경로 생성 (업로드 경로/ab/cd/파일명)
+     * (파일명 앞의 UUID 4자리로 디렉토리를 나누므로, 한 디렉토리에는 전체 파일의 1/65536 정도만 들어간다.
+     *  썸네일은 원본 UUID를 기준으로 삼아서 원본과 같은 디렉토리에 둔다.)
+     */
     private Path generateFilePath(String filename){
+        String shardKey=generateShardKey(filename);
+        return Paths.get(uploadDirectory, shardKey.substring(0, 2), shardKey.substring(2, 4), filename);
+    }
+
+    /**
+     * 샤드 디렉토리를 적용하기 전의 파일 경로 (업로드 경로/파일명)
+     */
+    private Path generateLegacyFilePath(String filename){
         return Paths.get(uploadDirectory, filename);
     }
 
-    private StorageFile uploadThumbnailImage(MultipartFile originalImage, String filename, UserInfo writer, int width) throws IOException{
-        // 파일 형식 검사
-        if(originalImage==null || !FileService.isImage(originalImage)){
-            throw new IllegalArgumentException("이미지 파일을 넣어주세요.");
+    /**
+     * 새로 저장할 파일 경로 생성 (샤드 디렉토리가 없다면 생성)
+     */
+    private Path prepareFilePath(String filename) throws IOException {
+        Path filePath=generateFilePath(filename);
+        Files.createDirectories(filePath.getParent());
+        return filePath;
+    }
+
+    /**
+     * 저장된 파일 경로 찾기 (없다면 null)
+     * (옮기는 도중에 조회하더라도 놓치지 않도록, 기존 경로 다음에 샤드 디렉토리를 한 번 더 확인한다.)
+     */
+    private Path findFilePath(String filename){
+        Path filePath=generateFilePath(filename);
+        if(Files.isRegularFile(filePath)) return filePath;
+
+        Path legacyFilePath=generateLegacyFilePath(filename);
+        if(Files.isRegularFile(legacyFilePath)) return legacyFilePath;
+
+        return Files.isRegularFile(filePath)? filePath : null;
+    }
+
+    /**
+     * 파일명의 샤드 키 (16진수 4자리)
+     */
+    private String generateShardKey(String filename){
+        String name=filename.startsWith(THUMBNAIL_FILE_PREFIX)? filename.substring(THUMBNAIL_FILE_PREFIX.length()) : filename;
+        if(name.length()>=SHARD_KEY_LENGTH && name.substring(0, SHARD_KEY_LENGTH).matches("[0-9a-fA-F]+")){
+            return name.substring(0, SHARD_KEY_LENGTH).toLowerCase();
         }
 
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        // UUID로 시작하지 않는 파일명은 해시로 나눈다.
+        return String.format("%08x", name.hashCode()).substring(0, SHARD_KEY_LENGTH);
+    }
 
-        // 원본 비율에 맞게 높이 조정
-        String thumbFilename=convertFilenameToThumbFilename(filename);
-        Path uploadPath=generateFilePath(thumbFilename);
+    private StorageFile createThumbnailImage(StorageFile originalImage, Path originalPath, int width) throws IOException{
+        // 썸네일 파일 이름과 경로 생성
+        String thumbFilename=convertFilenameToThumbFilename(originalImage.getFilename());
+        Path uploadPath=prepareFilePath(thumbFilename);
 
-        try{
-            ByteArrayInputStream inputStream=new ByteArrayInputStream(originalImage.getBytes());
-            Thumbnails.of(inputStream)
+        try(OutputStream outputStream=Files.newOutputStream(uploadPath)){
+            // 원본 비율에 맞게 높이 조정해서 썸네일 파일 저장 (이전 시도에서 남은 파일은 덮어쓴다.)
+            Thumbnails.of(originalPath.toFile())
                     .width(width)
                     .keepAspectRatio(true)
                     .toOutputStream(outputStream);
 
-            // 파일 이름과 경로 생성
-            ByteArrayInputStream thumbnailInputStream = new ByteArrayInputStream(outputStream.toByteArray());
-
-            // 썸네일 파일 저장 (ByteArrayOutputStream을 파일로 저장)
-            Files.copy(thumbnailInputStream, uploadPath);
-
         } catch (IOException e) {
             e.printStackTrace();
             throw new IOException("썸네일 업로드에 실패했습니다.");
         }
 
-        // StorageFile 생성
-        StorageFile storageFile=StorageFile.builder()
-                .filename(thumbFilename)
-                .originalFilename(originalImage.getOriginalFilename())
-                .contentType(originalImage.getContentType())
-                .fileSize(originalImage.getSize())
-                .uploader(writer)
-                .build();
-
-        try{
-            // StorageFile을 DB에 저장
-            storageFileRepository.save(storageFile);
-
-        }catch (Exception e){
-            e.printStackTrace();
-            log.error("썸네일 사진 저장에 실패했습니다. (StorageFile 저장 실패)");
-
-            // 썸네일 파일 삭제
-            Files.delete(uploadPath);
-
-            throw new IOException("썸네일 사진 저장에 실패했습니다.");
-        }
-
-        return storageFile;
+        return saveThumbnailStorageFile(originalImage, thumbFilename, uploadPath);
     }
 
     /**
      * 주어진 너비와 길이에 따라 동영상을 자르고 업로드
      *
      * @param originalVideo 원본 동영상 파일
+     * @param originalPath 원본 동영상 파일 경로
      * @param width 동영상의 너비
      * @param videoLength 동영상의 길이 (초 단위)
      * @throws IOException 입출력 오류가 발생한 경우
      */
-    private StorageFile uploadThumbnailVideo(MultipartFile originalVideo, String filename, UserInfo writer, int width, int videoLength) throws IOException {
-        // 파일 형식 검사
-        if (originalVideo == null || !FileService.isVideo(originalVideo)) {
-            throw new IllegalArgumentException("동영상 파일을 넣어주세요.");
-        }
-
+    private StorageFile createThumbnailVideo(StorageFile originalVideo, Path originalPath, int width, int videoLength) throws IOException {
         // 파일 이름 생성
-        String thumbFilename = convertFilenameToThumbFilename(filename);
+        String thumbFilename = convertFilenameToThumbFilename(originalVideo.getFilename());
 
         // 원본 영상을 편집해서 썸네일 파일 제작하기
-        byte[] thumbFileBytes= cloudinaryService.convertVideoToThumbnail(originalVideo, thumbFilename, width, videoLength);
+        Path uploadPath = prepareFilePath(thumbFilename);
+        videoPreviewGenerator.generate(originalPath, uploadPath, width, videoLength);
 
-        // 썸네일 영상을 파일에 저장
-        Path uploadPath = generateFilePath(thumbFilename);
-        Files.write(uploadPath, thumbFileBytes);
+        return saveThumbnailStorageFile(originalVideo, thumbFilename, uploadPath);
+    }
 
+    /**
+     * 썸네일 StorageFile을 DB에 저장
+     * (이전 시도에서 저장한 StorageFile이 남아 있다면 교체한다.)
+     */
+    private StorageFile saveThumbnailStorageFile(StorageFile originalFile, String thumbFilename, Path uploadPath) throws IOException {
         // StorageFile 생성
         StorageFile storageFile=StorageFile.builder()
                 .filename(thumbFilename)
-                .originalFilename(originalVideo.getOriginalFilename())
-                .contentType(originalVideo.getContentType())
-                .fileSize(originalVideo.getSize())
-                .uploader(writer)
+                .originalFilename(originalFile.getOriginalFilename())
+                .contentType(originalFile.getContentType())
+                .fileSize(Files.size(uploadPath))
+                .uploader(originalFile.getUploader())
                 .build();
 
         try{
             // StorageFile을 DB에 저장
+            storageFileRepository.findByFilename(thumbFilename).ifPresent(storageFileRepository::delete);
             storageFileRepository.save(storageFile);
 
         }catch (Exception e){
             e.printStackTrace();
-            log.error("썸네일 영상 저장에 실패했습니다. (StorageFile 저장 실패)");
+            log.error("썸네일 저장에 실패했습니다. (StorageFile 저장 실패)");
 
             // 썸네일 파일 삭제
-            Files.delete(uploadPath);
+            Files.deleteIfExists(uploadPath);
 
-            throw new IOException("썸네일 영상 저장에 실패했습니다.");
+            throw new IOException("썸네일 저장에 실패했습니다.");
         }
 
         return storageFile;
@@ -0,0 +1,230 @@
+package applesquare.moment.file.service.impl;
+
+import applesquare.moment.file.service.ImageVariantService;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * 너비별 이미지 변환 서비스
+ *
+ * 요청한 너비를 버킷(WIDTH_BUCKETS) 단위로 올림해서, 버킷별 변환 이미지를 처음 요청될 때 한 번만 만든다.
+ * 같은 변환 이미지를 동시에 요청하면 먼저 온 요청이 만드는 동안 나머지 요청은 결과를 기다리고,
+ * 만들어진 이미지는 디스크에 보관하다가 전체 크기가 한도를 넘으면 오래 쓰지 않은 것부터 삭제한다.
+ */
+@Log4j2
+@Service
+public class ImageVariantServiceImpl implements ImageVariantService {
+    private static final String TEMP_FILE_SUFFIX=".tmp";
+
+    @Value("${applesquare.moment.file.variant-path:./variant-cache}")
+    private String variantDirectory;
+    @Value("${applesquare.moment.file.variant-cache-max-bytes:"+DEFAULT_CACHE_MAX_BYTES+"}")
+    private long cacheMaxBytes;
+
+    // 변환 이미지 캐시 (변환 파일명 -> 파일 경로, 무게는 파일 크기(KB))
+    private AsyncCache<String, Path> variantCache;
+
+    // 이미지 변환은 원본을 통째로 디코딩하므로, 동시에 변환하는 개수를 제한한다.
+    private final Semaphore resizePermits=new Semaphore(Math.max(1, Runtime.getRuntime().availableProcessors()));
+
+
+    @PostConstruct
+    public void open() throws IOException {
+        Path variantPath=Path.of(variantDirectory);
+        Files.createDirectories(variantPath);
+
+        variantCache=Caffeine.newBuilder()
+                .maximumWeight(Math.max(1, cacheMaxBytes/1024))
+                .weigher((String key, Path path) -> weighInKilobytes(path))
+                .executor(Runnable::run)  // 밀려난 파일은 변환한 요청 스레드에서 바로 삭제
+                .removalListener((String key, Path path, RemovalCause cause) -> {
+                    // 한도를 넘어서 밀려난 변환 이미지는 디스크에서도 삭제 (원본 파일은 건드리지 않는다.)
+                    if(cause.wasEvicted() && path!=null && isVariantFile(path)){
+                        try{
+                            Files.deleteIfExists(path);
+                        } catch (IOException e){
+                            log.error("변환 이미지 삭제에 실패했습니다. (path = "+path+") "+e.getMessage());
+                        }
+                    }
+                })
+                .buildAsync();
+
+        // 이전에 만들어둔 변환 이미지를 오래된 순으로 다시 등록 (남은 임시 파일은 삭제)
+        try(Stream<Path> paths=Files.list(variantPath)){
+            List<Path> variantFiles=paths.filter(Files::isRegularFile).toList();
+            variantFiles.stream()
+                    .sorted(Comparator.comparingLong(this::lastModifiedMillis))
+                    .forEach(path -> {
+                        String variantFilename=path.getFileName().toString();
+                        if(variantFilename.endsWith(TEMP_FILE_SUFFIX)){
+                            deleteQuietly(path);
+                        }
+                        else{
+                            variantCache.put(variantFilename, CompletableFuture.completedFuture(path));
+                        }
+                    });
+        }
+    }
+
+
+    /**
+     * 요청한 너비에 맞는 변환 이미지 경로 조회 (없다면 생성)
+     * (원본이 버킷 너비보다 좁거나 변환할 수 없는 형식이라면 원본 경로를 반환한다.)
+     *
+     * @param filename 원본 파일명
+     * @param originalPath 원본 파일 경로
+     * @param width 요청한 너비
+     * @return 전송할 파일 경로
+     * @throws IOException 변환에 실패한 경우
+     */
+    @Override
+    public Path resolveVariantPath(String filename, Path originalPath, int width) throws IOException {
+        if(width<=0){
+            throw new IllegalArgumentException("이미지 너비는 1 이상이어야 합니다. (w = "+width+")");
+        }
+
+        int bucket=ImageVariantService.toWidthBucket(width);
+        String variantFilename=VARIANT_FILE_PREFIX+bucket+"_"+filename;
+
+        // 같은 변환 이미지는 한 요청만 만들고, 나머지 요청은 그 결과를 기다린다.
+        CompletableFuture<Path> newFuture=new CompletableFuture<>();
+        CompletableFuture<Path> future=variantCache.asMap().putIfAbsent(variantFilename, newFuture);
+        if(future==null){
+            future=newFuture;
+            try{
+                newFuture.complete(createVariant(originalPath, variantFilename, bucket));
+            } catch (IOException | RuntimeException e){
+                // 실패한 결과는 캐시에서 제거되므로, 다음 요청에서 다시 시도한다.
+                newFuture.completeExceptionally(e);
+            }
+        }
+
+        try{
+            Path variantPath=future.join();
+            // 캐시에는 남아 있지만 디스크에서 지워진 경우 (수동 삭제 등)
+            if(!Files.isRegularFile(variantPath)){
+                variantCache.asMap().remove(variantFilename, future);
+                return originalPath;
+            }
+            return variantPath;
+        } catch (CompletionException e){
+            log.warn("이미지 변환에 실패해서 원본을 전송합니다. (filename = "+filename+", w = "+bucket+") "+e.getCause().getMessage());
+            return originalPath;
+        }
+    }
+
+    /**
+     * 원본 파일의 모든 변환 이미지 삭제 (원본 파일 삭제 시)
+     *
+     * @param filename 원본 파일명
+     */
+    @Override
+    public void deleteVariants(String filename){
+        for(int bucket : WIDTH_BUCKETS){
+            String variantFilename=VARIANT_FILE_PREFIX+bucket+"_"+filename;
+            variantCache.synchronous().invalidate(variantFilename);
+            deleteQuietly(Path.of(variantDirectory, variantFilename));
+        }
+    }
+
+
+    /**
+     * 원본 이미지를 버킷 너비로 줄여서 저장
+     * (임시 파일에 쓴 뒤 이름을 바꾸므로, 다른 요청이 쓰다 만 파일을 읽지 않는다.)
+     */
+    private Path createVariant(Path originalPath, String variantFilename, int bucket) throws IOException {
+        // 원본이 버킷보다 좁다면 확대하지 않고 원본 사용
+        int originalWidth=readImageWidth(originalPath);
+        if(originalWidth<=bucket){
+            return originalPath;
+        }
+
+        Path variantPath=Path.of(variantDirectory, variantFilename);
+        Path tempPath=Path.of(variantDirectory, variantFilename+TEMP_FILE_SUFFIX);
+        resizePermits.acquireUninterruptibly();
+        try(OutputStream outputStream=Files.newOutputStream(tempPath)){
+            Thumbnails.of(originalPath.toFile())
+                    .width(bucket)
+                    .keepAspectRatio(true)
+                    .toOutputStream(outputStream);
+        } catch (IOException | RuntimeException e){
+            deleteQuietly(tempPath);
+            throw e;
+        } finally {
+            resizePermits.release();
+        }
+
+        Files.move(tempPath, variantPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return variantPath;
+    }
+
+    /**
+     * 이미지를 디코딩하지 않고 헤더에서 너비만 읽기
+     */
+    private int readImageWidth(Path imagePath) throws IOException {
+        try(ImageInputStream imageInputStream=ImageIO.createImageInputStream(imagePath.toFile())){
+            Iterator<ImageReader> readers=(imageInputStream!=null)? ImageIO.getImageReaders(imageInputStream) : null;
+            if(readers==null || !readers.hasNext()){
+                throw new IOException("변환할 수 없는 이미지 형식입니다. (path = "+imagePath.getFileName()+")");
+            }
+
+            ImageReader reader=readers.next();
+            try{
+                reader.setInput(imageInputStream);
+                return reader.getWidth(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private boolean isVariantFile(Path path){
+        return path.toAbsolutePath().normalize().startsWith(Path.of(variantDirectory).toAbsolutePath().normalize());
+    }
+
+    private int weighInKilobytes(Path path){
+        if(!isVariantFile(path)) return 0;
+        try{
+            return (int) Math.min(Integer.MAX_VALUE, Files.size(path)/1024+1);
+        } catch (IOException e){
+            return 0;
+        }
+    }
+
+    private long lastModifiedMillis(Path path){
+        try{
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteQuietly(Path path){
+        try{
+            Files.deleteIfExists(path);
+        } catch (IOException e){
+            log.error("파일 삭제에 실패했습니다. (path = "+path+") "+e.getMessage());
+        }
+    }
+}
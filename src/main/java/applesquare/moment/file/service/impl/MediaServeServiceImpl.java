@@ -0,0 +1,191 @@
+package applesquare.moment.file.service.impl;
+
+import applesquare.moment.file.repository.StorageFileRepository;
+import applesquare.moment.file.service.FileService;
+import applesquare.moment.file.service.ImageVariantService;
+import applesquare.moment.file.service.MediaServeService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+
+/**
+ * 미디어 파일 전송 서비스
+ *
+ * 파일 형식은 StorageFile 메타데이터(캐시)에서 가져오고, 파일 크기와 수정 시각은 파일 속성에서 읽는다.
+ * 조건부 요청(If-None-Match, If-Modified-Since)에는 304로, 범위 요청(Range)에는 206으로 응답하며,
+ * 파일 내용은 Tomcat sendfile(커널 영역 복사)을 우선 사용하고, 지원하지 않는 경우 FileChannel로 전송한다.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class MediaServeServiceImpl implements MediaServeService {
+    private static final String SENDFILE_SUPPORT_ATTRIBUTE="org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTRIBUTE="org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTRIBUTE="org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTRIBUTE="org.apache.tomcat.sendfile.end";
+    private static final String CACHE_CONTROL_VALUE="public, max-age="+CACHE_MAX_AGE_SECONDS+", immutable";
+
+    private final FileService fileService;
+    private final StorageFileRepository storageFileRepository;
+    private final ImageVariantService imageVariantService;
+
+    // 파일 형식 캐시 (파일명 -> Content-Type)
+    private final Cache<String, String> contentTypeCache=Caffeine.newBuilder()
+            .maximumSize(CONTENT_TYPE_CACHE_MAX_SIZE)
+            .build();
+
+
+    /**
+     * 파일 전송 (GET, HEAD)
+     *
+     * @param filename 파일명
+     * @param width 이미지 너비 (null이면 원본)
+     * @param request HTTP 요청
+     * @param response HTTP 응답
+     * @throws IOException 파일이 없거나 전송에 실패한 경우
+     */
+    @Override
+    public void serve(String filename, Integer width, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // 파일 경로와 형식 조회
+        Path filePath=fileService.resolveFilePath(filename);
+        String contentType=readContentType(filename, filePath);
+
+        // 너비를 지정한 이미지 요청이라면, 너비별 변환 이미지 전송 (파일 형식은 원본과 같다.)
+        if(width!=null && contentType.startsWith(FileService.CONTENT_TYPE_IMAGE_PREFIX)){
+            filePath=imageVariantService.resolveVariantPath(filename, filePath, width);
+        }
+
+        // 파일 속성 조회
+        BasicFileAttributes attributes=Files.readAttributes(filePath, BasicFileAttributes.class);
+        long length=attributes.size();
+        long lastModified=attributes.lastModifiedTime().toMillis();
+        String eTag="\""+Long.toHexString(length)+"-"+Long.toHexString(lastModified)+"\"";
+
+        // 캐시 헤더 설정
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL_VALUE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // 조건부 요청 (클라이언트 캐시가 유효하다면 304 Not Modified, ETag와 Last-Modified 헤더도 함께 설정된다.)
+        if(new ServletWebRequest(request, response).checkNotModified(eTag, lastModified)){
+            return;
+        }
+
+        response.setContentType(contentType);
+
+        // 범위 요청 처리 (If-Range가 현재 파일과 다르다면 전체 파일 전송)
+        long start=0;
+        long end=length-1;
+        String rangeHeader=request.getHeader(HttpHeaders.RANGE);
+        if(rangeHeader!=null && isIfRangeSatisfied(request, eTag, lastModified)){
+            try{
+                List<HttpRange> ranges=HttpRange.parseRanges(rangeHeader);
+                // 여러 구간 요청(multipart/byteranges)은 지원하지 않고 전체 파일 전송
+                if(ranges.size()==1){
+                    start=ranges.get(0).getRangeStart(length);
+                    end=ranges.get(0).getRangeEnd(length);
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes "+start+"-"+end+"/"+length);
+                }
+            } catch (IllegalArgumentException e){
+                // 잘못된 범위이거나, 파일 크기를 벗어난 범위
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */"+length);
+                return;
+            }
+        }
+
+        long count=end-start+1;
+        response.setContentLengthLong(count);
+        if("HEAD".equalsIgnoreCase(request.getMethod()) || count<=0){
+            return;
+        }
+
+        // 파일 내용 전송
+        if(count>=SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))){
+            // 응답이 끝난 뒤 Tomcat이 sendfile로 전송 (사용자 영역으로 복사하지 않는다.)
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, filePath.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, end+1);
+            return;
+        }
+        transfer(filePath, start, count, response.getOutputStream());
+    }
+
+
+    /**
+     * 파일 형식 조회 (StorageFile 메타데이터, 없다면 파일 확장자로 추측)
+     * (추측한 형식은 캐시하지 않는다. 메타데이터가 나중에 저장되면 그 형식을 사용해야 하기 때문이다.)
+     */
+    private String readContentType(String filename, Path filePath){
+        String cachedContentType=contentTypeCache.getIfPresent(filename);
+        if(cachedContentType!=null) return cachedContentType;
+
+        String contentType=storageFileRepository.findContentTypeByFilename(filename).orElse(null);
+        if(contentType!=null){
+            contentTypeCache.put(filename, contentType);
+            return contentType;
+        }
+
+        try{
+            String probedContentType=Files.probeContentType(filePath);
+            return (probedContentType!=null)? probedContentType : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        } catch (IOException e){
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+    }
+
+    /**
+     * If-Range 조건 검사
+     * (If-Range가 없거나, 현재 파일의 ETag/수정 시각과 같다면 범위 요청을 처리한다.)
+     */
+    private boolean isIfRangeSatisfied(HttpServletRequest request, String eTag, long lastModified){
+        String ifRange=request.getHeader(HttpHeaders.IF_RANGE);
+        if(ifRange==null) return true;
+
+        if(ifRange.startsWith("\"") || ifRange.startsWith("W/")){
+            return ifRange.equals(eTag);
+        }
+        try{
+            long ifRangeTime=request.getDateHeader(HttpHeaders.IF_RANGE);
+            return ifRangeTime>=0 && lastModified/1000<=ifRangeTime/1000;
+        } catch (IllegalArgumentException e){
+            return false;
+        }
+    }
+
+    /**
+     * 파일의 일부 구간을 응답 스트림으로 전송
+     */
+    private void transfer(Path filePath, long start, long count, OutputStream outputStream) throws IOException {
+        try(FileChannel fileChannel=FileChannel.open(filePath, StandardOpenOption.READ)){
+            WritableByteChannel targetChannel=Channels.newChannel(outputStream);
+            long position=start;
+            long remaining=count;
+            while(remaining>0){
+                long transferred=fileChannel.transferTo(position, remaining, targetChannel);
+                if(transferred<=0) break;
+                position+=transferred;
+                remaining-=transferred;
+            }
+        }
+    }
+}
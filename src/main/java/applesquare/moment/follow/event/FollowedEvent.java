@@ -0,0 +1,14 @@
+package applesquare.moment.follow.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 팔로우 이벤트 (트랜잭션 커밋 이후 처리)
+ */
+@Getter
+@AllArgsConstructor
+public class FollowedEvent {
+    private final String followerId;
+    private final String followeeId;
+}
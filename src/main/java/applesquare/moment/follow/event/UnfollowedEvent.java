@@ -0,0 +1,14 @@
+package applesquare.moment.follow.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 팔로우 취소 이벤트 (트랜잭션 커밋 이후 처리)
+ */
+@Getter
+@AllArgsConstructor
+public class UnfollowedEvent {
+    private final String followerId;
+    private final String followeeId;
+}
@@ -1,6 +1,8 @@
 package applesquare.moment.follow.repository;
 
 import applesquare.moment.follow.model.Follow;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -27,4 +29,19 @@ public interface FollowRepository extends JpaRepository<Follow, Long>, CustomFol
                 "AND f.followee.id IN :followeeIds")
     List<String> findAllFollowedFolloweeIdByFolloweeIdsAndUserId(@Param("followeeIds") List<String> followeeIds,
                                                                  @Param("userId") String userId);
-}
\ No newline at end of file
+
+    @Query("SELECT f.followee.id " +
+            "FROM Follow f " +
+            "WHERE f.follower.id=:userId")
+    List<String> findAllFolloweeIdByFollowerId(@Param("userId") String userId);
+
+    // 특정 사용자의 팔로워 ID 목록 조회 (팔로우 ID 오름차순 커서 페이징)
+    @Query("SELECT f.id AS id, f.follower.id AS followerId " +
+            "FROM Follow f " +
+            "WHERE f.followee.id=:followeeId " +
+                "AND (:cursor IS NULL OR f.id>:cursor) " +
+            "ORDER BY f.id ASC")
+    List<Tuple> findFollowerIdAllByFolloweeId(@Param("followeeId") String followeeId,
+                                              @Param("cursor") Long cursor,
+                                              Pageable pageable);
+}
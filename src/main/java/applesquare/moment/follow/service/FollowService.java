@@ -5,9 +5,13 @@ import applesquare.moment.common.dto.PageResponseDTO;
 import applesquare.moment.follow.dto.FollowReadAllResponseDTO;
 
 public interface FollowService {
+    int RECONCILE_BATCH_SIZE=1000;
+
     String follow(String followeeId);
     String unfollow(String followeeId);
 
     PageResponseDTO<FollowReadAllResponseDTO> searchFollowerByKeyword(String userId, PageRequestDTO pageRequestDTO);
     PageResponseDTO<FollowReadAllResponseDTO> searchFollowingByKeyword(String userId, PageRequestDTO pageRequestDTO);
+
+    void reconcileFollowerCounts();
 }
@@ -5,19 +5,32 @@ import applesquare.moment.common.dto.PageRequestDTO;
 import applesquare.moment.common.dto.PageResponseDTO;
 import applesquare.moment.common.exception.DuplicateDataException;
 import applesquare.moment.common.service.SecurityService;
+import applesquare.moment.config.AsyncConfig;
 import applesquare.moment.file.service.FileService;
 import applesquare.moment.follow.dto.FollowReadAllResponseDTO;
+import applesquare.moment.follow.event.FollowedEvent;
+import applesquare.moment.follow.event.UnfollowedEvent;
 import applesquare.moment.follow.model.Follow;
 import applesquare.moment.follow.repository.FollowRepository;
 import applesquare.moment.follow.service.FollowService;
+import applesquare.moment.search.service.UserSearchIndexService;
 import applesquare.moment.user.model.UserInfo;
 import applesquare.moment.user.repository.UserInfoRepository;
 import applesquare.moment.user.service.UserProfileService;
+import applesquare.moment.viewer.service.ViewerStateService;
 import com.querydsl.core.Tuple;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.LinkedList;
@@ -25,6 +38,7 @@ import java.util.List;
 
 import static applesquare.moment.follow.model.QFollow.follow;
 
+@Log4j2
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -33,6 +47,9 @@ public class FollowServiceImpl implements FollowService {
     private final UserInfoRepository userInfoRepository;
     private final FileService fileService;
     private final SecurityService securityService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ViewerStateService viewerStateService;
+    private final UserSearchIndexService userSearchIndexService;
 
 
     /**
@@ -70,6 +87,11 @@ public class FollowServiceImpl implements FollowService {
 
         // DB 저장
         followRepository.save(follow);
+        userInfoRepository.addFollowerCount(followeeId, 1);
+
+        // 팔로우 이벤트 발행 (커밋 이후 타임라인 반영)
+        eventPublisher.publishEvent(new FollowedEvent(followerId, followeeId));
+        viewerStateService.addFollowedUser(followerId, followeeId);
 
         // 팔로우한 사용자의 ID 반환
         return followeeId;
@@ -106,10 +128,60 @@ public class FollowServiceImpl implements FollowService {
 
         // DB에서 Follow 엔티티 삭제
         followRepository.deleteByFollowerIdAndFolloweeId(followerId, followeeId);
+        userInfoRepository.addFollowerCount(followeeId, -1);
+
+        // 팔로우 취소 이벤트 발행 (커밋 이후 타임라인 반영)
+        eventPublisher.publishEvent(new UnfollowedEvent(followerId, followeeId));
+        viewerStateService.removeFollowedUser(followerId, followeeId);
 
         return followeeId;
     }
 
+    /**
+     * 사용자별 팔로워 수를 팔로우 테이블과 일치시키기
+     * (애플리케이션 시작 시와 매일 새벽에 실행해서, 누락된 증감을 보정한다.)
+     * (시작을 막거나 스케줄러 스레드를 오래 붙잡지 않도록, 다른 유지보수 작업처럼 별도 스레드에서 실행한다.)
+     *
+     * 사용자 ID 구간 단위로 어긋난 사용자만 찾고, 한 사용자씩 짧은 트랜잭션으로 다시 계산하므로
+     * 보정하는 동안 커밋된 팔로우 증감을 덮어쓰지 않는다. 보정한 팔로워 수는 사용자 검색 색인에도 반영한다.
+     */
+    @Override
+    @Async(AsyncConfig.MAINTENANCE_TASK_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${applesquare.moment.follow.reconcile-cron:0 40 4 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconcileFollowerCounts(){
+        int syncedCount=0;
+        String lastUserId="";
+        while(true){
+            List<String> userIds;
+            try{
+                userIds=userInfoRepository.findIdsAfter(lastUserId, PageRequest.of(0, RECONCILE_BATCH_SIZE));
+            } catch (Exception e){
+                log.error("팔로워 수 보정에 실패했습니다. "+e.getMessage());
+                break;
+            }
+            if(userIds.isEmpty()) break;
+
+            String fromId=lastUserId;
+            String toId=userIds.get(userIds.size()-1);
+            try{
+                for(String userId : userInfoRepository.findFollowerCountMismatchIds(fromId, toId)){
+                    if(userInfoRepository.syncFollowerCount(userId)>0){
+                        userSearchIndexService.updateFollowerCount(userId);
+                        syncedCount++;
+                    }
+                }
+            } catch (Exception e){
+                // 한 구간이 실패하더라도 다음 구간은 계속 보정한다.
+                log.error("팔로워 수 보정에 실패했습니다. (range = "+fromId+" ~ "+toId+") "+e.getMessage());
+            }
+            lastUserId=toId;
+        }
+
+        log.info("팔로워 수 보정 완료 (synced = "+syncedCount+")");
+    }
+
     /**
      * 특정 사용자의 팔로워 목록 조회
      * @param userId 사용자 ID
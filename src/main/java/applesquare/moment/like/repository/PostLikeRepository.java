@@ -20,4 +20,9 @@ public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeKey>
             "WHERE pl.postId IN :postIds " +
             "GROUP BY pl.postId")
     List<Tuple> countByPostIds(@Param("postIds") List<Long> postIds);
+
+    @Query("SELECT pl.postId " +
+            "FROM PostLike pl " +
+            "WHERE pl.userId=:userId")
+    List<Long> findAllPostIdByUserId(@Param("userId") String userId);
 }
@@ -8,7 +8,10 @@ import applesquare.moment.like.repository.PostLikeRepository;
 import applesquare.moment.like.service.PostLikeService;
 import applesquare.moment.post.model.Post;
 import applesquare.moment.post.repository.PostRepository;
+import applesquare.moment.post.service.PostDetailCacheService;
 import applesquare.moment.post.service.PostManagementService;
+import applesquare.moment.post.service.PostStatsService;
+import applesquare.moment.viewer.service.ViewerStateService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
@@ -23,6 +26,9 @@ public class PostLikeServiceImpl implements PostLikeService {
     private final SecurityService securityService;
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
+    private final PostStatsService postStatsService;
+    private final PostDetailCacheService postDetailCacheService;
+    private final ViewerStateService viewerStateService;
 
 
     /**
@@ -61,6 +67,11 @@ public class PostLikeServiceImpl implements PostLikeService {
         // DB 저장
         PostLike result=postLikeRepository.save(postLike);
 
+        // 게시물 통계 갱신
+        postStatsService.addLikeCount(postId, 1);
+        postDetailCacheService.evict(postId);
+        viewerStateService.addLikedPost(userId, postId);
+
         // 좋아요 누른 게시글 ID 반환
         return result.getPostId();
     }
@@ -86,5 +97,10 @@ public class PostLikeServiceImpl implements PostLikeService {
 
         // DB 삭제
         postLikeRepository.deleteById(postLikeKey);
+
+        // 게시물 통계 갱신
+        postStatsService.addLikeCount(postId, -1);
+        postDetailCacheService.evict(postId);
+        viewerStateService.removeLikedPost(userId, postId);
     }
 }
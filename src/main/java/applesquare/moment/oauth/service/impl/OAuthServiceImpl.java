@@ -10,6 +10,7 @@ import applesquare.moment.oauth.naver.service.NaverAuthService;
 import applesquare.moment.oauth.repository.SocialUserAccountRepository;
 import applesquare.moment.oauth.service.OAuthService;
 import applesquare.moment.user.dto.UserProfileReadResponseDTO;
+import applesquare.moment.user.event.UserCreatedEvent;
 import applesquare.moment.user.model.UserInfo;
 import applesquare.moment.user.repository.UserInfoRepository;
 import applesquare.moment.user.service.UserInfoService;
@@ -17,6 +18,7 @@ import applesquare.moment.user.service.UserProfileService;
 import applesquare.moment.util.NicknameGenerator;
 import applesquare.moment.util.StringUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +34,7 @@ public class OAuthServiceImpl implements OAuthService {
     private final KakaoAuthService kakaoAuthService;
     private final NaverAuthService naverAuthService;
     private final UserProfileService userProfileService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Override
@@ -130,6 +133,9 @@ public class OAuthServiceImpl implements OAuthService {
         // DB 저장
         socialUserAccountRepository.save(socialUserAccount);
 
+        // 사용자 생성 이벤트 발행 (커밋 이후 검색 색인 반영)
+        eventPublisher.publishEvent(new UserCreatedEvent(userId));
+
         // 등록된 사용자 ID 반환
         return userId;
     }
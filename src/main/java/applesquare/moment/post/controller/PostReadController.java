@@ -4,7 +4,9 @@ import applesquare.moment.common.dto.PageRequestDTO;
 import applesquare.moment.common.dto.PageResponseDTO;
 import applesquare.moment.common.exception.ResponseMap;
 import applesquare.moment.post.dto.PostDetailReadAllResponseDTO;
+import applesquare.moment.post.dto.PostMapTileReadResponseDTO;
 import applesquare.moment.post.dto.PostThumbnailReadAllResponseDTO;
+import applesquare.moment.post.service.PostMapService;
 import applesquare.moment.post.service.PostReadService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -18,6 +20,7 @@ import java.util.Map;
 @RequestMapping("/api")
 public class PostReadController {
     private final PostReadService postReadService;
+    private final PostMapService postMapService;
 
 
     /**
@@ -169,4 +172,76 @@ public class PostReadController {
 
         return ResponseEntity.status(HttpStatus.OK).body(responseMap.getMap());
     }
+
+    /**
+     * 주변 게시물 목록 조회 API
+     * @param x 중심 경도
+     * @param y 중심 위도
+     * @param radius 반경 (미터)
+     * @param type 게시물 조회 타입
+     * @param size 페이지 크기
+     * @param cursor 페이지 커서
+     * @return  (status) 200,
+     *          (body)  조회 성공 메세지,
+     *                  게시물 목록
+     */
+    @GetMapping("/posts/nearby")
+    public ResponseEntity<Map<String, Object>> readNearbyAll(@RequestParam(value = "x") double x,
+                                                             @RequestParam(value = "y") double y,
+                                                             @RequestParam(value = "radius", required = false, defaultValue = ""+PostReadService.DEFAULT_NEARBY_RADIUS_METERS) int radius,
+                                                             @RequestParam(value = "type", required = false, defaultValue = "DETAIL") PostReadType type,
+                                                             @RequestParam(value = "size", required = false, defaultValue = "10") int size,
+                                                             @RequestParam(value = "cursor", required = false) String cursor){
+        // 페이지 요청 설정
+        PageRequestDTO pageRequestDTO=PageRequestDTO.builder()
+                .size(size)
+                .cursor(cursor)
+                .build();
+
+        // 응답 객체 구성
+        ResponseMap responseMap=new ResponseMap();
+
+        // 게시글 조회 타입
+        switch(type){
+            case DETAIL:
+                // 주변 게시글 세부사항 목록 조회
+                PageResponseDTO<PostDetailReadAllResponseDTO> detailPageResponseDTO=postReadService.readNearbyDetailAll(x, y, radius, pageRequestDTO);
+                responseMap.put("content", detailPageResponseDTO.getContent());
+                responseMap.put("hasNext", detailPageResponseDTO.isHasNext());
+                break;
+            case THUMBNAIL:
+                // 주변 게시글 썸네일 목록 조회
+                PageResponseDTO<PostThumbnailReadAllResponseDTO> thumbnailPageResponseDTO=postReadService.readNearbyThumbnailAll(x, y, radius, pageRequestDTO);
+                responseMap.put("content", thumbnailPageResponseDTO.getContent());
+                responseMap.put("hasNext", thumbnailPageResponseDTO.isHasNext());
+                break;
+        }
+
+        responseMap.put("message", "주변 게시글 목록 조회에 성공했습니다.");
+
+        return ResponseEntity.status(HttpStatus.OK).body(responseMap.getMap());
+    }
+
+    /**
+     * 지도 타일별 게시물 묶음 조회 API
+     * @param z 줌 레벨
+     * @param x 타일 열 번호
+     * @param y 타일 행 번호
+     * @return  (status) 200,
+     *          (body)  조회 성공 메세지,
+     *                  타일 안의 게시물 개수와 게시물 묶음 목록
+     */
+    @GetMapping("/posts/tiles/{z}/{x}/{y}")
+    public ResponseEntity<Map<String, Object>> readMapTile(@PathVariable("z") int z,
+                                                           @PathVariable("x") int x,
+                                                           @PathVariable("y") int y){
+        PostMapTileReadResponseDTO tileDTO=postMapService.readTile(z, x, y);
+
+        // 응답 객체 구성
+        ResponseMap responseMap=new ResponseMap();
+        responseMap.put("tile", tileDTO);
+        responseMap.put("message", "지도 타일 조회에 성공했습니다.");
+
+        return ResponseEntity.status(HttpStatus.OK).body(responseMap.getMap());
+    }
 }
@@ -0,0 +1,16 @@
+package applesquare.moment.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostLocationDTO {
+    private Long id;
+    private Double x;  // 경도
+    private Double y;  // 위도
+}
@@ -0,0 +1,19 @@
+package applesquare.moment.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostMapClusterDTO {
+    private String geohash;  // 셀의 지오해시
+    private double x;  // 마커 경도 (셀 안의 게시물 위치 평균)
+    private double y;  // 마커 위도 (셀 안의 게시물 위치 평균)
+    private long postCount;  // 셀 안의 게시물 개수
+    private Long postId;  // 대표 게시물 ID (셀 안의 최신 게시물)
+    private String thumbnail;  // 대표 게시물 썸네일 URL
+}
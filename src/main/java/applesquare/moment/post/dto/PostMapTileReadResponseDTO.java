@@ -0,0 +1,20 @@
+package applesquare.moment.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostMapTileReadResponseDTO {
+    private int z;  // 줌 레벨
+    private int x;  // 타일 열 번호
+    private int y;  // 타일 행 번호
+    private long postCount;  // 타일 안의 게시물 개수
+    private List<PostMapClusterDTO> clusters;  // 타일 안의 게시물 묶음 (게시물이 많은 순)
+}
@@ -0,0 +1,14 @@
+package applesquare.moment.post.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시물 수정 이벤트 (트랜잭션 커밋 이후 처리)
+ */
+@Getter
+@AllArgsConstructor
+public class PostUpdatedEvent {
+    private final Long postId;
+    private final String writerId;
+}
@@ -0,0 +1,68 @@
+package applesquare.moment.post.mapper;
+
+import applesquare.moment.file.model.MediaType;
+import applesquare.moment.post.dto.MomentDetailReadAllResponseDTO;
+import applesquare.moment.post.dto.PostDetailReadAllResponseDTO;
+import applesquare.moment.post.model.Post;
+import applesquare.moment.user.dto.UserProfileReadResponseDTO;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * Post 엔티티와 게시물 DTO 간 변환 (컴파일 시점에 변환 코드 생성)
+ */
+@Mapper(componentModel = "spring")
+public interface PostMapper {
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "post.id")
+    @Mapping(target = "regDate", source = "post.regDate")
+    @Mapping(target = "content", source = "post.content")
+    @Mapping(target = "address", source = "post.address")
+    @Mapping(target = "x", source = "post.x")
+    @Mapping(target = "y", source = "post.y")
+    @Mapping(target = "writer", source = "writer")
+    @Mapping(target = "tags", source = "tags")
+    @Mapping(target = "mediaType", source = "mediaType")
+    @Mapping(target = "urls", source = "urls")
+    @Mapping(target = "viewCount", source = "viewCount")
+    @Mapping(target = "commentCount", source = "commentCount")
+    @Mapping(target = "likeCount", source = "likeCount")
+    @Mapping(target = "isCommented", source = "isCommented")
+    @Mapping(target = "isLiked", source = "isLiked")
+    PostDetailReadAllResponseDTO toPostDetailDTO(Post post,
+                                                 UserProfileReadResponseDTO writer,
+                                                 List<String> tags,
+                                                 MediaType mediaType,
+                                                 List<String> urls,
+                                                 long viewCount,
+                                                 long commentCount,
+                                                 long likeCount,
+                                                 boolean isCommented,
+                                                 boolean isLiked);
+
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "post.id")
+    @Mapping(target = "regDate", source = "post.regDate")
+    @Mapping(target = "content", source = "post.content")
+    @Mapping(target = "address", source = "post.address")
+    @Mapping(target = "x", source = "post.x")
+    @Mapping(target = "y", source = "post.y")
+    @Mapping(target = "writer", source = "writer")
+    @Mapping(target = "url", source = "url")
+    @Mapping(target = "isFollowed", source = "isFollowed")
+    @Mapping(target = "commentCount", source = "commentCount")
+    @Mapping(target = "likeCount", source = "likeCount")
+    @Mapping(target = "isCommented", source = "isCommented")
+    @Mapping(target = "isLiked", source = "isLiked")
+    MomentDetailReadAllResponseDTO toMomentDetailDTO(Post post,
+                                                     UserProfileReadResponseDTO writer,
+                                                     String url,
+                                                     boolean isFollowed,
+                                                     long commentCount,
+                                                     long likeCount,
+                                                     boolean isCommented,
+                                                     boolean isLiked);
+}
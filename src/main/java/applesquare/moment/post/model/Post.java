@@ -1,16 +1,20 @@
 package applesquare.moment.post.model;
 
 import applesquare.moment.common.model.BaseEntity;
+import applesquare.moment.file.model.MediaType;
 import applesquare.moment.file.model.StorageFile;
 import applesquare.moment.post.service.PostManagementService;
+import applesquare.moment.post.service.PostReadService;
 import applesquare.moment.tag.model.Tag;
 import applesquare.moment.user.model.UserInfo;
+import applesquare.moment.util.GeoHashUtil;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.List;
 
@@ -19,7 +23,15 @@ import java.util.List;
 @Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "post")
+@Table(name = "post",
+        indexes = {
+                @Index(name = "idx_post_media_type_id", columnList = "media_type, id"),
+                @Index(name = "idx_post_writer_media_type_id", columnList = "writer_id, media_type, id"),
+                @Index(name = "idx_post_geohash_id", columnList = "geohash, id"),
+                @Index(name = "idx_post_geohash_6_status_id", columnList = "geohash_6, status, id, x, y"),
+                @Index(name = "idx_post_geohash_5_status_id", columnList = "geohash_5, status, id, x, y")
+        }
+)
 public class Post extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -38,6 +50,21 @@ public class Post extends BaseEntity {
     private Double x;  // 경도
     @Column(name = "y", nullable = true, updatable = true)
     private Double y;  // 위도
+    @Column(name = "geohash", length = GeoHashUtil.MAX_PRECISION, nullable = true, updatable = true)
+    private String geohash;  // (x, y)의 지오해시 (주변 게시물 조회용)
+    @Column(name = "geohash_6", insertable = false, updatable = false,
+            columnDefinition = "VARCHAR("+PostReadService.NEARBY_FINE_CELL_PRECISION+") AS (LEFT(geohash, "+PostReadService.NEARBY_FINE_CELL_PRECISION+")) STORED")
+    private String geohash6;  // 지오해시 앞부분 (DB 생성 컬럼, 셀마다 최신순으로 주변 게시물 조회)
+    @Column(name = "geohash_5", insertable = false, updatable = false,
+            columnDefinition = "VARCHAR("+PostReadService.NEARBY_COARSE_CELL_PRECISION+") AS (LEFT(geohash, "+PostReadService.NEARBY_COARSE_CELL_PRECISION+")) STORED")
+    private String geohash5;  // 지오해시 앞부분 (DB 생성 컬럼, 넓은 반경용)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "media_type", length = 10, nullable = true, updatable = true)
+    private MediaType mediaType;  // 첫번째 첨부파일의 미디어 타입 (모먼트 조회용)
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'READY'")
+    @Column(name = "status", length = 10, nullable = false, updatable = true)
+    private PostStatus status;  // 미디어 처리 상태 (READY인 게시물만 목록에 노출)
     @OneToMany(fetch = FetchType.LAZY,
             cascade = CascadeType.ALL,
             orphanRemoval = true)
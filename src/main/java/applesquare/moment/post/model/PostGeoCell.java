@@ -0,0 +1,34 @@
+package applesquare.moment.post.model;
+
+import applesquare.moment.util.GeoHashUtil;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "post_geo_cell",
+        indexes = {
+                @Index(name = "idx_post_geo_cell_precision_geohash", columnList = "cell_precision, geohash")
+        }
+)
+public class PostGeoCell {
+    @Id
+    @Column(name = "geohash", length = GeoHashUtil.MAX_PRECISION, nullable = false, updatable = false)
+    private String geohash;  // 셀의 지오해시 (게시물 지오해시의 접두사)
+    @Column(name = "cell_precision", nullable = false, updatable = false)
+    private int cellPrecision;  // 지오해시 길이
+    @Column(name = "post_count", nullable = false)
+    private long postCount;  // 셀 안의 게시물 개수
+    @Column(name = "sum_x", nullable = false)
+    private double sumX;  // 게시물 경도의 합 (마커 위치 계산용)
+    @Column(name = "sum_y", nullable = false)
+    private double sumY;  // 게시물 위도의 합 (마커 위치 계산용)
+    @Column(name = "latest_post_id", nullable = true)
+    private Long latestPostId;  // 대표 게시물 (셀 안의 최신 게시물)
+}
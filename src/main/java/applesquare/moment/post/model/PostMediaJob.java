@@ -0,0 +1,47 @@
+package applesquare.moment.post.model;
+
+import applesquare.moment.common.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "post_media_job",
+        indexes = {
+                @Index(name = "idx_post_media_job_status_next_attempt_at", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_post_media_job_post_id", columnList = "post_id")
+        }
+)
+public class PostMediaJob extends BaseEntity {
+    public static final int MAX_ERROR_LENGTH=1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+    @Column(name = "post_id", nullable = false, updatable = false)
+    private Long postId;
+    @Column(name = "filename", nullable = false, updatable = false)
+    private String filename;  // 썸네일을 만들 원본 파일명 (게시물의 첫번째 파일)
+    @Column(name = "new_post", nullable = false, updatable = false)
+    private boolean newPost;  // 게시물 생성으로 등록된 작업인지 여부 (수정이라면 false)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 10, nullable = false)
+    private PostMediaJobStatus status;
+    @Column(name = "attempts", nullable = false)
+    private int attempts;  // 시도 횟수
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;  // 다음 시도 시각
+    @Column(name = "started_at", nullable = true)
+    private LocalDateTime startedAt;  // 마지막 시도 시작 시각 (멈춘 작업 복구용)
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH, nullable = true)
+    private String lastError;
+}
@@ -0,0 +1,10 @@
+package applesquare.moment.post.model;
+
+/**
+ * 게시물 미디어 처리 작업의 상태
+ */
+public enum PostMediaJobStatus {
+    PENDING,  // 처리 대기 (다음 시도 시각 이후에 처리)
+    RUNNING,  // 작업자가 처리 중
+    FAILED  // 재시도 횟수를 모두 사용 (성공한 작업은 삭제한다.)
+}
@@ -0,0 +1,25 @@
+package applesquare.moment.post.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "post_stats")
+public class PostStats {
+    @Id
+    @Column(name = "post_id", nullable = false, updatable = false)
+    private Long postId;
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;  // 좋아요 개수
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount;  // 댓글 개수
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;  // 조회수
+}
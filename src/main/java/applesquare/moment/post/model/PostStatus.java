@@ -0,0 +1,10 @@
+package applesquare.moment.post.model;
+
+/**
+ * 게시물의 미디어 처리 상태
+ */
+public enum PostStatus {
+    PROCESSING,  // 썸네일 생성 중 (목록에 노출하지 않는다.)
+    READY,  // 처리 완료
+    FAILED  // 재시도 횟수를 모두 사용했지만 처리에 실패
+}
@@ -1,5 +1,7 @@
 package applesquare.moment.post.repository;
 
+import applesquare.moment.post.dto.PostLocationDTO;
+
 import java.util.List;
 
 public interface CustomPostRepository {
@@ -7,4 +9,5 @@ public interface CustomPostRepository {
     List<Long> searchPostIdsByTag(String keyword, Long cursor, int size);
     List<Long> searchMomentIdsByKeyword(String keyword, Long cursor, int size);
     List<Long> searchMomentIdsByTag(String keyword, Long cursor, int size);
+    List<PostLocationDTO> findNearbyCandidatesInCell(int cellPrecision, String geohashCell, Long cursor, int size);
 }
@@ -0,0 +1,72 @@
+package applesquare.moment.post.repository;
+
+import applesquare.moment.post.model.PostGeoCell;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostGeoCellRepository extends JpaRepository<PostGeoCell, String> {
+    // 지오해시 길이가 같은 셀 중에서, 주어진 접두사로 시작하는 셀 조회
+    @Query(value = "SELECT * " +
+            "FROM post_geo_cell c " +
+            "WHERE c.cell_precision=:precision " +
+                "AND c.geohash LIKE CONCAT(:prefix, '%')", nativeQuery = true)
+    List<PostGeoCell> findAllByPrecisionAndPrefix(@Param("precision") int precision, @Param("prefix") String prefix);
+
+    // 셀에 게시물 추가 (셀이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO post_geo_cell (geohash, cell_precision, post_count, sum_x, sum_y, latest_post_id) " +
+            "VALUES (:geohash, CHAR_LENGTH(:geohash), 1, :x, :y, :postId) " +
+            "ON DUPLICATE KEY UPDATE post_count=post_count+1, " +
+                "sum_x=sum_x+:x, " +
+                "sum_y=sum_y+:y, " +
+                "latest_post_id=GREATEST(COALESCE(latest_post_id, 0), :postId)", nativeQuery = true)
+    int addPost(@Param("geohash") String geohash, @Param("x") double x, @Param("y") double y, @Param("postId") Long postId);
+
+    // 셀에서 게시물 제거
+    @Modifying
+    @Query(value = "UPDATE post_geo_cell c " +
+            "SET c.post_count=GREATEST(c.post_count-1, 0), " +
+                "c.sum_x=c.sum_x-:x, " +
+                "c.sum_y=c.sum_y-:y " +
+            "WHERE c.geohash IN :geohashes", nativeQuery = true)
+    int removePost(@Param("geohashes") Collection<String> geohashes, @Param("x") double x, @Param("y") double y);
+
+    // 대표 게시물이 제거된 셀의 대표 게시물 다시 고르기 (READY인 게시물 중에서, post 테이블의 (geohash, id) 인덱스 사용)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE post_geo_cell c " +
+            "SET c.latest_post_id=(" +
+                "SELECT MAX(p.id) " +
+                "FROM post p " +
+                "WHERE p.geohash LIKE CONCAT(c.geohash, '%') " +
+                    "AND p.status='READY'" +
+            ") " +
+            "WHERE c.geohash IN :geohashes " +
+                "AND c.latest_post_id=:postId", nativeQuery = true)
+    int refreshLatestPostId(@Param("geohashes") Collection<String> geohashes, @Param("postId") Long postId);
+
+    // 셀의 대표 게시물 ID 조회
+    @Query(value = "SELECT c.latest_post_id " +
+            "FROM post_geo_cell c " +
+            "WHERE c.geohash=:geohash", nativeQuery = true)
+    Long findLatestPostIdByGeohash(@Param("geohash") String geohash);
+
+    // 대표 게시물이 제거된 셀의 대표 게시물을 주어진 게시물로 교체 (큰 셀용)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE post_geo_cell c " +
+            "SET c.latest_post_id=:latestPostId " +
+            "WHERE c.geohash IN :geohashes " +
+                "AND c.latest_post_id=:postId", nativeQuery = true)
+    int replaceLatestPostId(@Param("geohashes") Collection<String> geohashes, @Param("postId") Long postId, @Param("latestPostId") Long latestPostId);
+
+    // 게시물이 없는 셀 제거
+    @Modifying
+    @Query(value = "DELETE FROM post_geo_cell " +
+            "WHERE geohash IN :geohashes " +
+                "AND post_count<=0", nativeQuery = true)
+    int deleteEmptyCells(@Param("geohashes") Collection<String> geohashes);
+}
@@ -0,0 +1,79 @@
+package applesquare.moment.post.repository;
+
+import applesquare.moment.post.model.PostMediaJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PostMediaJobRepository extends JpaRepository<PostMediaJob, Long> {
+    // 처리할 차례가 된 작업 ID 목록 조회 (다음 시도 시각이 빠른 순)
+    @Query("SELECT j.id " +
+            "FROM PostMediaJob j " +
+            "WHERE j.status=applesquare.moment.post.model.PostMediaJobStatus.PENDING " +
+                "AND j.nextAttemptAt<=:now " +
+            "ORDER BY j.nextAttemptAt ASC")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 작업 선점 (다른 작업자가 먼저 선점했다면 0 반환)
+    @Modifying
+    @Query("UPDATE PostMediaJob j " +
+            "SET j.status=applesquare.moment.post.model.PostMediaJobStatus.RUNNING, " +
+                "j.attempts=j.attempts+1, " +
+                "j.startedAt=:now " +
+            "WHERE j.id=:id " +
+                "AND j.status=applesquare.moment.post.model.PostMediaJobStatus.PENDING")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 선점한 작업 삭제 (완료 시, 다른 작업자가 다시 선점했거나 대기 상태로 되돌아갔다면 0 반환)
+    @Modifying
+    @Query("DELETE FROM PostMediaJob j " +
+            "WHERE j.id=:id " +
+                "AND j.status=applesquare.moment.post.model.PostMediaJobStatus.RUNNING " +
+                "AND j.attempts=:attempts")
+    int deleteClaimed(@Param("id") Long id, @Param("attempts") int attempts);
+
+    // 선점한 작업 다시 대기시키기 (실패 시, 선점이 유효하지 않다면 0 반환)
+    @Modifying
+    @Query("UPDATE PostMediaJob j " +
+            "SET j.status=applesquare.moment.post.model.PostMediaJobStatus.PENDING, " +
+                "j.nextAttemptAt=:nextAttemptAt, " +
+                "j.lastError=:lastError " +
+            "WHERE j.id=:id " +
+                "AND j.status=applesquare.moment.post.model.PostMediaJobStatus.RUNNING " +
+                "AND j.attempts=:attempts")
+    int retryClaimed(@Param("id") Long id,
+                     @Param("attempts") int attempts,
+                     @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                     @Param("lastError") String lastError);
+
+    // 선점한 작업 최종 실패 처리 (선점이 유효하지 않다면 0 반환)
+    @Modifying
+    @Query("UPDATE PostMediaJob j " +
+            "SET j.status=applesquare.moment.post.model.PostMediaJobStatus.FAILED, " +
+                "j.lastError=:lastError " +
+            "WHERE j.id=:id " +
+                "AND j.status=applesquare.moment.post.model.PostMediaJobStatus.RUNNING " +
+                "AND j.attempts=:attempts")
+    int failClaimed(@Param("id") Long id, @Param("attempts") int attempts, @Param("lastError") String lastError);
+
+    // 작업자가 멈춘 작업을 다시 대기 상태로 되돌리기 (서버 재시작 등)
+    @Modifying
+    @Query("UPDATE PostMediaJob j " +
+            "SET j.status=applesquare.moment.post.model.PostMediaJobStatus.PENDING, " +
+                "j.nextAttemptAt=:now " +
+            "WHERE j.status=applesquare.moment.post.model.PostMediaJobStatus.RUNNING " +
+                "AND j.startedAt<:startedBefore")
+    int releaseStalled(@Param("startedBefore") LocalDateTime startedBefore, @Param("now") LocalDateTime now);
+
+    boolean existsByPostIdAndNewPostTrue(Long postId);
+
+    @Modifying
+    @Query("DELETE FROM PostMediaJob j " +
+            "WHERE j.postId=:postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
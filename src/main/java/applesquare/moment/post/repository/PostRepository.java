@@ -1,24 +1,114 @@
 package applesquare.moment.post.repository;
 
 import applesquare.moment.post.model.Post;
+import applesquare.moment.post.model.PostStatus;
 import jakarta.persistence.Tuple;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long>, CustomPostRepository {
     long countByWriterId(String userId);
 
+    @Query("SELECT COALESCE(MAX(p.id), 0) " +
+            "FROM Post p")
+    long findMaxId();
+
+    @Query("SELECT p.viewCount " +
+            "FROM Post p " +
+            "WHERE p.id=:postId")
+    Optional<Long> findViewCountById(@Param("postId") Long postId);
+
+    // 조회수 증가 (엔티티를 읽지 않고 원자적으로 증가)
+    @Modifying
+    @Query("UPDATE Post p " +
+            "SET p.viewCount=p.viewCount+:increment " +
+            "WHERE p.id=:postId")
+    int incrementViewCount(@Param("postId") Long postId, @Param("increment") long increment);
+
+
+    // 게시물 미디어 처리 상태 변경
+    @Modifying
+    @Query("UPDATE Post p " +
+            "SET p.status=:status " +
+            "WHERE p.id=:postId")
+    int updateStatus(@Param("postId") Long postId, @Param("status") PostStatus status);
+
+
+    // 미디어 타입이 비어있는 게시물에 첫번째 첨부파일 기준으로 미디어 타입 채우기 (게시물 ID 구간 단위)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE post p " +
+            "INNER JOIN post_files pf ON pf.post_id=p.id AND pf.file_order=0 " +
+            "INNER JOIN storage_file sf ON sf.id=pf.file_id " +
+            "SET p.media_type=(CASE WHEN sf.content_type LIKE 'video%' THEN 'VIDEO' ELSE 'IMAGE' END) " +
+            "WHERE p.media_type IS NULL " +
+                "AND p.id>:fromId AND p.id<=:toId", nativeQuery = true)
+    int fillMediaTypeByIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // 지오해시가 비어있는 게시물에 위치 정보(x, y) 기준으로 지오해시 채우기 (게시물 ID 구간 단위)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE post p " +
+            "SET p.geohash=ST_GeoHash(p.x, p.y, :precision) " +
+            "WHERE p.geohash IS NULL " +
+                "AND p.x IS NOT NULL AND p.y IS NOT NULL " +
+                "AND p.id>:fromId AND p.id<=:toId", nativeQuery = true)
+    int fillGeohashByIdRange(@Param("fromId") long fromId, @Param("toId") long toId, @Param("precision") int precision);
+
+    // 게시물 ID 목록으로 게시물 조회
+    @EntityGraph(attributePaths = {"files"})
+    List<Post> findAllByIdIn(Collection<Long> ids);
+
+    // 게시물 ID 목록으로 게시물 조회 (검색 색인용, 작성자와 태그 포함)
+    @EntityGraph(attributePaths = {"writer", "tags"})
+    @Query("SELECT p " +
+            "FROM Post p " +
+            "WHERE p.id IN :ids")
+    List<Post> findAllWithWriterAndTagsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ID 구간으로 게시물 조회 (검색 색인용, 작성자와 태그 포함)
+    @EntityGraph(attributePaths = {"writer", "tags"})
+    @Query("SELECT p " +
+            "FROM Post p " +
+            "WHERE p.id>:fromId AND p.id<=:toId")
+    List<Post> findAllWithWriterAndTagsByIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // 특정 작성자의 최신 게시물 ID 목록 조회
+    @Query("SELECT p.id " +
+            "FROM Post p " +
+            "WHERE p.writer.id=:writerId " +
+                "AND p.status=applesquare.moment.post.model.PostStatus.READY " +
+            "ORDER BY p.id DESC")
+    List<Long> findIdAllByWriterId(@Param("writerId") String writerId, Pageable pageable);
+
+    // 특정 사용자의 타임라인 게시물 ID 목록 조회 (본인 + 팔로우한 사용자의 게시물, 커서 페이징)
+    @Query("SELECT p.id " +
+            "FROM Post p " +
+            "WHERE (:cursor IS NULL OR p.id<:cursor) " +
+                "AND (p.writer.id=:userId " +
+                    "OR p.writer.id IN (SELECT f.followee.id FROM Follow f WHERE f.follower.id=:userId)) " +
+                "AND p.status=applesquare.moment.post.model.PostStatus.READY " +
+            "ORDER BY p.id DESC")
+    List<Long> findTimelineIdAllByUserId(@Param("userId") String userId,
+                                         @Param("cursor") Long cursor,
+                                         Pageable pageable);
+
 
     // 게시물 목록 조회 (커서 페이징)
     @EntityGraph(attributePaths = {"files"})
     @Query("SELECT p " +
             "FROM Post p " +
-            "WHERE (:cursor IS NULL OR p.id<:cursor)")
+            "WHERE (:cursor IS NULL OR p.id<:cursor) " +
+                "AND p.status=applesquare.moment.post.model.PostStatus.READY")
     List<Post> findAll(@Param("cursor") Long cursor, Pageable pageable);
 
     // 게시물 썸네일 목록 조회 (커서 페이징)
@@ -29,16 +119,17 @@ public interface PostRepository extends JpaRepository<Post, Long>, CustomPostRep
             "INNER JOIN post_files pf ON pf.post_id=p.id " +
             "INNER JOIN storage_file sf ON pf.file_id=sf.id " +
             "WHERE pf.file_order=0 " +
-            "AND (:cursor IS NULL OR p.id<:cursor)", nativeQuery = true)
+            "AND (:cursor IS NULL OR p.id<:cursor) " +
+            "AND p.status='READY'", nativeQuery = true)
     List<Tuple> findAllWithFirstFile(@Param("cursor") Long cursor, Pageable pageable);
 
     // 비디오 게시물 목록 조회 (커서 페이징)
     @EntityGraph(attributePaths = {"files"})
     @Query("SELECT p " +
             "FROM Post p " +
-            "INNER JOIN p.files sf " +
-            "WHERE sf.contentType LIKE 'video%' " +
-            "AND (:cursor IS NULL OR p.id<:cursor)")
+            "WHERE p.mediaType=applesquare.moment.file.model.MediaType.VIDEO " +
+            "AND (:cursor IS NULL OR p.id<:cursor) " +
+            "AND p.status=applesquare.moment.post.model.PostStatus.READY")
     List<Post> findMomentAll(@Param("cursor") Long cursor,
                              Pageable pageable);
 
@@ -70,7 +161,8 @@ public interface PostRepository extends JpaRepository<Post, Long>, CustomPostRep
     @Query("SELECT p " +
             "FROM Post p " +
             "WHERE (:cursor IS NULL OR p.id<:cursor) " +
-                "AND p.writer.id=:writerId")
+                "AND p.writer.id=:writerId " +
+                "AND p.status=applesquare.moment.post.model.PostStatus.READY")
     List<Post> findAllByWriterId(@Param("writerId") String writerId,
                                  @Param("cursor") Long cursor,
                                  Pageable pageable);
@@ -84,7 +176,8 @@ public interface PostRepository extends JpaRepository<Post, Long>, CustomPostRep
             "INNER JOIN storage_file sf ON pf.file_id=sf.id " +
             "WHERE p.writer_id=:writerId " +
                 "AND (:cursor IS NULL OR p.id<:cursor) " +
-                "AND pf.file_order=0", nativeQuery = true)
+                "AND pf.file_order=0 " +
+                "AND p.status='READY'", nativeQuery = true)
     List<Tuple> findAllWithFirstFileByWriterId(@Param("writerId") String writerId,
                                                @Param("cursor") Long cursor,
                                                Pageable pageable);
@@ -93,10 +186,10 @@ public interface PostRepository extends JpaRepository<Post, Long>, CustomPostRep
     @EntityGraph(attributePaths = {"files"})
     @Query("SELECT p " +
             "FROM Post p " +
-            "INNER JOIN p.files sf " +
             "WHERE p.writer.id=:writerId " +
-            "AND sf.contentType LIKE 'video%' " +
-            "AND (:cursor IS NULL OR p.id<:cursor)")
+            "AND p.mediaType=applesquare.moment.file.model.MediaType.VIDEO " +
+            "AND (:cursor IS NULL OR p.id<:cursor) " +
+            "AND p.status=applesquare.moment.post.model.PostStatus.READY")
     List<Post> findMomentAllByWriterId(@Param("writerId") String writerId,
                                        @Param("cursor") Long cursor,
                                        Pageable pageable);
@@ -111,7 +204,8 @@ public interface PostRepository extends JpaRepository<Post, Long>, CustomPostRep
             "WHERE p.writer_id=:writerId " +
             "AND (:cursor IS NULL OR p.id<:cursor) " +
             "AND pf.file_order=0 " +
-            "AND sf.content_type LIKE 'video%'", nativeQuery = true)
+            "AND p.media_type='VIDEO' " +
+            "AND p.status='READY'", nativeQuery = true)
     List<Tuple> findMomentAllWithFirstFileByWriterId(@Param("writerId") String writerId,
                                                      @Param("cursor") Long cursor,
                                                      Pageable pageable);
@@ -125,7 +219,8 @@ public interface PostRepository extends JpaRepository<Post, Long>, CustomPostRep
             "INNER JOIN PostLike pl " +
                 "ON p.id=pl.postId " +
             "WHERE pl.userId=:userId " +
-                "AND (:cursor IS NULL OR p.id<:cursor)")
+                "AND (:cursor IS NULL OR p.id<:cursor) " +
+                "AND p.status=applesquare.moment.post.model.PostStatus.READY")
     List<Post> findLikedPostAllByUserId(@Param("userId") String userId,
                                         @Param("cursor") Long cursor,
                                         Pageable pageable);
@@ -141,7 +236,8 @@ public interface PostRepository extends JpaRepository<Post, Long>, CustomPostRep
                 "ON p.id=pl.post_id " +
             "WHERE pl.user_id=:userId " +
                 "AND (:cursor IS NULL OR p.id<:cursor) " +
-                "AND pf.file_order=0", nativeQuery = true)
+                "AND pf.file_order=0 " +
+                "AND p.status='READY'", nativeQuery = true)
     List<Tuple> findLikedPostAllWithFirstFileByUserId(@Param("userId") String userId,
                                                      @Param("cursor") Long cursor,
                                                      Pageable pageable);
@@ -151,10 +247,10 @@ public interface PostRepository extends JpaRepository<Post, Long>, CustomPostRep
     @Query("SELECT p " +
             "FROM Post p " +
             "INNER JOIN PostLike pl ON p.id=pl.postId " +
-            "INNER JOIN p.files sf " +
             "WHERE pl.userId=:userId " +
             "AND (:cursor IS NULL OR p.id<:cursor) " +
-            "AND sf.contentType LIKE 'video%'")
+            "AND p.mediaType=applesquare.moment.file.model.MediaType.VIDEO " +
+            "AND p.status=applesquare.moment.post.model.PostStatus.READY")
     List<Post> findLikedMomentAllByUserId(@Param("userId") String userId,
                                           @Param("cursor") Long cursor,
                                           Pageable pageable);
@@ -0,0 +1,86 @@
+package applesquare.moment.post.repository;
+
+import applesquare.moment.post.model.PostStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostStatsRepository extends JpaRepository<PostStats, Long> {
+    List<PostStats> findAllByPostIdIn(Collection<Long> postIds);
+
+    @Query("SELECT COALESCE(MAX(ps.postId), 0) " +
+            "FROM PostStats ps")
+    long findMaxPostId();
+
+    // 게시물 통계 생성
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_stats (post_id, like_count, comment_count, view_count) " +
+            "VALUES (:postId, 0, 0, 0)", nativeQuery = true)
+    int insertByPostId(@Param("postId") Long postId);
+
+    // 좋아요 개수 증감 (통계 행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO post_stats (post_id, like_count, comment_count, view_count) " +
+            "VALUES (:postId, GREATEST(:delta, 0), 0, 0) " +
+            "ON DUPLICATE KEY UPDATE like_count=GREATEST(like_count + :delta, 0)", nativeQuery = true)
+    int addLikeCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    // 댓글 개수 증감 (통계 행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO post_stats (post_id, like_count, comment_count, view_count) " +
+            "VALUES (:postId, 0, GREATEST(:delta, 0), 0) " +
+            "ON DUPLICATE KEY UPDATE comment_count=GREATEST(comment_count + :delta, 0)", nativeQuery = true)
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    // ====================================================================
+
+    // 통계 행이 없는 게시물에 대해 통계 행 생성 (보정 작업)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO post_stats (post_id, like_count, comment_count, view_count) " +
+            "SELECT p.id, 0, 0, p.view_count " +
+            "FROM post p " +
+            "LEFT JOIN post_stats ps ON ps.post_id=p.id " +
+            "WHERE p.id > :fromId " +
+                "AND p.id <= :toId " +
+                "AND ps.post_id IS NULL", nativeQuery = true)
+    int insertMissingByPostIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // 게시물 ID 구간 (fromId, toId] 안에서 원본 테이블과 통계 값이 다른 게시물 ID 목록 조회 (보정용)
+    @Query(value = "SELECT ps.post_id " +
+            "FROM post_stats ps " +
+            "INNER JOIN post p ON p.id=ps.post_id " +
+            "WHERE ps.post_id > :fromId " +
+                "AND ps.post_id <= :toId " +
+                "AND (ps.like_count<>(SELECT COUNT(*) FROM post_like pl WHERE pl.post_id=ps.post_id) " +
+                    "OR ps.comment_count<>(SELECT COUNT(*) FROM comment c WHERE c.post_id=ps.post_id) " +
+                    "OR ps.view_count<>p.view_count)", nativeQuery = true)
+    List<Long> findMismatchPostIds(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // 한 게시물의 통계 값을 원본 테이블과 일치시키기 (보정용)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE post_stats ps " +
+            "INNER JOIN post p ON p.id=ps.post_id " +
+            "SET ps.like_count=(SELECT COUNT(*) FROM post_like pl WHERE pl.post_id=:postId), " +
+                "ps.comment_count=(SELECT COUNT(*) FROM comment c WHERE c.post_id=:postId), " +
+                "ps.view_count=p.view_count " +
+            "WHERE ps.post_id=:postId", nativeQuery = true)
+    int syncByPostId(@Param("postId") Long postId);
+
+    // 삭제된 게시물의 통계 행 제거
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE ps " +
+            "FROM post_stats ps " +
+            "LEFT JOIN post p ON p.id=ps.post_id " +
+            "WHERE ps.post_id > :fromId " +
+                "AND ps.post_id <= :toId " +
+                "AND p.id IS NULL", nativeQuery = true)
+    int deleteOrphanByPostIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
+}
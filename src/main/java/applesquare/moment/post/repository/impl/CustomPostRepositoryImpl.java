@@ -1,14 +1,19 @@
 package applesquare.moment.post.repository.impl;
 
+import applesquare.moment.file.model.MediaType;
+import applesquare.moment.post.dto.PostLocationDTO;
+import applesquare.moment.post.model.PostStatus;
 import applesquare.moment.post.repository.CustomPostRepository;
+import applesquare.moment.post.service.PostReadService;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
-import static applesquare.moment.file.model.QStorageFile.storageFile;
 import static applesquare.moment.post.model.QPost.post;
 import static applesquare.moment.tag.model.QTag.tag;
 import static applesquare.moment.user.model.QUserInfo.userInfo;
@@ -44,7 +49,7 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
                 .from(post)
                 .leftJoin(post.tags, tag)
                 .leftJoin(post.writer, userInfo)
-                .where(keywordCondition.and(cursorCondition))
+                .where(keywordCondition.and(cursorCondition), post.status.eq(PostStatus.READY))
                 .orderBy(post.id.desc())
                 .limit(size)
                 .fetch();
@@ -72,9 +77,9 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
                 .selectDistinct(post.id)
                 .from(post)
                 .leftJoin(post.tags, tag)
-                .leftJoin(post.files, storageFile)
                 .leftJoin(post.writer, userInfo)
-                .where(storageFile.contentType.startsWith("video")
+                .where(post.status.eq(PostStatus.READY)
+                        .and(post.mediaType.eq(MediaType.VIDEO))
                         .and(
                                 post.content.contains(keyword)
                                         .or(userInfo.nickname.contains(keyword))
@@ -111,7 +116,7 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
                 .from(post)
                 .leftJoin(post.tags, tag)
                 .leftJoin(post.writer, userInfo)
-                .where(keywordCondition.and(cursorCondition))
+                .where(keywordCondition.and(cursorCondition), post.status.eq(PostStatus.READY))
                 .orderBy(post.id.desc())
                 .limit(size)
                 .fetch();
@@ -139,9 +144,9 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
                 .selectDistinct(post.id)
                 .from(post)
                 .leftJoin(post.tags, tag)
-                .leftJoin(post.files, storageFile)
                 .leftJoin(post.writer, userInfo)
-                .where(storageFile.contentType.startsWith("video")
+                .where(post.status.eq(PostStatus.READY)
+                        .and(post.mediaType.eq(MediaType.VIDEO))
                         .and(tag.name.contains(keyword))
                         .and(cursorCondition)
                 )
@@ -149,4 +154,49 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
                 .limit(size)
                 .fetch();
     }
+
+    /**
+     * 지오해시 셀 하나의 주변 게시물 후보 조회
+     * - 조회 조건 : 지오해시 앞부분이 셀과 같은 게시물
+     * - 정렬 기준 : 최신순
+     * (셀 컬럼이 같은 값이므로 (geohash_n, status, id, x, y) 인덱스를 최신순으로 size개만 읽는다.
+     * 정확한 거리 조건은 호출하는 쪽에서 x, y로 다시 확인한다.)
+     *
+     * @param cellPrecision 셀의 지오해시 길이 (NEARBY_FINE_CELL_PRECISION 또는 NEARBY_COARSE_CELL_PRECISION)
+     * @param geohashCell 지오해시 셀
+     * @param cursor 페이지 커서
+     * @param size 페이지 크기
+     * @return 게시물 위치 목록
+     */
+    @Override
+    public List<PostLocationDTO> findNearbyCandidatesInCell(int cellPrecision, String geohashCell, Long cursor, int size){
+        StringPath cellPath;
+        if(cellPrecision==PostReadService.NEARBY_FINE_CELL_PRECISION){
+            cellPath=post.geohash6;
+        }
+        else if(cellPrecision==PostReadService.NEARBY_COARSE_CELL_PRECISION){
+            cellPath=post.geohash5;
+        }
+        else{
+            throw new IllegalArgumentException("지원하지 않는 지오해시 셀 길이입니다. (cellPrecision = "+cellPrecision+")");
+        }
+
+        BooleanExpression cursorCondition=null;
+        if(cursor!=null){
+            cursorCondition=post.id.lt(cursor);
+        }
+
+        return queryFactory
+                .select(Projections.fields(PostLocationDTO.class,
+                        post.id,
+                        post.x,
+                        post.y))
+                .from(post)
+                .where(cellPath.eq(geohashCell),
+                        post.status.eq(PostStatus.READY),
+                        cursorCondition)
+                .orderBy(post.id.desc())
+                .limit(size)
+                .fetch();
+    }
 }
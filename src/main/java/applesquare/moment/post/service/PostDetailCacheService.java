@@ -0,0 +1,13 @@
+package applesquare.moment.post.service;
+
+import applesquare.moment.post.dto.PostDetailReadAllResponseDTO;
+
+public interface PostDetailCacheService {
+    int LOCAL_CACHE_MAX_SIZE=10000;
+    int LOCAL_CACHE_TTL_SECONDS=30;
+    int REDIS_CACHE_TTL_MINUTES=10;
+
+
+    PostDetailReadAllResponseDTO read(Long postId);
+    void evict(Long postId);
+}
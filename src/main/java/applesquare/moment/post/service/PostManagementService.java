@@ -14,6 +14,7 @@ public interface PostManagementService {
     int MAX_FILE_SIZE_MB=100;
     int MAX_FILE_SIZE_BYTES=MAX_FILE_SIZE_MB*1024*1024; // 100MB
     int MAX_TAG_COUNT=10;
+    int GEOHASH_PRECISION=9;  // 약 5m x 5m 셀
 
 
     Long create(PostCreateRequestDTO postCreateRequestDTO) throws Exception;
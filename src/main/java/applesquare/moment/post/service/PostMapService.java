@@ -0,0 +1,21 @@
+package applesquare.moment.post.service;
+
+import applesquare.moment.post.dto.PostMapTileReadResponseDTO;
+
+public interface PostMapService {
+    int MAX_CELL_PRECISION=8;  // 약 38m x 19m 셀
+    int MIN_REFRESH_PRECISION=5;  // 약 4.9km x 4.9km 셀 (이보다 큰 셀은 게시물 테이블에서 대표 게시물을 다시 고르지 않는다.)
+    int MAX_ZOOM=22;
+    int TILE_GRID_SIZE=8;  // 타일 하나를 가로로 약 8개의 셀로 나눠서 묶는다.
+    int REBUILD_BATCH_SIZE=10000;  // 재구성 시 한 번에 읽는 게시물 ID 구간
+
+
+    // 지오해시 셀 카운터 반영
+    void addPost(Long postId, String geohash, Double x, Double y);
+    void removePost(Long postId, String geohash, Double x, Double y);
+    boolean isEmpty();
+    void rebuild();
+
+    // 지도 타일 조회
+    PostMapTileReadResponseDTO readTile(int z, int x, int y);
+}
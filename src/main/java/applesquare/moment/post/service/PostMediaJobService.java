@@ -0,0 +1,20 @@
+package applesquare.moment.post.service;
+
+import applesquare.moment.post.model.PostMediaJob;
+
+import java.util.List;
+
+public interface PostMediaJobService {
+    int MAX_ATTEMPTS=5;
+    long RETRY_BASE_DELAY_SECONDS=30;  // 첫 재시도 대기 시간 (시도할 때마다 2배)
+    long RETRY_MAX_DELAY_SECONDS=60*60;  // 최대 재시도 대기 시간 (1시간)
+    long STALLED_TIMEOUT_SECONDS=15*60;  // 이 시간 동안 끝나지 않은 작업은 멈춘 것으로 보고 다시 대기시킨다.
+
+
+    void enqueue(Long postId, String filename, boolean newPost);
+    List<PostMediaJob> claimDueJobs(int limit);
+    void complete(PostMediaJob claimedJob);
+    void fail(PostMediaJob claimedJob, String error);
+    void releaseStalledJobs();
+    void deleteByPostId(Long postId);
+}
@@ -0,0 +1,101 @@
+package applesquare.moment.post.service;
+
+import applesquare.moment.config.AsyncConfig;
+import applesquare.moment.file.service.FileService;
+import applesquare.moment.post.model.PostMediaJob;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 게시물 미디어 처리 작업자
+ *
+ * 주기적으로 작업 큐를 확인하고, 비어 있는 작업 스레드 수만큼만 작업을 선점해서 처리한다.
+ * (썸네일 생성은 요청 스레드와 DB 트랜잭션 밖에서 진행한다.)
+ */
+@Log4j2
+@Component
+public class PostMediaJobWorker {
+    private final PostMediaJobService postMediaJobService;
+    private final FileService fileService;
+    private final Executor mediaTaskExecutor;
+    private final Semaphore availableWorkers;
+
+
+    public PostMediaJobWorker(PostMediaJobService postMediaJobService,
+                              FileService fileService,
+                              @Qualifier(AsyncConfig.MEDIA_TASK_EXECUTOR) Executor mediaTaskExecutor,
+                              @Value("${applesquare.moment.async.media.pool-size:2}") int mediaPoolSize){
+        this.postMediaJobService=postMediaJobService;
+        this.fileService=fileService;
+        this.mediaTaskExecutor=mediaTaskExecutor;
+        this.availableWorkers=new Semaphore(mediaPoolSize);
+    }
+
+
+    /**
+     * 처리할 차례가 된 작업을 선점해서 작업 스레드에 넘기기
+     */
+    @Scheduled(fixedDelayString = "${applesquare.moment.post-media.poll-interval-ms:1000}")
+    public void poll(){
+        int permits=availableWorkers.drainPermits();
+        if(permits==0) return;
+
+        List<PostMediaJob> claimedJobs;
+        try{
+            claimedJobs=postMediaJobService.claimDueJobs(permits);
+        } catch (Exception e){
+            availableWorkers.release(permits);
+            log.error("게시물 미디어 처리 작업 조회에 실패했습니다. "+e.getMessage());
+            return;
+        }
+        // 선점하지 못한 만큼 작업 스레드 반환
+        availableWorkers.release(permits-claimedJobs.size());
+
+        for(PostMediaJob claimedJob : claimedJobs){
+            try{
+                mediaTaskExecutor.execute(()->{
+                    try{
+                        process(claimedJob);
+                    } finally {
+                        availableWorkers.release();
+                    }
+                });
+            } catch (RejectedExecutionException e){
+                // 서버 종료 중이라면, 멈춘 작업 복구 과정에서 다시 대기 상태가 된다.
+                availableWorkers.release();
+                log.warn("게시물 미디어 처리 작업을 시작하지 못했습니다. (postId = "+claimedJob.getPostId()+")");
+            }
+        }
+    }
+
+    /**
+     * 작업 하나 처리 (썸네일 생성 후 게시물 상태 변경)
+     */
+    private void process(PostMediaJob postMediaJob){
+        try{
+            fileService.createThumbnail(postMediaJob.getFilename());
+        } catch (Exception e){
+            try{
+                postMediaJobService.fail(postMediaJob, e.getMessage());
+            } catch (Exception failException){
+                log.error("게시물 미디어 처리 실패를 기록하지 못했습니다. (postId = "+postMediaJob.getPostId()+") "+failException.getMessage());
+            }
+            return;
+        }
+
+        try{
+            postMediaJobService.complete(postMediaJob);
+        } catch (Exception e){
+            // 완료 처리에 실패했다면, 멈춘 작업 복구 과정에서 다시 시도한다. (썸네일은 덮어쓴다.)
+            log.error("게시물 미디어 처리 완료를 기록하지 못했습니다. (postId = "+postMediaJob.getPostId()+") "+e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package applesquare.moment.post.service;
+
+import applesquare.moment.config.AsyncConfig;
+import applesquare.moment.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * media_type 컬럼이 비어 있는 기존 게시물을 첫 번째 파일의 타입으로 채운다.
+ * (애플리케이션 시작 후 별도 스레드에서 ID 구간 단위로 처리하므로, 서비스 기동을 지연시키지 않는다.)
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class PostMediaTypeBackfill {
+    public static final int BACKFILL_BATCH_SIZE=1000;
+
+    private final PostRepository postRepository;
+
+
+    @Async(AsyncConfig.MAINTENANCE_TASK_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill(){
+        long maxPostId=postRepository.findMaxId();
+
+        int filledCount=0;
+        for(long fromId=0; fromId<maxPostId; fromId+=BACKFILL_BATCH_SIZE){
+            long toId=fromId+BACKFILL_BATCH_SIZE;
+            try{
+                filledCount+=postRepository.fillMediaTypeByIdRange(fromId, toId);
+            } catch (Exception e){
+                // 한 구간이 실패하더라도 다음 구간은 계속 채운다.
+                log.error("게시물 미디어 타입 채우기에 실패했습니다. (range = "+fromId+" ~ "+toId+") "+e.getMessage());
+            }
+        }
+
+        if(filledCount>0){
+            log.info("게시물 미디어 타입 채우기 완료 (filled = "+filledCount+")");
+        }
+    }
+}
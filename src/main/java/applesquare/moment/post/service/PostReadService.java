@@ -6,6 +6,11 @@ import applesquare.moment.post.dto.PostDetailReadAllResponseDTO;
 import applesquare.moment.post.dto.PostThumbnailReadAllResponseDTO;
 
 public interface PostReadService {
+    int DEFAULT_NEARBY_RADIUS_METERS=1000;
+    int MAX_NEARBY_RADIUS_METERS=5000;
+    int NEARBY_FINE_CELL_PRECISION=6;  // 약 1.2km x 0.6km 셀 (좁은 반경)
+    int NEARBY_COARSE_CELL_PRECISION=5;  // 약 4.9km x 4.9km 셀 (넓은 반경)
+
     PostDetailReadAllResponseDTO read(Long postId);
 
     // 추천 게시물 목록 조회
@@ -19,4 +24,8 @@ public interface PostReadService {
     // 특정 유저가 좋아요 누른 게시물 목록 조회
     PageResponseDTO<PostDetailReadAllResponseDTO> readLikedDetailAllByUser(String userId, PageRequestDTO pageRequestDTO);
     PageResponseDTO<PostThumbnailReadAllResponseDTO> readLikedThumbnailAllByUser(String userId, PageRequestDTO pageRequestDTO);
+
+    // 주변 게시물 목록 조회
+    PageResponseDTO<PostDetailReadAllResponseDTO> readNearbyDetailAll(double x, double y, int radius, PageRequestDTO pageRequestDTO);
+    PageResponseDTO<PostThumbnailReadAllResponseDTO> readNearbyThumbnailAll(double x, double y, int radius, PageRequestDTO pageRequestDTO);
 }
@@ -1,22 +1,22 @@
 package applesquare.moment.post.service;
 
 import applesquare.moment.auth.exception.TokenException;
-import applesquare.moment.comment.repository.CommentRepository;
 import applesquare.moment.common.service.SecurityService;
 import applesquare.moment.file.model.MediaType;
 import applesquare.moment.file.model.StorageFile;
 import applesquare.moment.file.service.FileService;
-import applesquare.moment.follow.repository.FollowRepository;
-import applesquare.moment.like.repository.PostLikeRepository;
 import applesquare.moment.post.dto.MomentDetailReadAllResponseDTO;
 import applesquare.moment.post.dto.PostDetailReadAllResponseDTO;
+import applesquare.moment.post.mapper.PostMapper;
 import applesquare.moment.post.model.Post;
+import applesquare.moment.post.model.PostStats;
 import applesquare.moment.tag.repository.TagRepository;
 import applesquare.moment.user.dto.UserProfileReadResponseDTO;
 import applesquare.moment.user.service.UserProfileService;
+import applesquare.moment.viewer.model.ViewerState;
+import applesquare.moment.viewer.service.ViewerStateService;
 import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,10 +30,10 @@ public class PostReadSupport {
     private final UserProfileService userProfileService;
     private final FileService fileService;
     private final TagRepository tagRepository;
-    private final CommentRepository commentRepository;
-    private final PostLikeRepository postLikeRepository;
-    private final FollowRepository followRepository;
-    private final ModelMapper modelMapper;
+    private final ViewerStateService viewerStateService;
+    private final PostStatsService postStatsService;
+    private final PostViewCountService postViewCountService;
+    private final PostMapper postMapper;
 
     /**
      * Post 엔티티 목록을 받아서,
@@ -55,6 +55,18 @@ public class PostReadSupport {
             // 로그인이 필요하지 않으므로 아무런 처리도 하지 않는다.
         }
 
+        return readPostDetailAllByPosts(posts, myUserId);
+    }
+
+    /**
+     * Post 엔티티 목록을 특정 사용자 기준의 게시물 세부사항 DTO 목록으로 변환
+     * (사용자 ID가 null이면, 댓글 작성 여부와 좋아요 여부는 false로 채운다.)
+     *
+     * @param posts Post 엔티티 목록
+     * @param myUserId 조회하는 사용자 ID
+     * @return 게시물 세부사항 DTO 목록
+     */
+    public List<PostDetailReadAllResponseDTO> readPostDetailAllByPosts(List<Post> posts, String myUserId){
         List<Long> postIds=posts.stream().map(post -> post.getId()).toList();
 
         // 태그 목록 조회
@@ -76,38 +88,23 @@ public class PostReadSupport {
             }
         }
 
-        // 댓글 개수 가져오기
-        List<Tuple> postCommentCountTuples=commentRepository.countByPostIds(postIds);
-
-        Map<Long, Long> commentCountMap=new LinkedHashMap<>();
-        for(Tuple tuple : postCommentCountTuples){
-            commentCountMap.put((Long) tuple.get("postId"), (long) tuple.get("commentCount"));
-        }
+        // 댓글, 좋아요 개수 가져오기 (게시물 통계 테이블)
+        Map<Long, PostStats> postStatsMap=postStatsService.readAllByPostIds(postIds);
 
-        // 댓글 작성 여부 가져오기
-        List<Long> commentedPostIds=(myUserId!=null)?
-                commentRepository.findAllCommentedPostIdByPostIdsAndUserId(postIds, myUserId)
-                : new ArrayList<>();
+        // 아직 DB에 반영되지 않은 조회수 가져오기
+        Map<Long, Long> viewCountMap=postViewCountService.readViewCountsByPostIds(postIds);
 
-        // 좋아요 개수 가져오기
-        List<Tuple> postLikeCountTuples=postLikeRepository.countByPostIds(postIds);
-
-        Map<Long, Long> likeCountMap=new LinkedHashMap<>();
-        for(Tuple tuple : postLikeCountTuples){
-            likeCountMap.put((Long)tuple.get("postId"), (long)tuple.get("likeCount"));
-        }
+        // 댓글 작성 여부, 좋아요 여부 확인용 상태 가져오기
+        ViewerState viewerState=viewerStateService.read(myUserId);
 
-        // 좋아요 여부 가져오기
-        List<Long> likedPostIds=(myUserId!=null)?
-                postLikeRepository.findAllLikedPostIdByPostIdsAndUserId(postIds, myUserId)
-                : new ArrayList<>();
+        // 작성자 프로필 한 번에 조회
+        List<String> writerIds=posts.stream().map(post -> post.getWriter().getId()).toList();
+        Map<String, UserProfileReadResponseDTO> writerProfileMap=userProfileService.readProfilesByIds(writerIds);
 
         // DTO 변환
         List<PostDetailReadAllResponseDTO> postDetailReadAllResponseDTOS=posts.stream().map((post)->{
-            // Post 엔티티를 PostDetailReadAllResponseDTO로 매핑
-            PostDetailReadAllResponseDTO postDetailReadAllResponseDTO=modelMapper.map(post, PostDetailReadAllResponseDTO.class);
             // 유저 프로필 조회
-            UserProfileReadResponseDTO writer=userProfileService.readProfileById(post.getWriter().getId());
+            UserProfileReadResponseDTO writer=writerProfileMap.get(post.getWriter().getId());
             // 파일명을 URL로 변환
             List<StorageFile> files=post.getFiles();
             List<String> urls=files.stream().map((storageFile)->
@@ -119,18 +116,18 @@ public class PostReadSupport {
                 mediaType= FileService.convertContentTypeToMediaType(files.get(0).getContentType());
             }
 
-            // DTO 필드 채우기
+            // Post 엔티티를 PostDetailReadAllResponseDTO로 매핑
             Long postId=post.getId();
-            return postDetailReadAllResponseDTO.toBuilder()
-                    .writer(writer)
-                    .tags(postTagsMap.get(postId))
-                    .mediaType(mediaType)
-                    .urls(urls)
-                    .commentCount(commentCountMap.getOrDefault(postId, 0L))
-                    .likeCount(likeCountMap.getOrDefault(postId, 0L))
-                    .isCommented(commentedPostIds.contains(postId))
-                    .isLiked(likedPostIds.contains(postId))
-                    .build();
+            return postMapper.toPostDetailDTO(post,
+                    writer,
+                    postTagsMap.get(postId),
+                    mediaType,
+                    urls,
+                    Math.max(post.getViewCount(), viewCountMap.getOrDefault(postId, 0L)),
+                    postStatsMap.get(postId).getCommentCount(),
+                    postStatsMap.get(postId).getLikeCount(),
+                    viewerState.isCommented(postId),
+                    viewerState.isLiked(postId));
         }).toList();
 
         return postDetailReadAllResponseDTOS;
@@ -157,42 +154,21 @@ public class PostReadSupport {
 
         List<Long> postIds = posts.stream().map(post -> post.getId()).toList();
 
-        // 댓글 개수 가져오기
-        List<Tuple> postCommentCountTuples = commentRepository.countByPostIds(postIds);
-
-        Map<Long, Long> commentCountMap = new LinkedHashMap<>();
-        for (Tuple tuple : postCommentCountTuples) {
-            commentCountMap.put((Long) tuple.get("postId"), (long) tuple.get("commentCount"));
-        }
-
-        // 댓글 작성 여부 가져오기
-        List<Long> commentedPostIds = (myUserId != null) ?
-                commentRepository.findAllCommentedPostIdByPostIdsAndUserId(postIds, myUserId)
-                : new ArrayList<>();
+        // 댓글, 좋아요 개수 가져오기 (게시물 통계 테이블)
+        Map<Long, PostStats> postStatsMap = postStatsService.readAllByPostIds(postIds);
 
-        // 좋아요 개수 가져오기
-        List<Tuple> postLikeCountTuples = postLikeRepository.countByPostIds(postIds);
+        // 댓글 작성 여부, 좋아요 여부, 작성자 팔로우 여부 확인용 상태 가져오기
+        ViewerState viewerState = viewerStateService.read(myUserId);
 
-        Map<Long, Long> likeCountMap = new LinkedHashMap<>();
-        for (Tuple tuple : postLikeCountTuples) {
-            likeCountMap.put((Long) tuple.get("postId"), (long) tuple.get("likeCount"));
-        }
-
-        // 좋아요 여부 가져오기
-        List<Long> likedPostIds = (myUserId != null) ?
-                postLikeRepository.findAllLikedPostIdByPostIdsAndUserId(postIds, myUserId)
-                : new ArrayList<>();
-
-        // 작성자 팔로우 여부 가져오기
         List<String> writerIds = posts.stream().map(post -> post.getWriter().getId()).toList();
-        List<String> followedWriterIds = followRepository.findAllFollowedFolloweeIdByFolloweeIdsAndUserId(writerIds, myUserId);
+
+        // 작성자 프로필 한 번에 조회
+        Map<String, UserProfileReadResponseDTO> writerProfileMap = userProfileService.readProfilesByIds(writerIds);
 
         // DTO 변환
         List<MomentDetailReadAllResponseDTO> momentDetailReadAllResponseDTOS = posts.stream().map((post) -> {
-            // Post 엔티티를 PostDetailReadAllResponseDTO로 매핑
-            MomentDetailReadAllResponseDTO momentDetailReadAllResponseDTO = modelMapper.map(post, MomentDetailReadAllResponseDTO.class);
             // 유저 프로필 조회
-            UserProfileReadResponseDTO writer = userProfileService.readProfileById(post.getWriter().getId());
+            UserProfileReadResponseDTO writer = writerProfileMap.get(post.getWriter().getId());
             // 파일명을 URL로 변환
             List<StorageFile> files = post.getFiles();
             String url = null;
@@ -202,17 +178,16 @@ public class PostReadSupport {
                 }
             }
 
-            // DTO 필드 채우기
+            // Post 엔티티를 MomentDetailReadAllResponseDTO로 매핑
             Long postId = post.getId();
-            return momentDetailReadAllResponseDTO.toBuilder()
-                    .writer(writer)
-                    .url(url)
-                    .isFollowed(followedWriterIds.contains(writer.getId()))
-                    .commentCount(commentCountMap.getOrDefault(postId, 0L))
-                    .likeCount(likeCountMap.getOrDefault(postId, 0L))
-                    .isCommented(commentedPostIds.contains(postId))
-                    .isLiked(likedPostIds.contains(postId))
-                    .build();
+            return postMapper.toMomentDetailDTO(post,
+                    writer,
+                    url,
+                    viewerState.isFollowing(writer.getId()),
+                    postStatsMap.get(postId).getCommentCount(),
+                    postStatsMap.get(postId).getLikeCount(),
+                    viewerState.isCommented(postId),
+                    viewerState.isLiked(postId));
         }).toList();
 
         return momentDetailReadAllResponseDTOS;
@@ -0,0 +1,21 @@
+package applesquare.moment.post.service;
+
+import applesquare.moment.post.model.PostStats;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface PostStatsService {
+    int RECONCILE_BATCH_SIZE=1000;
+
+
+    void create(Long postId);
+    void delete(Long postId);
+
+    void addLikeCount(Long postId, long delta);
+    void addCommentCount(Long postId, long delta);
+
+    Map<Long, PostStats> readAllByPostIds(Collection<Long> postIds);
+
+    void reconcile();
+}
@@ -0,0 +1,16 @@
+package applesquare.moment.post.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface PostViewCountService {
+    long VIEW_COUNT_TTL_HOURS=24;
+    int FLUSH_BATCH_SIZE=1000;
+    String DIRTY_SET_KEY="posts";
+
+
+    long increment(Long postId, long increment);
+    Map<Long, Long> readViewCountsByPostIds(Collection<Long> postIds);
+    void evict(Long postId);
+    void flush();
+}
@@ -9,6 +9,7 @@ import applesquare.moment.post.model.Post;
 import applesquare.moment.post.repository.PostRepository;
 import applesquare.moment.post.service.MomentReadService;
 import applesquare.moment.post.service.PostReadSupport;
+import applesquare.moment.post.service.PostViewCountService;
 import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -18,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional
@@ -26,6 +28,7 @@ public class MomentReadServiceImpl implements MomentReadService {
     private final PostReadSupport postReadSupport;
     private final PostRepository postRepository;
     private final FileService fileService;
+    private final PostViewCountService postViewCountService;
 
 
     /**
@@ -131,13 +134,18 @@ public class MomentReadServiceImpl implements MomentReadService {
             hasNext = true;
         }
 
+        // 아직 DB에 반영되지 않은 조회수 가져오기
+        List<Long> postIds = tuples.stream().map(tuple -> (Long) tuple.get("postId")).toList();
+        Map<Long, Long> viewCountMap = postViewCountService.readViewCountsByPostIds(postIds);
+
         // DTO 변환
         List<MomentThumbnailReadAllResponseDTO> momentThumbnailReadAllResponseDTOS = tuples.stream().map((tuple) -> {
             String thumbFilename = fileService.convertFilenameToThumbFilename((String) tuple.get("filename"));
+            Long postId = (Long) tuple.get("postId");
             return MomentThumbnailReadAllResponseDTO.builder()
-                    .id((Long) tuple.get("postId"))
+                    .id(postId)
                     .url(fileService.convertFilenameToUrl(thumbFilename))
-                    .viewCount((long) tuple.get("viewCount"))
+                    .viewCount(Math.max((long) tuple.get("viewCount"), viewCountMap.getOrDefault(postId, 0L)))
                     .build();
         }).toList();
 
@@ -7,6 +7,8 @@ import applesquare.moment.post.model.Post;
 import applesquare.moment.post.repository.PostRepository;
 import applesquare.moment.post.service.MomentSearchService;
 import applesquare.moment.post.service.PostReadSupport;
+import applesquare.moment.search.model.PostSearchMode;
+import applesquare.moment.search.service.PostSearchResultCacheService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +21,7 @@ import java.util.List;
 public class MomentSearchServiceImpl implements MomentSearchService {
     private final PostReadSupport postReadSupport;
     private final PostRepository postRepository;
+    private final PostSearchResultCacheService postSearchResultCacheService;
 
 
     /**
@@ -45,8 +48,8 @@ public class MomentSearchServiceImpl implements MomentSearchService {
             cursor=Long.parseLong(pageRequestDTO.getCursor());
         }
 
-        // 키워드로 모먼트 검색 (내용, 작성자, 태그 검색)
-        List<Long> postIds=postRepository.searchMomentIdsByKeyword(keyword, cursor, pageSize);
+        // 키워드로 모먼트 검색 (내용, 작성자, 태그 검색 / 짧은 시간 동안 캐싱된 결과 사용)
+        List<Long> postIds=postSearchResultCacheService.searchPostIds(PostSearchMode.MOMENT_KEYWORD, keyword, cursor, pageSize);
 
         // hasNext 설정
         boolean hasNext=false;
@@ -90,8 +93,8 @@ public class MomentSearchServiceImpl implements MomentSearchService {
             cursor=Long.parseLong(pageRequestDTO.getCursor());
         }
 
-        // 태그로 모먼트 검색
-        List<Long> postIds=postRepository.searchMomentIdsByTag(keyword, cursor, pageSize);
+        // 태그로 모먼트 검색 (짧은 시간 동안 캐싱된 결과 사용)
+        List<Long> postIds=postSearchResultCacheService.searchPostIds(PostSearchMode.MOMENT_TAG, keyword, cursor, pageSize);
 
         // hasNext 설정
         boolean hasNext=false;
@@ -0,0 +1,123 @@
+package applesquare.moment.post.service.impl;
+
+import applesquare.moment.post.dto.PostDetailReadAllResponseDTO;
+import applesquare.moment.post.model.Post;
+import applesquare.moment.post.repository.PostRepository;
+import applesquare.moment.post.service.PostDetailCacheService;
+import applesquare.moment.post.service.PostReadSupport;
+import applesquare.moment.redis.model.RedisKeyType;
+import applesquare.moment.redis.repository.RedisRepository;
+import applesquare.moment.util.JsonUtil;
+import applesquare.moment.util.TransactionUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 세부사항 2단계 캐시
+ * - L1 : 서버 내부 로컬 캐시 (Caffeine, 짧은 TTL)
+ * - L2 : Redis (JSON, 서버 간 공유)
+ *
+ * 조회하는 사용자와 무관한 정보만 캐시한다. (댓글 작성 여부, 좋아요 여부는 항상 false)
+ * 같은 게시물에 대한 동시 요청은 L1 로더 하나로 합쳐지므로, 캐시가 비어있어도 DB 조회는 한 번만 일어난다.
+ */
+@Log4j2
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PostDetailCacheServiceImpl implements PostDetailCacheService {
+    private final PostRepository postRepository;
+    private final PostReadSupport postReadSupport;
+    private final RedisRepository redisRepository;
+    private final Cache<Long, PostDetailReadAllResponseDTO> localCache=Caffeine.newBuilder()
+            .maximumSize(LOCAL_CACHE_MAX_SIZE)
+            .expireAfterWrite(LOCAL_CACHE_TTL_SECONDS, TimeUnit.SECONDS)
+            .build();
+
+
+    /**
+     * 게시물 세부사항 조회 (L1 → L2 → DB)
+     * @param postId 게시물 ID
+     * @return 조회하는 사용자와 무관한 게시물 세부사항
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PostDetailReadAllResponseDTO read(Long postId){
+        return localCache.get(postId, this::readFromRedisOrLoad);
+    }
+
+    /**
+     * 게시물 세부사항 캐시 제거
+     * (현재 트랜잭션이 커밋되기 전에 다시 캐시되는 것을 막기 위해, 커밋 이후에 한 번 더 제거한다.)
+     *
+     * @param postId 게시물 ID
+     */
+    @Override
+    public void evict(Long postId){
+        evictNow(postId);
+        TransactionUtil.afterCommit(()-> evictNow(postId));
+    }
+
+
+    /**
+     * Redis에서 게시물 세부사항 조회
+     * (Redis에 없으면, DB에서 조회한 후 Redis에 저장)
+     *
+     * @param postId 게시물 ID
+     * @return 게시물 세부사항
+     */
+    private PostDetailReadAllResponseDTO readFromRedisOrLoad(Long postId){
+        String key=String.valueOf(postId);
+        try{
+            Object json=redisRepository.get(RedisKeyType.POST_DETAIL, key);
+            if(json!=null){
+                return JsonUtil.fromJson(json.toString(), PostDetailReadAllResponseDTO.class);
+            }
+        } catch (DataAccessException e){
+            log.warn("Redis 게시물 캐시 조회에 실패했습니다. (id = "+postId+") "+e.getMessage());
+        }
+
+        PostDetailReadAllResponseDTO postDetailDTO=load(postId);
+
+        try{
+            redisRepository.saveWithTTL(RedisKeyType.POST_DETAIL, key, JsonUtil.toJson(postDetailDTO), REDIS_CACHE_TTL_MINUTES, TimeUnit.MINUTES);
+        } catch (DataAccessException e){
+            log.warn("Redis 게시물 캐시 저장에 실패했습니다. (id = "+postId+") "+e.getMessage());
+        }
+        return postDetailDTO;
+    }
+
+    /**
+     * DB에서 게시물 세부사항 조회
+     * @param postId 게시물 ID
+     * @return 게시물 세부사항
+     */
+    private PostDetailReadAllResponseDTO load(Long postId){
+        Post post=postRepository.findById(postId)
+                .orElseThrow(()-> new EntityNotFoundException("존재하지 않는 게시글입니다. (id = "+postId+")"));
+
+        // 조회하는 사용자와 무관하게 게시물 세부사항 구성
+        return postReadSupport.readPostDetailAllByPosts(List.of(post), null).get(0);
+    }
+
+    /**
+     * L1, L2 캐시에서 즉시 제거
+     * @param postId 게시물 ID
+     */
+    private void evictNow(Long postId){
+        localCache.invalidate(postId);
+        try{
+            redisRepository.delete(RedisKeyType.POST_DETAIL, String.valueOf(postId));
+        } catch (DataAccessException e){
+            log.warn("Redis 게시물 캐시 삭제에 실패했습니다. (id = "+postId+") "+e.getMessage());
+        }
+    }
+}
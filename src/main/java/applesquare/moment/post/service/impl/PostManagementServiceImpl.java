@@ -9,25 +9,40 @@ import applesquare.moment.file.repository.StorageFileRepository;
 import applesquare.moment.file.service.FileService;
 import applesquare.moment.post.dto.PostCreateRequestDTO;
 import applesquare.moment.post.dto.PostUpdateRequestDTO;
+import applesquare.moment.post.event.PostDeletedEvent;
+import applesquare.moment.post.event.PostUpdatedEvent;
 import applesquare.moment.post.model.Post;
+import applesquare.moment.post.model.PostStatus;
 import applesquare.moment.post.repository.PostRepository;
+import applesquare.moment.post.service.PostDetailCacheService;
 import applesquare.moment.post.service.PostManagementService;
+import applesquare.moment.post.service.PostMediaJobService;
+import applesquare.moment.post.service.PostMapService;
+import applesquare.moment.post.service.PostStatsService;
+import applesquare.moment.post.service.PostViewCountService;
 import applesquare.moment.tag.model.Tag;
+import applesquare.moment.tag.service.PopularTagService;
 import applesquare.moment.tag.service.TagService;
+import applesquare.moment.tag.service.TagSuggestionService;
 import applesquare.moment.user.model.UserInfo;
 import applesquare.moment.user.repository.UserInfoRepository;
+import applesquare.moment.util.GeoHashUtil;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Log4j2
@@ -42,7 +57,15 @@ public class PostManagementServiceImpl implements PostManagementService {
     private final SecurityService securityService;
     private final FileService fileService;
     private final TagService tagService;
+    private final TagSuggestionService tagSuggestionService;
+    private final PopularTagService popularTagService;
     private final AddressService addressService;
+    private final PostStatsService postStatsService;
+    private final PostViewCountService postViewCountService;
+    private final PostDetailCacheService postDetailCacheService;
+    private final PostMapService postMapService;
+    private final PostMediaJobService postMediaJobService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     // 허용되는 MIME 타입 이미지 목록
@@ -108,20 +131,8 @@ public class PostManagementServiceImpl implements PostManagementService {
         // 첨부파일 처리
         List<StorageFile> storageFiles=new LinkedList<>();
         try{
-            for(int i=0;i<files.size();i++){
-                MultipartFile file=files.get(i);
-
-                // 저장소에 파일 저장
-                StorageFile storageFile=fileService.upload(file, writer);
-
-                // 첫번째 파일이면, 저장소에 썸네일 파일 저장
-                if(i==0){
-                    fileService.uploadThumbnail(file, storageFile.getFilename(), writer);
-                }
-
-                // StorageFile 엔티티 생성
-                storageFiles.add(storageFile);
-            }
+            // 저장소에 파일 저장 (동시에 전송하고, 하나라도 실패하면 모두 삭제된다.)
+            storageFiles.addAll(fileService.uploadAll(files, writer));
 
             // Post 엔티티 생성
             Post post=Post.builder()
@@ -131,6 +142,9 @@ public class PostManagementServiceImpl implements PostManagementService {
                     .address(addressName)
                     .x(x)
                     .y(y)
+                    .geohash(toGeohash(x, y))
+                    .mediaType(FileService.convertContentTypeToMediaType(storageFiles.get(0).getContentType()))
+                    .status(PostStatus.PROCESSING)
                     .files(storageFiles)
                     .tags(tags)
                     .build();
@@ -138,6 +152,16 @@ public class PostManagementServiceImpl implements PostManagementService {
             // DB 저장
             Post result=postRepository.save(post);
 
+            // 썸네일 생성 작업 등록 (작업이 끝나면 게시물이 READY로 바뀌고, 타임라인 전파와 검색 색인이 진행된다.)
+            postMediaJobService.enqueue(result.getId(), storageFiles.get(0).getFilename(), true);
+
+            // 게시물 통계 생성
+            postStatsService.create(result.getId());
+
+            // 태그 사용 횟수 반영
+            changeTagUsage(result.getRegDate(), List.of(), tags.stream().map(Tag::getId).toList());
+            // (지도 셀 카운터는 미디어 처리가 끝나서 READY로 바뀔 때 반영한다.)
+
             // 리소스 ID 반환
             return result.getId();
 
@@ -147,9 +171,7 @@ public class PostManagementServiceImpl implements PostManagementService {
             try{
                 // 저장소에 업로드한 파일 삭제
                 for(StorageFile storageFile : storageFiles){
-                    String uploadedFilename=storageFile.getFilename();
-                    fileService.delete(uploadedFilename);
-                    fileService.deleteThumbnail(uploadedFilename);
+                    fileService.delete(storageFile.getFilename());
                 }
             } catch (IOException ioException){
                 // 만약 삭제하는 것도 실패했다면, 로그를 남긴다.
@@ -176,6 +198,7 @@ public class PostManagementServiceImpl implements PostManagementService {
         UserInfo oldWriter=oldPost.getWriter();
         List<StorageFile> oldStorageFiles=oldPost.getFiles();
         List<Tag> oldTags=oldPost.getTags();
+        List<Long> oldTagIds=oldTags.stream().map(Tag::getId).toList();
 
         // 권한 검사
         String userId= securityService.getUserId();
@@ -251,6 +274,10 @@ public class PostManagementServiceImpl implements PostManagementService {
 
         // 위치 정보 등록하기
         String address=postUpdateRequestDTO.getAddress();
+        String oldGeohash=oldPost.getGeohash();
+        PostStatus oldStatus=oldPost.getStatus();
+        Double oldX=oldPost.getX();
+        Double oldY=oldPost.getY();
         String newAddress=oldPost.getAddress();
         Double newX=oldPost.getX();
         Double newY=oldPost.getY();
@@ -269,29 +296,21 @@ public class PostManagementServiceImpl implements PostManagementService {
         StorageFile oldFirstFile=null;
         try{
             if(files!=null){
-                for(int i=0;i<files.size();i++){
-                    MultipartFile file=files.get(i);
-
-                    // 저장소에 새로운 파일 저장
-                    StorageFile storageFile=fileService.upload(file, oldWriter);
-
-                    // 기존 파일이 모두 삭제되고 새로운 파일이 첫번째 파일이 되었다면,
-                    if(i==0 && (urls==null || urls.size()==0)){
-                        // 저장소에 썸네일 파일 업로드
-                        fileService.uploadThumbnail(file, storageFile.getFilename(), oldWriter);
-
-                        // 기존 썸네일 파일명 가져오기 (게시글 수정 작업이 성공한 후에 삭제)
-                        if(oldStorageFiles.size()>0){
-                            oldFirstFile=oldStorageFiles.get(0);
-                        }
-                    }
-
-                    // StorageFile 엔티티 생성
+                // 저장소에 새로운 파일 저장 (동시에 전송하고, 하나라도 실패하면 모두 삭제된다.)
+                for(StorageFile storageFile : fileService.uploadAll(files, oldWriter)){
                     uploadFilenames.add(storageFile.getFilename());
                     newStorageFiles.add(storageFile);
                 }
             }
 
+            // 첫번째 파일이 바뀌었다면, 썸네일을 다시 만들어야 한다.
+            String newFirstFilename=newStorageFiles.get(0).getFilename();
+            boolean firstFileChanged=oldStorageFiles.isEmpty() || !oldStorageFiles.get(0).getFilename().equals(newFirstFilename);
+            if(firstFileChanged && !oldStorageFiles.isEmpty()){
+                // 기존 썸네일 파일명 가져오기 (게시글 수정 작업이 성공한 후에 삭제)
+                oldFirstFile=oldStorageFiles.get(0);
+            }
+
             // 일부 필드를 변경한 새로운 Post 엔티티 생성
             String newContent=(postUpdateRequestDTO.getContent()!=null)? postUpdateRequestDTO.getContent() : oldPost.getContent();
             Post newPost=oldPost.toBuilder()
@@ -299,6 +318,9 @@ public class PostManagementServiceImpl implements PostManagementService {
                     .address(newAddress)
                     .x(newX)
                     .y(newY)
+                    .geohash(toGeohash(newX, newY))
+                    .mediaType(FileService.convertContentTypeToMediaType(newStorageFiles.get(0).getContentType()))
+                    .status(firstFileChanged? PostStatus.PROCESSING : oldStatus)
                     .files(newStorageFiles)
                     .tags(newTags)
                     .build();
@@ -306,6 +328,31 @@ public class PostManagementServiceImpl implements PostManagementService {
             // DB 저장
             postRepository.save(newPost);
 
+            // 썸네일 생성 작업 등록 (작업이 끝나면 게시물이 다시 READY로 바뀐다.)
+            if(firstFileChanged){
+                postMediaJobService.enqueue(postId, newFirstFilename, false);
+            }
+
+            // 게시물 세부사항 캐시 제거
+            postDetailCacheService.evict(postId);
+
+            // 태그 사용 횟수 반영
+            changeTagUsage(oldPost.getRegDate(), oldTagIds, newTags.stream().map(Tag::getId).toList());
+
+            // 위치나 상태가 바뀌었다면 지도 셀 카운터 반영 (지도에는 READY인 게시물만 표시)
+            boolean wasOnMap=oldStatus==PostStatus.READY;
+            boolean isOnMap=newPost.getStatus()==PostStatus.READY;
+            boolean sameGeohash=Objects.equals(oldGeohash, newPost.getGeohash());
+            if(wasOnMap && !(isOnMap && sameGeohash)){
+                postMapService.removePost(postId, oldGeohash, oldX, oldY);
+            }
+            if(isOnMap && !(wasOnMap && sameGeohash)){
+                postMapService.addPost(postId, newPost.getGeohash(), newPost.getX(), newPost.getY());
+            }
+
+            // 게시물 수정 이벤트 발행 (커밋 이후 검색 색인 갱신)
+            eventPublisher.publishEvent(new PostUpdatedEvent(postId, oldWriter.getId()));
+
         } catch(Exception exception){
             // 만약 게시글을 수정하던 도중 문제가 생긴다면, 저장소에 업로드한 파일을 삭제해야 한다.
             log.error(exception.getMessage());
@@ -313,7 +360,6 @@ public class PostManagementServiceImpl implements PostManagementService {
                 // 저장소에 새로 업로드한 파일 삭제
                 for(String uploadFilename : uploadFilenames){
                     fileService.delete(uploadFilename);
-                    fileService.deleteThumbnail(uploadFilename);
                 }
             } catch (IOException ioException){
                 // 만약 삭제하는 것도 실패했다면, 로그를 남긴다.
@@ -369,6 +415,7 @@ public class PostManagementServiceImpl implements PostManagementService {
 
         // 게시글 종속 엔티티 삭제 (태그)
         List<Tag> tags=post.getTags();
+        changeTagUsage(post.getRegDate(), tags.stream().map(Tag::getId).toList(), List.of());
         tagService.deleteUnreferencedTags(tags);
 
         // 첨부파일 삭제
@@ -380,12 +427,33 @@ public class PostManagementServiceImpl implements PostManagementService {
 
             // 첫번째 파일이면, 썸네일 파일도 함께 삭제
             if(i==0){
-                fileService.deleteThumbnail(filename);
+                try{
+                    fileService.deleteThumbnail(filename);
+                } catch (FileNotFoundException e){
+                    // 미디어 처리가 끝나지 않은 게시물은 썸네일이 없을 수 있다.
+                    if(post.getStatus()==PostStatus.READY) throw e;
+                }
             }
         }
 
+        // 남아 있는 미디어 처리 작업 삭제
+        postMediaJobService.deleteByPostId(postId);
+
         // 게시글 삭제
         postRepository.deleteById(postId);
+
+        // 지도 셀 카운터 반영 (READY인 게시물만 지도에 포함되어 있다.)
+        if(post.getStatus()==PostStatus.READY){
+            postMapService.removePost(postId, post.getGeohash(), post.getX(), post.getY());
+        }
+
+        // 게시물 통계 삭제
+        postStatsService.delete(postId);
+        postViewCountService.evict(postId);
+        postDetailCacheService.evict(postId);
+
+        // 게시물 삭제 이벤트 발행 (커밋 이후 타임라인에서 제거)
+        eventPublisher.publishEvent(new PostDeletedEvent(postId, post.getWriter().getId()));
     }
 
 
@@ -400,25 +468,43 @@ public class PostManagementServiceImpl implements PostManagementService {
         return post.getWriter().getId().equals(userId);
     }
 
+    /**
+     * 게시글 조회수 증가
+     * (Redis에 누적한 뒤 주기적으로 DB에 일괄 반영한다.)
+     *
+     * @param postId 게시글 ID
+     * @param increment 증가량
+     * @return 증가한 게시글 조회수
+     */
     @Override
     public long incrementViewCount(Long postId, long increment){
-        // Post 엔티티 가져오기
-        Post oldPost=postRepository.findById(postId)
-                .orElseThrow(()-> new EntityNotFoundException("존재하지 않는 게시글입니다. (id = "+postId+")"));
-
-        // 조회수 올리기
-        long newViewCount=oldPost.getViewCount()+1;
-        Post newPost=oldPost.toBuilder()
-                .viewCount(newViewCount)
-                .build();
+        return postViewCountService.increment(postId, increment);
+    }
 
-        // 변경사항 저장
-        postRepository.save(newPost);
 
-        // 증가한 게시글 조회수 반환
-        return newViewCount;
+    /**
+     * 게시물의 태그 변경에 따른 태그 사용 횟수 반영 (태그 추천 색인, 실시간 인기 태그)
+     *
+     * @param postRegDate 게시물 등록 시각
+     * @param oldTagIds 기존 태그 ID 목록
+     * @param newTagIds 새로운 태그 ID 목록
+     */
+    private void changeTagUsage(LocalDateTime postRegDate, List<Long> oldTagIds, List<Long> newTagIds){
+        tagSuggestionService.changeUsage(oldTagIds, newTagIds);
+        popularTagService.changeUsage(postRegDate, oldTagIds, newTagIds);
     }
 
+    /**
+     * 게시물 위치의 지오해시 계산 (주변 게시물 조회용)
+     *
+     * @param x 경도
+     * @param y 위도
+     * @return 지오해시 (위치 정보가 없다면 null)
+     */
+    private String toGeohash(Double x, Double y){
+        if(x==null || y==null) return null;
+        return GeoHashUtil.encode(x, y, GEOHASH_PRECISION);
+    }
 
     /**
      * 게시글 등록의 입력으로 들어온 파일이
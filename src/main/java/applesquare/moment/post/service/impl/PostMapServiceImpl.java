@@ -0,0 +1,482 @@
+package applesquare.moment.post.service.impl;
+
+import applesquare.moment.file.service.FileService;
+import applesquare.moment.post.dto.PostMapClusterDTO;
+import applesquare.moment.post.dto.PostMapTileReadResponseDTO;
+import applesquare.moment.post.model.PostGeoCell;
+import applesquare.moment.post.repository.PostGeoCellRepository;
+import applesquare.moment.post.repository.PostRepository;
+import applesquare.moment.post.service.PostMapService;
+import applesquare.moment.util.GeoHashUtil;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시물 지도 서비스
+ *
+ * 게시물 지오해시의 접두사(길이 1 ~ MAX_CELL_PRECISION)마다 게시물 개수와 위치 합계를 미리 집계해두고,
+ * 게시물이 READY로 바뀌거나 수정/삭제될 때 해당 셀들의 카운터만 증감한다.
+ * (미디어 처리가 끝나지 않은 게시물은 썸네일이 없으므로 지도에 포함하지 않는다.)
+ * 지도 타일 조회 시에는 타일 크기에 맞는 길이의 셀 카운터만 읽으므로, 게시물 테이블을 읽지 않는다.
+ *
+ * 셀 카운터를 증감하는 트랜잭션은 끝날 때까지 재구성 잠금(읽기)을 잡는다.
+ * 재구성은 구간을 읽기 시작할 때와 테이블을 교체할 때만 잠금(쓰기)을 잡으므로,
+ * 증감마다 재구성이 이미 읽은 게시물인지 정확히 알 수 있고, 교체 직전에 그 증감을 재구성 테이블에 다시 반영한다.
+ */
+@Log4j2
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PostMapServiceImpl implements PostMapService {
+    private static final String CELL_TABLE="post_geo_cell";
+    private static final String REBUILD_TABLE="post_geo_cell_rebuild";  // 재구성 중인 셀 테이블
+    private static final String OLD_TABLE="post_geo_cell_old";  // 교체된 셀 테이블
+    private static final long NOT_REBUILDING=-1;
+    private static final int SWAP_LOCK_WAIT_SECONDS=10;  // 테이블 교체 시 다른 트랜잭션을 기다리는 최대 시간
+
+    private final PostGeoCellRepository postGeoCellRepository;
+    private final PostRepository postRepository;
+    private final FileService fileService;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReentrantReadWriteLock rebuildLock=new ReentrantReadWriteLock(true);
+    private final AtomicBoolean rebuilding=new AtomicBoolean(false);
+    private volatile long scannedUpTo=NOT_REBUILDING;  // 재구성이 읽기 시작한 게시물 ID 구간의 끝
+    private final Queue<CellDelta> pendingDeltas=new ConcurrentLinkedQueue<>();  // 재구성 테이블에 다시 반영할 증감
+
+
+    /**
+     * 게시물 위치를 셀 카운터에 추가
+     *
+     * @param postId 게시물 ID
+     * @param geohash 게시물 지오해시 (위치 정보가 없다면 null)
+     * @param x 게시물 경도
+     * @param y 게시물 위도
+     */
+    @Override
+    public void addPost(Long postId, String geohash, Double x, Double y){
+        if(geohash==null || x==null || y==null) return;
+
+        applyDelta(new CellDelta(postId, geohash, x, y, true), () -> {
+            for(String cell : cellsOf(geohash)){
+                postGeoCellRepository.addPost(cell, x, y, postId);
+            }
+        });
+    }
+
+    /**
+     * 게시물 위치를 셀 카운터에서 제거
+     * (게시물 행을 수정/삭제한 다음에 호출해야 대표 게시물을 올바르게 다시 고를 수 있다.)
+     *
+     * 제거한 게시물이 대표 게시물이었다면, MIN_REFRESH_PRECISION 이상의 셀만 게시물 테이블에서 다시 고른다.
+     * (큰 셀은 접두사 구간이 게시물 테이블의 대부분을 차지하므로,
+     *  같은 경로의 MIN_REFRESH_PRECISION 셀의 대표 게시물을 대신 사용하고 최신 게시물은 재구성 시 다시 고른다.)
+     *
+     * @param postId 게시물 ID
+     * @param geohash 게시물 지오해시 (위치 정보가 없다면 null)
+     * @param x 게시물 경도
+     * @param y 게시물 위도
+     */
+    @Override
+    public void removePost(Long postId, String geohash, Double x, Double y){
+        if(geohash==null || x==null || y==null) return;
+
+        applyDelta(new CellDelta(postId, geohash, x, y, false), () -> {
+            List<String> cells=cellsOf(geohash);
+            postGeoCellRepository.removePost(cells, x, y);
+
+            int refreshFrom=Math.min(MIN_REFRESH_PRECISION, cells.size());
+            List<String> fineCells=cells.subList(refreshFrom-1, cells.size());
+            List<String> coarseCells=cells.subList(0, refreshFrom-1);
+            postGeoCellRepository.refreshLatestPostId(fineCells, postId);
+            if(!coarseCells.isEmpty()){
+                Long latestPostId=postGeoCellRepository.findLatestPostIdByGeohash(fineCells.get(0));
+                postGeoCellRepository.replaceLatestPostId(coarseCells, postId, latestPostId);
+            }
+            postGeoCellRepository.deleteEmptyCells(cells);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isEmpty(){
+        return postGeoCellRepository.count()==0;
+    }
+
+    /**
+     * 게시물 테이블에서 셀 카운터 전체 재구성
+     * (증감 반영 중에 어긋난 카운터를 보정한다.)
+     *
+     * 별도 테이블에 게시물 ID 구간 단위로 집계한 다음, RENAME으로 한 번에 교체한다.
+     * 게시물은 잠금 없는 일관된 읽기로 읽고 구간마다 따로 커밋하므로, 재구성하는 동안에도
+     * 게시물 수정과 셀 카운터 증감이 긴 트랜잭션을 기다리지 않는다.
+     * 이미 읽은 구간의 게시물에서 커밋된 증감은 기록해두었다가, 교체 직전에 재구성 테이블에 다시 반영한다.
+     */
+    @Override
+    @Scheduled(cron = "${applesquare.moment.post-map.rebuild-cron:0 50 4 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuild(){
+        if(!rebuilding.compareAndSet(false, true)){
+            log.info("게시물 지도 셀 재구성이 이미 진행 중입니다.");
+            return;
+        }
+
+        try{
+            jdbcTemplate.execute("DROP TABLE IF EXISTS "+REBUILD_TABLE);
+            jdbcTemplate.execute("CREATE TABLE "+REBUILD_TABLE+" LIKE "+CELL_TABLE);
+
+            long fromId=0;
+            long maxPostId=postRepository.findMaxId();
+            while(fromId<maxPostId){
+                long toId=fromId+REBUILD_BATCH_SIZE;
+                aggregateCells(fromId, toId);
+                fromId=toId;
+
+                // 재구성하는 동안 생성된 게시물까지 포함
+                if(fromId>=maxPostId) maxPostId=postRepository.findMaxId();
+            }
+            replayDeltas();
+
+            // 증감을 잠시 멈추고 남은 게시물과 증감을 반영한 다음, 재구성한 테이블로 교체
+            rebuildLock.writeLock().lock();
+            try{
+                maxPostId=postRepository.findMaxId();
+                while(fromId<maxPostId){
+                    long toId=fromId+REBUILD_BATCH_SIZE;
+                    aggregateCells(fromId, toId);
+                    fromId=toId;
+                }
+                replayDeltas();
+
+                jdbcTemplate.execute("DROP TABLE IF EXISTS "+OLD_TABLE);
+                swapTables();
+            } finally {
+                scannedUpTo=NOT_REBUILDING;
+                rebuildLock.writeLock().unlock();
+            }
+            jdbcTemplate.execute("DROP TABLE "+OLD_TABLE);
+
+            log.info("게시물 지도 셀 재구성 완료 (cells = "+postGeoCellRepository.count()+")");
+        } catch (DataAccessException e){
+            // 기존 셀 테이블은 그대로 사용한다.
+            log.error("게시물 지도 셀 재구성에 실패했습니다. "+e.getMessage());
+        } finally {
+            scannedUpTo=NOT_REBUILDING;
+            pendingDeltas.clear();
+            rebuilding.set(false);
+        }
+    }
+
+
+    /**
+     * 지도 타일(z/x/y) 안의 게시물 묶음 조회
+     * (타일 하나를 가로로 약 TILE_GRID_SIZE개의 셀로 나누고, 셀마다 게시물 개수와 대표 썸네일을 반환한다.)
+     *
+     * @param z 줌 레벨 (0 ~ MAX_ZOOM)
+     * @param x 타일 열 번호 (0 ~ 2^z-1)
+     * @param y 타일 행 번호 (0 ~ 2^z-1)
+     * @return 타일 안의 게시물 묶음
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PostMapTileReadResponseDTO readTile(int z, int x, int y){
+        // 입력 형식 검사
+        if(z<0 || z>MAX_ZOOM){
+            throw new IllegalArgumentException("줌 레벨은 0 ~ "+MAX_ZOOM+" 사이여야 합니다.");
+        }
+        long tileCount=1L<<z;
+        if(x<0 || x>=tileCount || y<0 || y>=tileCount){
+            throw new IllegalArgumentException("타일 번호는 0 ~ "+(tileCount-1)+" 사이여야 합니다.");
+        }
+
+        // 타일의 경계 (웹 메르카토르)
+        double minX=x*360.0/tileCount-180;
+        double maxX=(x+1)*360.0/tileCount-180;
+        double maxY=tileLatitude(y, tileCount);
+        double minY=tileLatitude(y+1, tileCount);
+
+        // 타일 너비에 맞는 셀 길이 (셀 가로 길이가 타일 너비의 1/TILE_GRID_SIZE 이상인 가장 긴 지오해시)
+        int precision=1;
+        for(int candidate=MAX_CELL_PRECISION; candidate>=1; candidate--){
+            if(GeoHashUtil.cellWidthDegrees(candidate)>=(maxX-minX)/TILE_GRID_SIZE){
+                precision=candidate;
+                break;
+            }
+        }
+
+        // 타일을 덮는 접두사마다 셀 카운터 조회
+        // (셀은 위치 평균이 속한 타일 하나에만 포함시켜서, 이웃 타일과 중복으로 세지 않는다.)
+        Set<String> prefixes=new LinkedHashSet<>();
+        for(String cell : GeoHashUtil.coverCells(minX, maxX, minY, maxY, precision)){
+            prefixes.add(cell.length()>precision ? cell.substring(0, precision) : cell);
+        }
+        List<PostGeoCell> cells=new ArrayList<>();
+        for(String prefix : prefixes){
+            for(PostGeoCell cell : postGeoCellRepository.findAllByPrecisionAndPrefix(precision, prefix)){
+                if(cell.getPostCount()<=0) continue;
+                double centerX=cell.getSumX()/cell.getPostCount();
+                double centerY=cell.getSumY()/cell.getPostCount();
+                if(centerX>=minX && centerX<maxX && centerY>=minY && centerY<maxY){
+                    cells.add(cell);
+                }
+            }
+        }
+
+        // 대표 게시물 썸네일 조회
+        Map<Long, String> thumbnails=new HashMap<>();
+        List<Long> latestPostIds=cells.stream()
+                .map(PostGeoCell::getLatestPostId)
+                .filter(Objects::nonNull)
+                .toList();
+        if(!latestPostIds.isEmpty()){
+            for(Tuple tuple : postRepository.findAllByPostIdsWithFirstFile(latestPostIds)){
+                String thumbFilename=fileService.convertFilenameToThumbFilename((String) tuple.get("filename"));
+                thumbnails.put((Long) tuple.get("postId"), fileService.convertFilenameToUrl(thumbFilename));
+            }
+        }
+
+        // DTO 변환
+        List<PostMapClusterDTO> clusters=cells.stream()
+                .sorted(Comparator.comparingLong(PostGeoCell::getPostCount).reversed())
+                .map(cell -> PostMapClusterDTO.builder()
+                        .geohash(cell.getGeohash())
+                        .x(cell.getSumX()/cell.getPostCount())
+                        .y(cell.getSumY()/cell.getPostCount())
+                        .postCount(cell.getPostCount())
+                        .postId(cell.getLatestPostId())
+                        .thumbnail(thumbnails.get(cell.getLatestPostId()))
+                        .build())
+                .toList();
+
+        return PostMapTileReadResponseDTO.builder()
+                .z(z)
+                .x(x)
+                .y(y)
+                .postCount(clusters.stream().mapToLong(PostMapClusterDTO::getPostCount).sum())
+                .clusters(clusters)
+                .build();
+    }
+
+
+    /**
+     * 셀 카운터 증감 실행
+     * (트랜잭션이 끝날 때까지 재구성 잠금을 잡고, 재구성이 이미 읽은 게시물이라면 커밋된 증감을 기록한다.)
+     */
+    private void applyDelta(CellDelta delta, Runnable write){
+        Lock lock=rebuildLock.readLock();
+        lock.lock();
+        try{
+            write.run();
+        } catch (RuntimeException e){
+            lock.unlock();
+            throw e;
+        }
+
+        // 잠금을 잡은 동안에는 재구성이 새 구간을 읽기 시작하지 않으므로, 이미 읽은 구간인지는 여기서 정해진다.
+        boolean replay=delta.postId()<=scannedUpTo;
+        if(!TransactionSynchronizationManager.isSynchronizationActive()){
+            if(replay) pendingDeltas.add(delta);
+            lock.unlock();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit(){
+                if(replay) pendingDeltas.add(delta);
+            }
+
+            @Override
+            public void afterCompletion(int status){
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * 게시물 ID 구간 (fromId, toId]의 READY인 게시물을 셀별로 집계해서 재구성 테이블에 더하기
+     * (진행 중인 증감이 없을 때 읽기 스냅샷을 잡아서, 이 구간의 게시물 증감이 스냅샷 이전인지 이후인지 나눈다.)
+     */
+    private void aggregateCells(long fromId, long toId){
+        Map<String, CellAggregate> aggregates=new HashMap<>();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try(Statement statement=connection.createStatement()){
+                rebuildLock.writeLock().lock();
+                try{
+                    statement.execute("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ");
+                    statement.execute("START TRANSACTION WITH CONSISTENT SNAPSHOT");
+                    scannedUpTo=Math.max(scannedUpTo, toId);
+                } finally {
+                    rebuildLock.writeLock().unlock();
+                }
+
+                try(PreparedStatement select=connection.prepareStatement("SELECT p.id, p.geohash, p.x, p.y " +
+                        "FROM post p " +
+                        "WHERE p.id>? AND p.id<=? " +
+                            "AND p.status='READY' " +
+                            "AND p.geohash IS NOT NULL AND p.x IS NOT NULL AND p.y IS NOT NULL")){
+                    select.setLong(1, fromId);
+                    select.setLong(2, toId);
+                    try(ResultSet resultSet=select.executeQuery()){
+                        while(resultSet.next()){
+                            long postId=resultSet.getLong("id");
+                            double x=resultSet.getDouble("x");
+                            double y=resultSet.getDouble("y");
+                            for(String cell : cellsOf(resultSet.getString("geohash"))){
+                                aggregates.computeIfAbsent(cell, key -> new CellAggregate()).add(postId, x, y);
+                            }
+                        }
+                    }
+                } finally {
+                    statement.execute("COMMIT");
+                }
+            }
+            return null;
+        });
+        if(aggregates.isEmpty()) return;
+
+        List<Object[]> batchArgs=new ArrayList<>(aggregates.size());
+        aggregates.forEach((cell, aggregate)->batchArgs.add(new Object[]{
+                cell, cell.length(), aggregate.postCount, aggregate.sumX, aggregate.sumY, aggregate.latestPostId
+        }));
+        jdbcTemplate.batchUpdate("INSERT INTO "+REBUILD_TABLE+" (geohash, cell_precision, post_count, sum_x, sum_y, latest_post_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE post_count=post_count+VALUES(post_count), " +
+                    "sum_x=sum_x+VALUES(sum_x), " +
+                    "sum_y=sum_y+VALUES(sum_y), " +
+                    "latest_post_id=GREATEST(COALESCE(latest_post_id, 0), VALUES(latest_post_id))", batchArgs);
+    }
+
+    /**
+     * 기록해둔 증감을 재구성 테이블에 반영
+     * (셀 카운터 증감과 같은 방식으로, 대표 게시물이 제거된 셀은 대표 게시물을 다시 고른다.)
+     */
+    private void replayDeltas(){
+        CellDelta delta;
+        while((delta=pendingDeltas.poll())!=null){
+            List<String> cells=cellsOf(delta.geohash());
+            if(delta.added()){
+                List<Object[]> batchArgs=new ArrayList<>(cells.size());
+                for(String cell : cells){
+                    batchArgs.add(new Object[]{cell, cell.length(), delta.x(), delta.y(), delta.postId()});
+                }
+                jdbcTemplate.batchUpdate("INSERT INTO "+REBUILD_TABLE+" (geohash, cell_precision, post_count, sum_x, sum_y, latest_post_id) " +
+                        "VALUES (?, ?, 1, ?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE post_count=post_count+1, " +
+                            "sum_x=sum_x+VALUES(sum_x), " +
+                            "sum_y=sum_y+VALUES(sum_y), " +
+                            "latest_post_id=GREATEST(COALESCE(latest_post_id, 0), VALUES(latest_post_id))", batchArgs);
+                continue;
+            }
+
+            List<Object[]> batchArgs=new ArrayList<>(cells.size());
+            for(String cell : cells){
+                batchArgs.add(new Object[]{delta.x(), delta.y(), cell});
+            }
+            jdbcTemplate.batchUpdate("UPDATE "+REBUILD_TABLE+" " +
+                    "SET post_count=GREATEST(post_count-1, 0), sum_x=sum_x-?, sum_y=sum_y-? " +
+                    "WHERE geohash=?", batchArgs);
+
+            // (증감이 멈춘 동안 실행될 수 있으므로, 게시물 행을 잠그지 않는 일반 SELECT로 대표 게시물을 고른다.)
+            int refreshFrom=Math.min(MIN_REFRESH_PRECISION, cells.size());
+            for(String cell : cells.subList(refreshFrom-1, cells.size())){
+                Long latestPostId=jdbcTemplate.queryForObject("SELECT MAX(p.id) " +
+                        "FROM post p " +
+                        "WHERE p.geohash LIKE CONCAT(?, '%') " +
+                            "AND p.status='READY'", Long.class, cell);
+                jdbcTemplate.update("UPDATE "+REBUILD_TABLE+" SET latest_post_id=? WHERE geohash=? AND latest_post_id=?",
+                        latestPostId, cell, delta.postId());
+            }
+            if(refreshFrom>1){
+                List<Long> latestPostIds=jdbcTemplate.queryForList("SELECT latest_post_id FROM "+REBUILD_TABLE+" WHERE geohash=?",
+                        Long.class, cells.get(refreshFrom-1));
+                Long latestPostId=latestPostIds.isEmpty() ? null : latestPostIds.get(0);
+                for(String cell : cells.subList(0, refreshFrom-1)){
+                    jdbcTemplate.update("UPDATE "+REBUILD_TABLE+" SET latest_post_id=? WHERE geohash=? AND latest_post_id=?",
+                            latestPostId, cell, delta.postId());
+                }
+            }
+            for(String cell : cells){
+                jdbcTemplate.update("DELETE FROM "+REBUILD_TABLE+" WHERE geohash=? AND post_count<=0", cell);
+            }
+        }
+    }
+
+    /**
+     * 재구성한 테이블로 교체
+     * (셀 테이블을 읽는 트랜잭션이 끝나기를 오래 기다리지 않고 실패하도록, 잠금 대기 시간을 줄인다.)
+     */
+    private void swapTables(){
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try(Statement statement=connection.createStatement()){
+                statement.execute("SET SESSION lock_wait_timeout="+SWAP_LOCK_WAIT_SECONDS);
+                try{
+                    statement.execute("RENAME TABLE "+CELL_TABLE+" TO "+OLD_TABLE+", "+REBUILD_TABLE+" TO "+CELL_TABLE);
+                } finally {
+                    statement.execute("SET SESSION lock_wait_timeout=DEFAULT");
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 게시물 지오해시의 접두사 목록 (길이 1 ~ MAX_CELL_PRECISION)
+     */
+    private List<String> cellsOf(String geohash){
+        int maxPrecision=Math.min(geohash.length(), MAX_CELL_PRECISION);
+        List<String> cells=new ArrayList<>(maxPrecision);
+        for(int precision=1; precision<=maxPrecision; precision++){
+            cells.add(geohash.substring(0, precision));
+        }
+        return cells;
+    }
+
+    /**
+     * 타일 행 번호의 위쪽 경계 위도 (웹 메르카토르)
+     */
+    private double tileLatitude(long row, long tileCount){
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI*(1-2.0*row/tileCount))));
+    }
+
+    /**
+     * 재구성 테이블에 다시 반영할 게시물 한 개의 셀 카운터 증감
+     */
+    private record CellDelta(long postId, String geohash, double x, double y, boolean added) {
+    }
+
+    /**
+     * 재구성 시 한 구간 안의 셀 집계 값
+     */
+    private static class CellAggregate {
+        private long postCount;
+        private double sumX;
+        private double sumY;
+        private long latestPostId;
+
+        private void add(long postId, double x, double y){
+            postCount++;
+            sumX+=x;
+            sumY+=y;
+            latestPostId=Math.max(latestPostId, postId);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package applesquare.moment.post.service.impl;
+
+import applesquare.moment.file.service.FileService;
+import applesquare.moment.post.event.PostCreatedEvent;
+import applesquare.moment.post.event.PostUpdatedEvent;
+import applesquare.moment.post.model.Post;
+import applesquare.moment.post.model.PostMediaJob;
+import applesquare.moment.post.model.PostMediaJobStatus;
+import applesquare.moment.post.model.PostStatus;
+import applesquare.moment.post.repository.PostMediaJobRepository;
+import applesquare.moment.post.repository.PostRepository;
+import applesquare.moment.post.service.PostDetailCacheService;
+import applesquare.moment.post.service.PostMapService;
+import applesquare.moment.post.service.PostMediaJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시물 미디어 처리 작업 큐 (DB 테이블)
+ *
+ * 게시물 생성/수정 트랜잭션 안에서 작업을 등록하므로, 게시물이 저장되었다면 작업도 함께 남는다.
+ * 작업자는 처리할 차례가 된 작업을 조건부 UPDATE로 선점하고,
+ * 실패한 작업은 지수 백오프로 다시 대기시키다가 재시도 횟수를 모두 사용하면 게시물을 FAILED로 바꾼다.
+ * 완료/실패 처리는 선점할 때의 시도 횟수가 그대로인 RUNNING 작업에만 반영하므로,
+ * 멈춘 작업으로 복구되어 다른 작업자가 다시 선점한 작업을 이전 작업자가 덮어쓰지 않는다.
+ */
+@Log4j2
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PostMediaJobServiceImpl implements PostMediaJobService {
+    private final PostMediaJobRepository postMediaJobRepository;
+    private final PostRepository postRepository;
+    private final FileService fileService;
+    private final PostDetailCacheService postDetailCacheService;
+    private final PostMapService postMapService;
+    private final ApplicationEventPublisher eventPublisher;
+
+
+    /**
+     * 썸네일 생성 작업 등록
+     *
+     * @param postId 게시물 ID
+     * @param filename 썸네일을 만들 원본 파일명
+     * @param newPost 게시물 생성으로 등록된 작업인지 여부
+     */
+    @Override
+    public void enqueue(Long postId, String filename, boolean newPost){
+        // 같은 게시물의 이전 작업은 더 이상 필요 없다. (수정으로 첫번째 파일이 바뀐 경우)
+        // 단, 아직 한 번도 목록에 노출되지 않은 게시물이라면 생성 작업으로 이어받는다.
+        newPost|=postMediaJobRepository.existsByPostIdAndNewPostTrue(postId);
+        postMediaJobRepository.deleteByPostId(postId);
+
+        PostMediaJob postMediaJob=PostMediaJob.builder()
+                .postId(postId)
+                .filename(filename)
+                .newPost(newPost)
+                .status(PostMediaJobStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        postMediaJobRepository.save(postMediaJob);
+    }
+
+    /**
+     * 처리할 차례가 된 작업 선점
+     *
+     * @param limit 최대 선점 개수
+     * @return 선점한 작업 목록
+     */
+    @Override
+    public List<PostMediaJob> claimDueJobs(int limit){
+        List<PostMediaJob> claimedJobs=new ArrayList<>();
+        if(limit<=0) return claimedJobs;
+
+        LocalDateTime now=LocalDateTime.now();
+        List<Long> dueIds=postMediaJobRepository.findDueIds(now, PageRequest.of(0, limit));
+        for(Long dueId : dueIds){
+            // 다른 작업자(서버)가 먼저 선점한 작업은 건너뛴다.
+            if(postMediaJobRepository.claim(dueId, now)==0) continue;
+            postMediaJobRepository.findById(dueId).ifPresent(claimedJobs::add);
+        }
+        return claimedJobs;
+    }
+
+    /**
+     * 작업 완료 처리 (게시물을 READY로 변경하고 작업 삭제, 지도에 추가)
+     * (처리하는 동안 게시물이 삭제되었거나 새로운 작업으로 교체되었다면, 새로 만든 썸네일을 삭제한다.)
+     * (선점이 더 이상 유효하지 않다면 아무것도 하지 않는다.)
+     *
+     * @param claimedJob 선점한 작업
+     */
+    @Override
+    public void complete(PostMediaJob claimedJob){
+        Optional<Post> optionalPost=postRepository.findById(claimedJob.getPostId());
+        if(optionalPost.isEmpty()){
+            postMediaJobRepository.deleteClaimed(claimedJob.getId(), claimedJob.getAttempts());
+            deleteThumbnail(claimedJob.getFilename());
+            return;
+        }
+
+        if(postMediaJobRepository.deleteClaimed(claimedJob.getId(), claimedJob.getAttempts())==0){
+            // 같은 작업이 남아 있다면 다른 작업자가 같은 썸네일을 만들고 있거나 다시 만들 예정이다.
+            if(!postMediaJobRepository.existsById(claimedJob.getId())){
+                deleteThumbnail(claimedJob.getFilename());
+            }
+            log.warn("선점이 만료된 게시물 미디어 처리 작업의 완료를 무시합니다. (postId = "+claimedJob.getPostId()+")");
+            return;
+        }
+
+        Post post=optionalPost.get();
+        postRepository.updateStatus(post.getId(), PostStatus.READY);
+        postDetailCacheService.evict(post.getId());
+
+        // 썸네일이 준비된 시점에 지도 셀 카운터 반영
+        if(post.getStatus()!=PostStatus.READY){
+            postMapService.addPost(post.getId(), post.getGeohash(), post.getX(), post.getY());
+        }
+
+        // 목록에 처음 노출되는 시점에 타임라인 전파와 검색 색인을 진행한다.
+        if(claimedJob.isNewPost()){
+            eventPublisher.publishEvent(new PostCreatedEvent(post.getId(), post.getWriter().getId()));
+        }
+        else{
+            eventPublisher.publishEvent(new PostUpdatedEvent(post.getId(), post.getWriter().getId()));
+        }
+    }
+
+    /**
+     * 작업 실패 처리
+     * (재시도 횟수가 남았다면 지수 백오프로 다시 대기시키고, 모두 사용했다면 게시물을 FAILED로 변경)
+     * (선점이 더 이상 유효하지 않다면 아무것도 하지 않는다.)
+     *
+     * @param claimedJob 선점한 작업
+     * @param error 실패 사유
+     */
+    @Override
+    public void fail(PostMediaJob claimedJob, String error){
+        Long jobId=claimedJob.getId();
+        int attempts=claimedJob.getAttempts();
+
+        // 처리하는 동안 게시물이 삭제되었다면 더 이상 시도하지 않는다.
+        if(!postRepository.existsById(claimedJob.getPostId())){
+            postMediaJobRepository.deleteClaimed(jobId, attempts);
+            return;
+        }
+
+        String lastError=(error!=null && error.length()>PostMediaJob.MAX_ERROR_LENGTH)
+                ? error.substring(0, PostMediaJob.MAX_ERROR_LENGTH)
+                : error;
+
+        if(attempts>=MAX_ATTEMPTS){
+            if(postMediaJobRepository.failClaimed(jobId, attempts, lastError)==0) return;
+            postRepository.updateStatus(claimedJob.getPostId(), PostStatus.FAILED);
+            postDetailCacheService.evict(claimedJob.getPostId());
+            log.error("게시물 미디어 처리에 최종 실패했습니다. (postId = "+claimedJob.getPostId()+") "+error);
+            return;
+        }
+
+        long delaySeconds=Math.min(RETRY_BASE_DELAY_SECONDS<<(attempts-1), RETRY_MAX_DELAY_SECONDS);
+        LocalDateTime nextAttemptAt=LocalDateTime.now().plusSeconds(delaySeconds);
+        if(postMediaJobRepository.retryClaimed(jobId, attempts, nextAttemptAt, lastError)==0) return;
+        log.warn("게시물 미디어 처리에 실패해서 "+delaySeconds+"초 후에 다시 시도합니다. (postId = "+claimedJob.getPostId()+", attempts = "+attempts+") "+error);
+    }
+
+    /**
+     * 멈춘 작업 복구
+     * (작업 도중 서버가 종료된 경우, 일정 시간이 지나면 다시 대기 상태로 되돌린다.)
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${applesquare.moment.post-media.stalled-check-interval-ms:60000}")
+    public void releaseStalledJobs(){
+        LocalDateTime now=LocalDateTime.now();
+        int releasedCount=postMediaJobRepository.releaseStalled(now.minusSeconds(STALLED_TIMEOUT_SECONDS), now);
+        if(releasedCount>0){
+            log.warn("멈춘 게시물 미디어 처리 작업을 다시 대기시켰습니다. (count = "+releasedCount+")");
+        }
+    }
+
+    /**
+     * 게시물의 미디어 처리 작업 삭제 (게시물 삭제 시)
+     *
+     * @param postId 게시물 ID
+     */
+    @Override
+    public void deleteByPostId(Long postId){
+        postMediaJobRepository.deleteByPostId(postId);
+    }
+
+
+    private void deleteThumbnail(String filename){
+        try{
+            fileService.deleteThumbnail(filename);
+        } catch (IOException e){
+            log.error("사용하지 않는 썸네일 삭제에 실패했습니다. "+e.getMessage());
+        }
+    }
+}
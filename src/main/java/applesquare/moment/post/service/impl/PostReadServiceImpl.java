@@ -1,15 +1,24 @@
 package applesquare.moment.post.service.impl;
 
+import applesquare.moment.auth.exception.TokenException;
 import applesquare.moment.common.dto.PageRequestDTO;
 import applesquare.moment.common.dto.PageResponseDTO;
+import applesquare.moment.common.service.SecurityService;
 import applesquare.moment.file.service.FileService;
 import applesquare.moment.post.dto.PostDetailReadAllResponseDTO;
+import applesquare.moment.post.dto.PostLocationDTO;
 import applesquare.moment.post.dto.PostThumbnailReadAllResponseDTO;
 import applesquare.moment.post.model.Post;
 import applesquare.moment.post.repository.PostRepository;
+import applesquare.moment.post.service.PostDetailCacheService;
 import applesquare.moment.post.service.PostReadService;
 import applesquare.moment.post.service.PostReadSupport;
-import jakarta.persistence.EntityNotFoundException;
+import applesquare.moment.post.service.PostViewCountService;
+import applesquare.moment.user.dto.UserProfileReadResponseDTO;
+import applesquare.moment.user.service.UserProfileService;
+import applesquare.moment.util.GeoHashUtil;
+import applesquare.moment.viewer.model.ViewerState;
+import applesquare.moment.viewer.service.ViewerStateService;
 import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -18,6 +27,9 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 
 @Service
@@ -25,24 +37,56 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PostReadServiceImpl implements PostReadService {
     private final PostReadSupport postReadSupport;
+    private final PostDetailCacheService postDetailCacheService;
+    private final PostViewCountService postViewCountService;
+    private final UserProfileService userProfileService;
+    private final SecurityService securityService;
+    private final ViewerStateService viewerStateService;
     private final PostRepository postRepository;
     private final FileService fileService;
 
 
     /**
      * 특정 게시물 조회
+     * (조회하는 사용자와 무관한 정보는 캐시에서 가져오고, 사용자별 정보만 따로 조회한다.)
+     *
      * @param postId 게시물 ID
      * @return 게시물 세부사항
      */
     @Override
     public PostDetailReadAllResponseDTO read(Long postId){
-        Post post=postRepository.findById(postId)
-                .orElseThrow(()-> new EntityNotFoundException("존재하지 않는 게시글입니다. (id = "+postId+")"));
+        // 캐시된 게시물 세부사항 가져오기
+        PostDetailReadAllResponseDTO cachedPostDetailDTO=postDetailCacheService.read(postId);
+
+        // 나의 유저 ID 가져오기
+        String myUserId=null;
+        try{
+            myUserId=securityService.getUserId();
+        }catch(TokenException e){
+            // 로그인하지 않은 경우
+            // 로그인이 필요하지 않으므로 아무런 처리도 하지 않는다.
+        }
 
-        // 조회된 게시물 기반으로, 게시물 정보 이외에 태그, 댓글, 좋아요 정보 가져오기
-        PostDetailReadAllResponseDTO postDetailDTO=postReadSupport.readPostDetailAllByPosts(List.of(post)).get(0);
+        // 댓글 작성 여부, 좋아요 여부 가져오기
+        ViewerState viewerState=viewerStateService.read(myUserId);
+        boolean isCommented=viewerState.isCommented(postId);
+        boolean isLiked=viewerState.isLiked(postId);
 
-        return postDetailDTO;
+        // 최신 작성자 프로필, 조회수 가져오기
+        UserProfileReadResponseDTO writer=cachedPostDetailDTO.getWriter();
+        if(writer!=null){
+            writer=userProfileService.readProfilesByIds(List.of(writer.getId())).getOrDefault(writer.getId(), writer);
+        }
+        long viewCount=Math.max(cachedPostDetailDTO.getViewCount(),
+                postViewCountService.readViewCountsByPostIds(List.of(postId)).getOrDefault(postId, 0L));
+
+        // 캐시된 객체는 공유되므로, 복사본에 사용자별 정보 채우기
+        return cachedPostDetailDTO.toBuilder()
+                .writer(writer)
+                .viewCount(viewCount)
+                .isCommented(isCommented)
+                .isLiked(isLiked)
+                .build();
     }
 
     /**
@@ -291,4 +335,165 @@ public class PostReadServiceImpl implements PostReadService {
                 .hasNext(hasNext)
                 .build();
     }
+
+    /**
+     * 주변 게시물 세부사항 목록 조회 (커서 페이징)
+     * - 조회 조건 : 중심 좌표로부터 반경 (radius)미터 이내에 등록된 게시물
+     * - 정렬 기준 : 최신순
+     *
+     * @param x 중심 경도
+     * @param y 중심 위도
+     * @param radius 반경 (미터)
+     * @param pageRequestDTO 페이지 요청 정보
+     * @return 게시물 세부사항 목록
+     */
+    @Override
+    public PageResponseDTO<PostDetailReadAllResponseDTO> readNearbyDetailAll(double x, double y, int radius, PageRequestDTO pageRequestDTO){
+        // 다음 페이지 존재 여부를 확인하기 위해 (size + 1)
+        int pageSize= pageRequestDTO.getSize()+1;
+
+        Long cursor=null;
+        if(pageRequestDTO.getCursor()!=null){
+            cursor= Long.parseLong(pageRequestDTO.getCursor());
+        }
+
+        // 주변 게시물 ID 조회
+        List<Long> postIds=readNearbyPostIds(x, y, radius, cursor, pageSize);
+
+        // hasNext 설정
+        boolean hasNext=false;
+        if(postIds.size()>pageRequestDTO.getSize()){
+            postIds.remove(postIds.size()-1);
+            hasNext=true;
+        }
+
+        // postIds 기반으로 Post 엔티티 조회
+        List<Post> posts=postRepository.findAllByPostIds(postIds);
+
+        // 조회된 게시물 목록을 기반으로, 게시물 정보 이외에 태그, 댓글, 좋아요 정보 가져오기
+        List<PostDetailReadAllResponseDTO> postDetailReadAllResponseDTOS=postReadSupport.readPostDetailAllByPosts(posts);
+
+        // 게시글 세부사항 페이지 반환
+        return PageResponseDTO.<PostDetailReadAllResponseDTO>builder()
+                .content(postDetailReadAllResponseDTOS)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 주변 게시물 썸네일 목록 조회 (커서 페이징)
+     * - 조회 조건 : 중심 좌표로부터 반경 (radius)미터 이내에 등록된 게시물
+     * - 정렬 기준 : 최신순
+     *
+     * @param x 중심 경도
+     * @param y 중심 위도
+     * @param radius 반경 (미터)
+     * @param pageRequestDTO 페이지 요청 정보
+     * @return 게시물 썸네일 목록
+     */
+    @Override
+    public PageResponseDTO<PostThumbnailReadAllResponseDTO> readNearbyThumbnailAll(double x, double y, int radius, PageRequestDTO pageRequestDTO){
+        // 다음 페이지 존재 여부를 확인하기 위해 (size + 1)
+        int pageSize= pageRequestDTO.getSize()+1;
+
+        Long cursor=null;
+        if(pageRequestDTO.getCursor()!=null){
+            cursor= Long.parseLong(pageRequestDTO.getCursor());
+        }
+
+        // 주변 게시물 ID 조회
+        List<Long> postIds=readNearbyPostIds(x, y, radius, cursor, pageSize);
+
+        // hasNext 설정
+        boolean hasNext=false;
+        if(postIds.size()>pageRequestDTO.getSize()){
+            postIds.remove(postIds.size()-1);
+            hasNext=true;
+        }
+
+        // postIds 기반으로 썸네일 파일 조회
+        List<Tuple> tuples=postRepository.findAllByPostIdsWithFirstFile(postIds);
+
+        // DTO 변환
+        List<PostThumbnailReadAllResponseDTO> postThumbnailReadAllResponseDTOS=tuples.stream().map((tuple)->{
+            String thumbFilename=fileService.convertFilenameToThumbFilename((String) tuple.get("filename"));
+            return PostThumbnailReadAllResponseDTO.builder()
+                    .id((Long) tuple.get("postId"))
+                    .url(fileService.convertFilenameToUrl(thumbFilename))
+                    .mediaType(FileService.convertContentTypeToMediaType((String) tuple.get("contentType")))
+                    .build();
+        }).toList();
+
+        // 게시글 썸네일 페이지 반환
+        return PageResponseDTO.<PostThumbnailReadAllResponseDTO>builder()
+                .content(postThumbnailReadAllResponseDTOS)
+                .hasNext(hasNext)
+                .build();
+    }
+
+
+    /**
+     * 반경 (radius)미터 이내의 게시물 ID 목록 조회 (최신순)
+     *
+     * 반경의 경계 사각형을 덮는 지오해시 셀마다 (geohash_n, status, id, x, y) 인덱스에서 최신순으로 일부만 읽고,
+     * 셀별 결과를 ID 순서로 합친다. 실제 거리가 반경을 넘는 후보(사각형의 모서리 부분)는 제외한다.
+     * 셀마다 읽은 양이 다르므로, 모든 셀을 빠짐없이 읽은 ID까지만 결과에 넣고 나머지는 다음에 이어서 읽는다.
+     *
+     * @param x 중심 경도
+     * @param y 중심 위도
+     * @param radius 반경 (미터)
+     * @param cursor 페이지 커서 (이 ID보다 작은 게시물만 조회)
+     * @param size 페이지 크기
+     * @return 게시물 ID 목록
+     */
+    private List<Long> readNearbyPostIds(double x, double y, int radius, Long cursor, int size){
+        // 입력 형식 검사
+        if(x<-180 || x>180 || y<-90 || y>90){
+            throw new IllegalArgumentException("좌표 범위를 벗어났습니다. (x: -180 ~ 180, y: -90 ~ 90)");
+        }
+        if(radius<=0 || radius>MAX_NEARBY_RADIUS_METERS){
+            throw new IllegalArgumentException("반경은 1 ~ "+MAX_NEARBY_RADIUS_METERS+"m 사이여야 합니다.");
+        }
+
+        // 반경의 경계 사각형을 덮는 지오해시 셀 (날짜 변경선을 넘는 부분은 조회하지 않는다.)
+        double dx=GeoHashUtil.longitudeDelta(y, radius);
+        double dy=GeoHashUtil.latitudeDelta(radius);
+        double minX=Math.max(-180, x-dx), maxX=Math.min(180, x+dx);
+        double minY=Math.max(-90, y-dy), maxY=Math.min(90, y+dy);
+        int cellPrecision=(GeoHashUtil.countCells(minX, maxX, minY, maxY, NEARBY_FINE_CELL_PRECISION)<=GeoHashUtil.MAX_COVER_CELLS)
+                ? NEARBY_FINE_CELL_PRECISION
+                : NEARBY_COARSE_CELL_PRECISION;
+        List<String> openCells=new ArrayList<>(GeoHashUtil.cellsAt(minX, maxX, minY, maxY, cellPrecision));
+
+        List<Long> postIds=new ArrayList<>();
+        Long scanCursor=cursor;
+        while(postIds.size()<size && !openCells.isEmpty()){
+            // 셀마다 최신순으로 size개씩 읽기 (남은 게시물이 없는 셀은 다음부터 읽지 않는다.)
+            List<PostLocationDTO> candidates=new ArrayList<>();
+            Long frontierId=null;  // 이 ID 이상은 모든 셀을 빠짐없이 읽었다.
+            Iterator<String> cellIterator=openCells.iterator();
+            while(cellIterator.hasNext()){
+                List<PostLocationDTO> cellCandidates=postRepository.findNearbyCandidatesInCell(cellPrecision, cellIterator.next(), scanCursor, size);
+                candidates.addAll(cellCandidates);
+                if(cellCandidates.size()<size){
+                    cellIterator.remove();
+                    continue;
+                }
+                long lastId=cellCandidates.get(cellCandidates.size()-1).getId();
+                if(frontierId==null || lastId>frontierId) frontierId=lastId;
+            }
+
+            // 셀별 결과를 최신순으로 합치고 거리로 거르기
+            candidates.sort(Comparator.comparing(PostLocationDTO::getId).reversed());
+            for(PostLocationDTO candidate : candidates){
+                if(frontierId!=null && candidate.getId()<frontierId) break;
+                if(GeoHashUtil.distance(x, y, candidate.getX(), candidate.getY())<=radius){
+                    postIds.add(candidate.getId());
+                    if(postIds.size()==size) break;
+                }
+            }
+            scanCursor=frontierId;
+        }
+        return postIds;
+    }
 }
@@ -9,6 +9,8 @@ import applesquare.moment.post.model.Post;
 import applesquare.moment.post.repository.PostRepository;
 import applesquare.moment.post.service.PostReadSupport;
 import applesquare.moment.post.service.PostSearchService;
+import applesquare.moment.search.model.PostSearchMode;
+import applesquare.moment.search.service.PostSearchResultCacheService;
 import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -22,6 +24,7 @@ import java.util.List;
 public class PostSearchServiceImpl implements PostSearchService {
     private final PostReadSupport postReadSupport;
     private final PostRepository postRepository;
+    private final PostSearchResultCacheService postSearchResultCacheService;
     private final FileService fileService;
 
 
@@ -48,8 +51,8 @@ public class PostSearchServiceImpl implements PostSearchService {
             cursor=Long.parseLong(pageRequestDTO.getCursor());
         }
 
-        // 키워드로 게시물 검색 (내용, 작성자, 태그 검색)
-        List<Long> postIds=postRepository.searchPostIdsByKeyword(keyword, cursor, pageSize);
+        // 키워드로 게시물 검색 (내용, 작성자, 태그 검색 / 짧은 시간 동안 캐싱된 결과 사용)
+        List<Long> postIds=postSearchResultCacheService.searchPostIds(PostSearchMode.POST_KEYWORD, keyword, cursor, pageSize);
 
         // hasNext 설정
         boolean hasNext=false;
@@ -94,8 +97,8 @@ public class PostSearchServiceImpl implements PostSearchService {
             cursor=Long.parseLong(pageRequestDTO.getCursor());
         }
 
-        // 키워드로 게시물 검색 (내용, 작성자, 태그 검색)
-        List<Long> postIds=postRepository.searchPostIdsByKeyword(keyword, cursor, pageSize);
+        // 키워드로 게시물 검색 (내용, 작성자, 태그 검색 / 짧은 시간 동안 캐싱된 결과 사용)
+        List<Long> postIds=postSearchResultCacheService.searchPostIds(PostSearchMode.POST_KEYWORD, keyword, cursor, pageSize);
 
         // hasNext 설정
         boolean hasNext=false;
@@ -148,8 +151,8 @@ public class PostSearchServiceImpl implements PostSearchService {
             cursor=Long.parseLong(pageRequestDTO.getCursor());
         }
 
-        // 태그로 게시물 검색
-        List<Long> postIds=postRepository.searchPostIdsByTag(keyword, cursor, pageSize);
+        // 태그로 게시물 검색 (짧은 시간 동안 캐싱된 결과 사용)
+        List<Long> postIds=postSearchResultCacheService.searchPostIds(PostSearchMode.POST_TAG, keyword, cursor, pageSize);
 
         // hasNext 설정
         boolean hasNext=false;
@@ -195,8 +198,8 @@ public class PostSearchServiceImpl implements PostSearchService {
             cursor=Long.parseLong(pageRequestDTO.getCursor());
         }
 
-        // 태그로 게시물 검색
-        List<Long> postIds=postRepository.searchPostIdsByTag(keyword, cursor, pageSize);
+        // 태그로 게시물 검색 (짧은 시간 동안 캐싱된 결과 사용)
+        List<Long> postIds=postSearchResultCacheService.searchPostIds(PostSearchMode.POST_TAG, keyword, cursor, pageSize);
 
         // hasNext 설정
         boolean hasNext=false;
@@ -0,0 +1,150 @@
+package applesquare.moment.post.service.impl;
+
+import applesquare.moment.comment.repository.CommentRepository;
+import applesquare.moment.like.repository.PostLikeRepository;
+import applesquare.moment.post.model.PostStats;
+import applesquare.moment.post.repository.PostRepository;
+import applesquare.moment.post.repository.PostStatsRepository;
+import applesquare.moment.post.service.PostStatsService;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@Log4j2
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PostStatsServiceImpl implements PostStatsService {
+    private final PostStatsRepository postStatsRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
+
+
+    /**
+     * 게시물 통계 생성
+     * @param postId 게시물 ID
+     */
+    @Override
+    public void create(Long postId){
+        postStatsRepository.insertByPostId(postId);
+    }
+
+    /**
+     * 게시물 통계 삭제
+     * @param postId 게시물 ID
+     */
+    @Override
+    public void delete(Long postId){
+        postStatsRepository.deleteById(postId);
+    }
+
+    /**
+     * 좋아요 개수 증감
+     * @param postId 게시물 ID
+     * @param delta 증감량
+     */
+    @Override
+    public void addLikeCount(Long postId, long delta){
+        postStatsRepository.addLikeCount(postId, delta);
+    }
+
+    /**
+     * 댓글 개수 증감
+     * @param postId 게시물 ID
+     * @param delta 증감량
+     */
+    @Override
+    public void addCommentCount(Long postId, long delta){
+        postStatsRepository.addCommentCount(postId, delta);
+    }
+
+    /**
+     * 게시물 ID 목록으로 게시물 통계 조회
+     * (아직 통계 행이 없는 게시물은 원본 테이블에서 집계한다.)
+     *
+     * @param postIds 게시물 ID 목록
+     * @return 게시물 ID별 통계
+     */
+    @Override
+    public Map<Long, PostStats> readAllByPostIds(Collection<Long> postIds){
+        Map<Long, PostStats> postStatsMap=new HashMap<>();
+        if(postIds==null || postIds.isEmpty()){
+            return postStatsMap;
+        }
+
+        // 통계 테이블에서 조회 (PK 조회)
+        for(PostStats postStats : postStatsRepository.findAllByPostIdIn(postIds)){
+            postStatsMap.put(postStats.getPostId(), postStats);
+        }
+
+        // 통계 행이 없는 게시물은 원본 테이블에서 집계 (보정 작업 전의 게시물)
+        List<Long> missedPostIds=postIds.stream()
+                .filter(postId -> !postStatsMap.containsKey(postId))
+                .distinct()
+                .toList();
+        if(!missedPostIds.isEmpty()){
+            Map<Long, Long> commentCountMap=new HashMap<>();
+            for(Tuple tuple : commentRepository.countByPostIds(missedPostIds)){
+                commentCountMap.put((Long) tuple.get("postId"), (long) tuple.get("commentCount"));
+            }
+            Map<Long, Long> likeCountMap=new HashMap<>();
+            for(Tuple tuple : postLikeRepository.countByPostIds(missedPostIds)){
+                likeCountMap.put((Long) tuple.get("postId"), (long) tuple.get("likeCount"));
+            }
+
+            for(Long postId : missedPostIds){
+                PostStats postStats=PostStats.builder()
+                        .postId(postId)
+                        .likeCount(likeCountMap.getOrDefault(postId, 0L))
+                        .commentCount(commentCountMap.getOrDefault(postId, 0L))
+                        .build();
+                postStatsMap.put(postId, postStats);
+            }
+        }
+
+        return postStatsMap;
+    }
+
+    /**
+     * 게시물 통계 보정 작업
+     * - 통계 행이 없는 게시물의 통계 행 생성
+     * - 원본 테이블 (post_like, comment, post)과 어긋난 값 보정
+     * - 삭제된 게시물의 통계 행 제거
+     *
+     * 게시물 ID 구간 단위로 나누어, 구간마다 별도의 트랜잭션으로 처리한다.
+     * 어긋난 값은 어긋난 게시물만 찾은 뒤 한 게시물씩 짧은 트랜잭션으로 다시 계산하므로,
+     * 보정하는 동안 커밋된 좋아요/댓글 증감을 덮어쓰지 않는다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Scheduled(cron = "${applesquare.moment.post-stats.reconcile-cron:0 30 4 * * *}")
+    public void reconcile(){
+        long maxPostId=Math.max(postRepository.findMaxId(), postStatsRepository.findMaxPostId());
+
+        int insertedCount=0;
+        int syncedCount=0;
+        int deletedCount=0;
+        for(long fromId=0; fromId<maxPostId; fromId+=RECONCILE_BATCH_SIZE){
+            long toId=fromId+RECONCILE_BATCH_SIZE;
+            try{
+                insertedCount+=postStatsRepository.insertMissingByPostIdRange(fromId, toId);
+                for(Long postId : postStatsRepository.findMismatchPostIds(fromId, toId)){
+                    syncedCount+=postStatsRepository.syncByPostId(postId);
+                }
+                deletedCount+=postStatsRepository.deleteOrphanByPostIdRange(fromId, toId);
+            } catch (Exception e){
+                // 한 구간이 실패하더라도 다음 구간은 계속 보정한다.
+                log.error("게시물 통계 보정에 실패했습니다. (range = "+fromId+" ~ "+toId+") "+e.getMessage());
+            }
+        }
+
+        log.info("게시물 통계 보정 완료 (inserted = "+insertedCount+", synced = "+syncedCount+", deleted = "+deletedCount+")");
+    }
+}
@@ -0,0 +1,183 @@
+package applesquare.moment.post.service.impl;
+
+import applesquare.moment.post.repository.PostRepository;
+import applesquare.moment.post.service.PostViewCountService;
+import applesquare.moment.redis.model.RedisKeyType;
+import applesquare.moment.redis.repository.RedisRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 조회수 쓰기 지연 (write-behind) 서비스
+ *
+ * Redis에 게시물별 누적 조회수를 보관하고 (DB 값으로 초기화한 뒤 INCR),
+ * 변경된 게시물 ID만 모아서 주기적으로 DB에 일괄 반영한다.
+ * DB에는 항상 GREATEST로 반영하므로, 조회수가 줄어드는 일은 없다.
+ */
+@Log4j2
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PostViewCountServiceImpl implements PostViewCountService {
+    private final RedisRepository redisRepository;
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+
+    /**
+     * 게시물 조회수 증가
+     * (Redis를 사용할 수 없는 경우, DB 조회수를 직접 증가시킨다.)
+     *
+     * @param postId 게시물 ID
+     * @param increment 증가량
+     * @return 증가한 게시물 조회수
+     */
+    @Override
+    public long increment(Long postId, long increment){
+        String key=String.valueOf(postId);
+        try{
+            // 누적 조회수가 없다면, DB 조회수로 초기화
+            if(!redisRepository.exists(RedisKeyType.VIEW_COUNT, key)){
+                long persistedViewCount=postRepository.findViewCountById(postId)
+                        .orElseThrow(()-> new EntityNotFoundException("존재하지 않는 게시글입니다. (id = "+postId+")"));
+                redisRepository.saveIfAbsentWithTTL(RedisKeyType.VIEW_COUNT, key, String.valueOf(persistedViewCount), VIEW_COUNT_TTL_HOURS, TimeUnit.HOURS);
+            }
+
+            // 누적 조회수 증가
+            long viewCount=redisRepository.increment(RedisKeyType.VIEW_COUNT, key, increment);
+            redisRepository.extendTTL(RedisKeyType.VIEW_COUNT, key, VIEW_COUNT_TTL_HOURS, TimeUnit.HOURS);
+
+            // DB 반영 대상으로 등록
+            redisRepository.addToSet(RedisKeyType.VIEW_COUNT_DIRTY, DIRTY_SET_KEY, key);
+
+            return viewCount;
+
+        } catch (DataAccessException e){
+            log.warn("Redis 조회수 증가에 실패하여 DB에 직접 반영합니다. (id = "+postId+") "+e.getMessage());
+
+            if(postRepository.incrementViewCount(postId, increment)==0){
+                throw new EntityNotFoundException("존재하지 않는 게시글입니다. (id = "+postId+")");
+            }
+            return postRepository.findViewCountById(postId)
+                    .orElseThrow(()-> new EntityNotFoundException("존재하지 않는 게시글입니다. (id = "+postId+")"));
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않았을 수 있는 누적 조회수 조회
+     * (누적 조회수가 없는 게시물은 결과에 포함되지 않는다.)
+     *
+     * @param postIds 게시물 ID 목록
+     * @return 게시물 ID별 누적 조회수
+     */
+    @Override
+    public Map<Long, Long> readViewCountsByPostIds(Collection<Long> postIds){
+        Map<Long, Long> viewCountMap=new HashMap<>();
+        if(postIds==null || postIds.isEmpty()){
+            return viewCountMap;
+        }
+
+        List<Long> distinctPostIds=postIds.stream().distinct().toList();
+        try{
+            List<Object> values=redisRepository.multiGet(RedisKeyType.VIEW_COUNT, distinctPostIds.stream().map(String::valueOf).toList());
+            for(int i=0;i<distinctPostIds.size();i++){
+                Object value=values.get(i);
+                if(value!=null){
+                    viewCountMap.put(distinctPostIds.get(i), Long.parseLong(value.toString()));
+                }
+            }
+        } catch (DataAccessException e){
+            // Redis를 사용할 수 없다면, DB 조회수만 사용한다.
+            log.warn("Redis 조회수 조회에 실패했습니다. "+e.getMessage());
+        }
+        return viewCountMap;
+    }
+
+    /**
+     * 게시물의 누적 조회수 제거 (게시물 삭제 시)
+     * @param postId 게시물 ID
+     */
+    @Override
+    public void evict(Long postId){
+        try{
+            redisRepository.delete(RedisKeyType.VIEW_COUNT, String.valueOf(postId));
+        } catch (DataAccessException e){
+            log.warn("Redis 조회수 삭제에 실패했습니다. (id = "+postId+") "+e.getMessage());
+        }
+    }
+
+    /**
+     * 누적 조회수를 DB에 일괄 반영
+     * (변경된 게시물 ID를 묶음 단위로 꺼내서 batch UPDATE)
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${applesquare.moment.view-count.flush-interval-ms:5000}")
+    public void flush(){
+        while(true){
+            Set<Object> dirtyKeys;
+            try{
+                dirtyKeys=redisRepository.popFromSet(RedisKeyType.VIEW_COUNT_DIRTY, DIRTY_SET_KEY, FLUSH_BATCH_SIZE);
+            } catch (DataAccessException e){
+                log.warn("Redis 조회수 반영 대상 조회에 실패했습니다. "+e.getMessage());
+                return;
+            }
+            if(dirtyKeys.isEmpty()){
+                return;
+            }
+
+            List<String> keys=dirtyKeys.stream().map(Object::toString).toList();
+            List<Object> values;
+            try{
+                values=redisRepository.multiGet(RedisKeyType.VIEW_COUNT, keys);
+            } catch (DataAccessException e){
+                // 누적 조회수를 읽지 못하면, 다음 주기에 다시 반영하도록 되돌려 놓는다.
+                log.error("Redis 누적 조회수 조회에 실패했습니다. "+e.getMessage());
+                restoreDirtyKeys(keys);
+                return;
+            }
+
+            List<Object[]> batchArgs=new ArrayList<>();
+            for(int i=0;i<keys.size();i++){
+                Object value=values.get(i);
+                if(value!=null){
+                    batchArgs.add(new Object[]{Long.parseLong(value.toString()), Long.parseLong(keys.get(i))});
+                }
+            }
+
+            try{
+                jdbcTemplate.batchUpdate("UPDATE post SET view_count=GREATEST(view_count, ?) WHERE id=?", batchArgs);
+                jdbcTemplate.batchUpdate("UPDATE post_stats SET view_count=GREATEST(view_count, ?) WHERE post_id=?", batchArgs);
+            } catch (DataAccessException e){
+                // DB 반영에 실패하면, 다음 주기에 다시 반영하도록 되돌려 놓는다.
+                log.error("조회수 DB 반영에 실패했습니다. "+e.getMessage());
+                restoreDirtyKeys(keys);
+                return;
+            }
+
+            if(keys.size()<FLUSH_BATCH_SIZE){
+                return;
+            }
+        }
+    }
+
+    /**
+     * 꺼낸 게시물 ID를 DB 반영 대상으로 되돌리기
+     * (되돌리는 것마저 실패하면, 해당 게시물이 다시 조회될 때 반영 대상으로 등록된다.)
+     */
+    private void restoreDirtyKeys(List<String> keys){
+        try{
+            redisRepository.addToSet(RedisKeyType.VIEW_COUNT_DIRTY, DIRTY_SET_KEY, keys.toArray(new String[0]));
+        } catch (DataAccessException e){
+            log.error("조회수 반영 대상 복구에 실패했습니다. (count = "+keys.size()+") "+e.getMessage());
+        }
+    }
+}
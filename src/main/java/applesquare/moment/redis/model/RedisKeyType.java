@@ -3,5 +3,12 @@ package applesquare.moment.redis.model;
 public enum RedisKeyType {
     BLACKLIST,
     STATE,
-    EMAIL_CODE
+    EMAIL_CODE,
+    VIEW_COUNT,
+    VIEW_COUNT_DIRTY,
+    TIMELINE,
+    WRITER_TIMELINE,
+    PULLED_WRITER,
+    POST_DETAIL,
+    TAG_USAGE
 }
@@ -2,6 +2,10 @@ package applesquare.moment.redis.repository;
 
 import applesquare.moment.redis.model.RedisKeyType;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 public interface RedisRepository {
@@ -10,4 +14,18 @@ public interface RedisRepository {
     Object get(RedisKeyType keyType, String key);
     void delete(RedisKeyType keyType, String key);
     boolean extendTTL(RedisKeyType keyType, String key, long ttl, TimeUnit unit);
+    boolean saveIfAbsentWithTTL(RedisKeyType keyType, String key, String value, long ttl, TimeUnit unit);
+    long increment(RedisKeyType keyType, String key, long delta);
+    List<Object> multiGet(RedisKeyType keyType, Collection<String> keys);
+    void addToSet(RedisKeyType keyType, String key, String... values);
+    boolean isMemberOfSet(RedisKeyType keyType, String key, String value);
+    Set<String> readSet(RedisKeyType keyType, String key);
+    Set<Object> popFromSet(RedisKeyType keyType, String key, long count);
+    void saveSortedSetWithTTL(RedisKeyType keyType, String key, Map<String, Double> valueScores, long ttl, TimeUnit unit);
+    long addToSortedSetsIfExist(RedisKeyType keyType, Collection<String> keys, Map<String, Double> valueScores, long maxSize);
+    void removeFromSortedSets(RedisKeyType keyType, Collection<String> keys, Collection<String> values);
+    long sizeOfSortedSet(RedisKeyType keyType, String key);
+    List<String> reverseRangeByScore(RedisKeyType keyType, String key, double min, double max, long count);
+    void incrementScoresWithTTL(RedisKeyType keyType, String key, Map<String, Double> deltas, long ttl, TimeUnit unit);
+    List<Map<String, Double>> readSortedSets(RedisKeyType keyType, List<String> keys);
 }
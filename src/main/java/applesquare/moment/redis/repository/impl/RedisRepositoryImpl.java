@@ -4,9 +4,16 @@ import applesquare.moment.redis.model.RedisKeyType;
 import applesquare.moment.redis.repository.RedisRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 @Repository
@@ -14,6 +21,20 @@ import java.util.concurrent.TimeUnit;
 public class RedisRepositoryImpl implements RedisRepository {
     private final RedisTemplate<String, Object> redisTemplate;
 
+    // 키가 존재하는 정렬 집합에만 값을 추가하고, 최대 크기를 넘는 오래된 값을 잘라내는 스크립트
+    // (ARGV[1] : 최대 크기, ARGV[2..] : 점수, 값 쌍)
+    private static final RedisScript<Long> ADD_TO_SORTED_SETS_IF_EXIST_SCRIPT=new DefaultRedisScript<>(
+            "local count=0 " +
+            "for _, key in ipairs(KEYS) do " +
+                "if redis.call('EXISTS', key)==1 then " +
+                    "for i=2, #ARGV, 2 do redis.call('ZADD', key, ARGV[i], ARGV[i+1]) end " +
+                    "redis.call('ZREMRANGEBYRANK', key, 0, -(tonumber(ARGV[1])+1)) " +
+                    "count=count+1 " +
+                "end " +
+            "end " +
+            "return count",
+            Long.class);
+
     /**
      * Redis에 타임 아웃 설정과 함께 키-값 추가
      * @param keyType 키 용도
@@ -90,6 +111,276 @@ public class RedisRepositoryImpl implements RedisRepository {
         }
     }
 
+    /**
+     * 키가 존재하지 않을 때만 타임 아웃 설정과 함께 키-값 추가
+     * @param keyType 키 용도
+     * @param key 키
+     * @param value 값
+     * @param ttl 키-값의 수명
+     * @param unit 타임 아웃 시간 단위
+     * @return 추가 성공 여부 (키가 이미 존재하면, 실패)
+     */
+    @Override
+    public boolean saveIfAbsentWithTTL(RedisKeyType keyType, String key, String value, long ttl, TimeUnit unit){
+        Boolean result=redisTemplate.opsForValue().setIfAbsent(getKey(keyType, key), value, ttl, unit);
+        return Boolean.TRUE.equals(result);
+    }
+
+    /**
+     * 특정 키의 값을 원자적으로 증가
+     * (키가 존재하지 않으면, 0에서부터 증가)
+     *
+     * @param keyType 키 용도
+     * @param key 키
+     * @param delta 증가량
+     * @return 증가한 값
+     */
+    @Override
+    public long increment(RedisKeyType keyType, String key, long delta){
+        Long result=redisTemplate.opsForValue().increment(getKey(keyType, key), delta);
+        return (result!=null)? result : 0;
+    }
+
+    /**
+     * Redis에서 여러 키의 값을 한 번에 추출
+     * (키가 없는 위치에는 null이 들어간다.)
+     *
+     * @param keyType 키 용도
+     * @param keys 키 목록
+     * @return 값 목록 (키 목록과 같은 순서)
+     */
+    @Override
+    public List<Object> multiGet(RedisKeyType keyType, Collection<String> keys){
+        if(keys==null || keys.isEmpty()){
+            return new ArrayList<>();
+        }
+        List<String> redisKeys=keys.stream().map(key -> getKey(keyType, key)).toList();
+        List<Object> values=redisTemplate.opsForValue().multiGet(redisKeys);
+        return (values!=null)? values : new ArrayList<>(Collections.nCopies(redisKeys.size(), null));
+    }
+
+    /**
+     * Redis 집합에 값 추가
+     * @param keyType 키 용도
+     * @param key 키
+     * @param values 추가할 값 목록
+     */
+    @Override
+    public void addToSet(RedisKeyType keyType, String key, String... values){
+        redisTemplate.opsForSet().add(getKey(keyType, key), (Object[]) values);
+    }
+
+    /**
+     * Redis 집합에 특정 값이 있는지 확인
+     * @param keyType 키 용도
+     * @param key 키
+     * @param value 값
+     * @return 포함 여부
+     */
+    @Override
+    public boolean isMemberOfSet(RedisKeyType keyType, String key, String value){
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(getKey(keyType, key), value));
+    }
+
+    /**
+     * Redis 집합의 모든 값 조회
+     * @param keyType 키 용도
+     * @param key 키
+     * @return 값 목록
+     */
+    @Override
+    public Set<String> readSet(RedisKeyType keyType, String key){
+        Set<Object> values=redisTemplate.opsForSet().members(getKey(keyType, key));
+        Set<String> result=new HashSet<>();
+        if(values!=null){
+            values.forEach(value -> result.add(value.toString()));
+        }
+        return result;
+    }
+
+    /**
+     * Redis 집합에서 값을 원자적으로 꺼내기
+     * @param keyType 키 용도
+     * @param key 키
+     * @param count 꺼낼 최대 개수
+     * @return 꺼낸 값 목록
+     */
+    @Override
+    public Set<Object> popFromSet(RedisKeyType keyType, String key, long count){
+        List<Object> values=redisTemplate.opsForSet().pop(getKey(keyType, key), count);
+        return (values!=null)? new HashSet<>(values) : new HashSet<>();
+    }
+
+    /**
+     * Redis 정렬 집합을 새로 만들어서 저장
+     * (기존 정렬 집합은 덮어쓴다.)
+     *
+     * @param keyType 키 용도
+     * @param key 키
+     * @param valueScores 값별 점수
+     * @param ttl 키-값의 수명
+     * @param unit 타임 아웃 시간 단위
+     */
+    @Override
+    public void saveSortedSetWithTTL(RedisKeyType keyType, String key, Map<String, Double> valueScores, long ttl, TimeUnit unit){
+        String redisKey=getKey(keyType, key);
+        Set<ZSetOperations.TypedTuple<Object>> tuples=new HashSet<>();
+        for(Map.Entry<String, Double> entry : valueScores.entrySet()){
+            tuples.add(ZSetOperations.TypedTuple.of(entry.getKey(), entry.getValue()));
+        }
+
+        redisTemplate.delete(redisKey);
+        if(!tuples.isEmpty()){
+            redisTemplate.opsForZSet().add(redisKey, tuples);
+            redisTemplate.expire(redisKey, ttl, unit);
+        }
+    }
+
+    /**
+     * 이미 존재하는 Redis 정렬 집합들에만 값 추가
+     * (존재하지 않는 키는 건너뛰고, 최대 크기를 넘는 낮은 점수의 값은 잘라낸다.)
+     *
+     * @param keyType 키 용도
+     * @param keys 키 목록
+     * @param valueScores 값별 점수
+     * @param maxSize 정렬 집합의 최대 크기
+     * @return 값이 추가된 정렬 집합 개수
+     */
+    @Override
+    public long addToSortedSetsIfExist(RedisKeyType keyType, Collection<String> keys, Map<String, Double> valueScores, long maxSize){
+        if(keys==null || keys.isEmpty() || valueScores==null || valueScores.isEmpty()){
+            return 0;
+        }
+
+        List<String> redisKeys=keys.stream().map(key -> getKey(keyType, key)).toList();
+        List<Object> args=new ArrayList<>();
+        args.add(String.valueOf(maxSize));
+        for(Map.Entry<String, Double> entry : valueScores.entrySet()){
+            args.add(String.valueOf(entry.getValue().longValue()));
+            args.add(entry.getKey());
+        }
+
+        Long result=redisTemplate.execute(ADD_TO_SORTED_SETS_IF_EXIST_SCRIPT, redisKeys, args.toArray());
+        return (result!=null)? result : 0;
+    }
+
+    /**
+     * 여러 Redis 정렬 집합에서 값 제거
+     * (요청 왕복을 줄이기 위해 파이프라인으로 보낸다.)
+     *
+     * @param keyType 키 용도
+     * @param keys 키 목록
+     * @param values 제거할 값 목록
+     */
+    @Override
+    public void removeFromSortedSets(RedisKeyType keyType, Collection<String> keys, Collection<String> values){
+        if(keys==null || keys.isEmpty() || values==null || values.isEmpty()){
+            return;
+        }
+
+        byte[][] rawValues=values.stream()
+                .map(value -> value.getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for(String key : keys){
+                connection.zSetCommands().zRem(getKey(keyType, key).getBytes(StandardCharsets.UTF_8), rawValues);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Redis 정렬 집합의 크기 조회
+     * @param keyType 키 용도
+     * @param key 키
+     * @return 정렬 집합의 크기 (키가 없으면, 0)
+     */
+    @Override
+    public long sizeOfSortedSet(RedisKeyType keyType, String key){
+        Long size=redisTemplate.opsForZSet().zCard(getKey(keyType, key));
+        return (size!=null)? size : 0;
+    }
+
+    /**
+     * Redis 정렬 집합에서 점수 범위에 속한 값을 점수 내림차순으로 조회
+     * @param keyType 키 용도
+     * @param key 키
+     * @param min 최소 점수 (포함)
+     * @param max 최대 점수 (포함)
+     * @param count 최대 개수
+     * @return 값 목록 (점수 내림차순)
+     */
+    @Override
+    public List<String> reverseRangeByScore(RedisKeyType keyType, String key, double min, double max, long count){
+        Set<Object> values=redisTemplate.opsForZSet().reverseRangeByScore(getKey(keyType, key), min, max, 0, count);
+        if(values==null){
+            return new ArrayList<>();
+        }
+        return values.stream().map(Object::toString).toList();
+    }
+
+    /**
+     * Redis 정렬 집합의 여러 값의 점수를 증가시키고, 타임 아웃 설정
+     * (요청 왕복을 줄이기 위해 파이프라인으로 보낸다.)
+     *
+     * @param keyType 키 용도
+     * @param key 키
+     * @param deltas 값별 점수 증가량
+     * @param ttl 키의 수명
+     * @param unit 타임 아웃 시간 단위
+     */
+    @Override
+    public void incrementScoresWithTTL(RedisKeyType keyType, String key, Map<String, Double> deltas, long ttl, TimeUnit unit){
+        if(deltas==null || deltas.isEmpty()){
+            return;
+        }
+
+        byte[] rawKey=getKey(keyType, key).getBytes(StandardCharsets.UTF_8);
+        long ttlSeconds=unit.toSeconds(ttl);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for(Map.Entry<String, Double> entry : deltas.entrySet()){
+                connection.zSetCommands().zIncrBy(rawKey, entry.getValue(), entry.getKey().getBytes(StandardCharsets.UTF_8));
+            }
+            connection.keyCommands().expire(rawKey, ttlSeconds);
+            return null;
+        });
+    }
+
+    /**
+     * 여러 Redis 정렬 집합의 모든 값과 점수 조회
+     * (요청 왕복을 줄이기 위해 파이프라인으로 보낸다.)
+     *
+     * @param keyType 키 용도
+     * @param keys 키 목록
+     * @return 키 순서대로 (값 → 점수) 맵 목록 (키가 없으면, 빈 맵)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Double>> readSortedSets(RedisKeyType keyType, List<String> keys){
+        if(keys==null || keys.isEmpty()){
+            return new ArrayList<>();
+        }
+
+        List<Object> results=redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for(String key : keys){
+                connection.zSetCommands().zRangeWithScores(getKey(keyType, key).getBytes(StandardCharsets.UTF_8), 0, -1);
+            }
+            return null;
+        }, null);
+
+        List<Map<String, Double>> sortedSets=new ArrayList<>(results.size());
+        for(Object result : results){
+            Map<String, Double> valueScores=new HashMap<>();
+            if(result instanceof Collection<?> tuples){
+                for(Tuple tuple : (Collection<Tuple>) tuples){
+                    valueScores.put(new String(tuple.getValue(), StandardCharsets.UTF_8), tuple.getScore());
+                }
+            }
+            sortedSets.add(valueScores);
+        }
+        return sortedSets;
+    }
+
     /**
      * Redis에 넣을 키 이름 생성
      * @param keyType 키 용도
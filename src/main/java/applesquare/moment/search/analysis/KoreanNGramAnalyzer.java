@@ -0,0 +1,56 @@
+package applesquare.moment.search.analysis;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+
+/**
+ * 한국어 검색용 분석기 (조사 제거 + 문자 2~3-gram)
+ *
+ * - 색인용 : 원본 토큰과 조사를 뗀 토큰의 2~3-gram을 모두 색인한다.
+ *           (MIN_GRAM 글자보다 짧거나 MAX_GRAM 글자보다 긴 토큰은 원본도 함께 색인)
+ * - 검색용 : 조사를 뗀 토큰을 MAX_GRAM 글자 단위로 나눈다.
+ * 색인과 검색에 같은 규칙을 사용하므로, "카페에서"로 작성된 게시물을 "카페"나 "페에"로도 찾을 수 있다.
+ */
+public class KoreanNGramAnalyzer extends Analyzer {
+    public static final int MIN_GRAM=2;
+    public static final int MAX_GRAM=3;
+
+    private final boolean forQuery;
+
+
+    private KoreanNGramAnalyzer(boolean forQuery){
+        this.forQuery=forQuery;
+    }
+
+    public static KoreanNGramAnalyzer forIndex(){
+        return new KoreanNGramAnalyzer(false);
+    }
+
+    public static KoreanNGramAnalyzer forQuery(){
+        return new KoreanNGramAnalyzer(true);
+    }
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName){
+        Tokenizer source=new StandardTokenizer();
+        TokenStream result=new LowerCaseFilter(source);
+        if(forQuery){
+            result=new KoreanParticleFilter(result, false);
+            result=new KoreanQueryGramFilter(result, MAX_GRAM);
+        }
+        else{
+            result=new KoreanParticleFilter(result, true);
+            result=new NGramTokenFilter(result, MIN_GRAM, MAX_GRAM, true);
+        }
+        return new TokenStreamComponents(source, result);
+    }
+
+    @Override
+    protected TokenStream normalize(String fieldName, TokenStream in){
+        return new LowerCaseFilter(in);
+    }
+}
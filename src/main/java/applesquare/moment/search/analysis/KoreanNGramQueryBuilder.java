@@ -0,0 +1,92 @@
+package applesquare.moment.search.analysis;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * KoreanNGramAnalyzer로 색인한 필드에 대한 검색 조건 생성기
+ *
+ * 검색어의 모든 n-gram이 (여러 필드 중 하나에) 포함된 문서만 찾는다.
+ * 한 글자 검색어는 n-gram으로 만들 수 없으므로, 해당 글자를 포함하는 n-gram을 찾는다.
+ * (토큰의 모든 2-gram을 색인하므로, 토큰 안의 글자는 n-gram의 첫 글자이거나 2-gram의 마지막 글자로 반드시 색인된다.)
+ */
+public class KoreanNGramQueryBuilder {
+    private final Analyzer queryAnalyzer=KoreanNGramAnalyzer.forQuery();
+
+
+    /**
+     * 검색 조건 생성
+     *
+     * @param text 검색어
+     * @param fields 검색할 필드 목록
+     * @return 검색 조건 (검색할 n-gram이 없다면 null)
+     */
+    public Query build(String text, String... fields){
+        Set<String> grams=analyze(text);
+        if(grams.isEmpty()) return null;
+
+        BooleanQuery.Builder builder=new BooleanQuery.Builder();
+        for(String gram : grams){
+            BooleanQuery.Builder gramBuilder=new BooleanQuery.Builder();
+            for(String field : fields){
+                gramBuilder.add(gramQuery(field, gram), BooleanClause.Occur.SHOULD);
+            }
+            // 점수는 사용하지 않으므로 (ID 순 정렬) FILTER로 추가
+            builder.add(gramBuilder.build(), BooleanClause.Occur.FILTER);
+        }
+        return new ConstantScoreQuery(builder.build());
+    }
+
+    /**
+     * 검색어를 검색용 n-gram 목록으로 분리 (중복 제거)
+     *
+     * @param text 검색어
+     * @return n-gram 목록
+     */
+    public Set<String> analyze(String text){
+        Set<String> grams=new LinkedHashSet<>();
+        try(TokenStream tokenStream=queryAnalyzer.tokenStream("", text)){
+            CharTermAttribute charTermAttribute=tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while(tokenStream.incrementToken()){
+                grams.add(charTermAttribute.toString());
+            }
+            tokenStream.end();
+        } catch (IOException e){
+            throw new UncheckedIOException(e);
+        }
+        return grams;
+    }
+
+    private Query gramQuery(String field, String gram){
+        Term term=new Term(field, gram);
+        if(gram.codePointCount(0, gram.length())<KoreanNGramAnalyzer.MIN_GRAM){
+            // 해당 글자로 시작하는 n-gram 또는 해당 글자로 끝나는 2-gram
+            String escaped=escapeWildcard(gram);
+            return new BooleanQuery.Builder()
+                    .add(new PrefixQuery(term), BooleanClause.Occur.SHOULD)
+                    .add(new WildcardQuery(new Term(field, WildcardQuery.WILDCARD_CHAR+escaped)), BooleanClause.Occur.SHOULD)
+                    .build();
+        }
+        return new TermQuery(term);
+    }
+
+    private String escapeWildcard(String text){
+        StringBuilder escaped=new StringBuilder(text.length());
+        for(char c : text.toCharArray()){
+            if(c==WildcardQuery.WILDCARD_STRING || c==WildcardQuery.WILDCARD_CHAR || c==WildcardQuery.WILDCARD_ESCAPE){
+                escaped.append(WildcardQuery.WILDCARD_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
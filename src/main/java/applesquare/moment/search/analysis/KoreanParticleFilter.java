@@ -0,0 +1,105 @@
+package applesquare.moment.search.analysis;
+
+import org.apache.lucene.analysis.TokenFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 한글 토큰 끝에 붙은 조사를 제거하는 필터 (예: 카페에서 → 카페)
+ *
+ * 형태소 분석 없이 자주 쓰이는 조사 목록만 사용하므로,
+ * 조사를 뗀 나머지가 MIN_STEM_LENGTH 글자 이상인 경우에만 제거한다. (예: 사과 → 사과)
+ * keepOriginal이 true라면 원본 토큰과 조사를 뗀 토큰을 같은 위치에 모두 내보낸다.
+ */
+public final class KoreanParticleFilter extends TokenFilter {
+    public static final int MIN_STEM_LENGTH=2;
+
+    // 긴 조사부터 비교해야 "으로"가 "로"보다 먼저 제거된다.
+    private static final List<String> PARTICLES=List.of(
+                    "에서부터", "으로부터", "에게서", "한테서", "으로서", "으로써",
+                    "에서", "에게", "한테", "께서", "으로", "까지", "부터", "처럼", "보다", "이랑", "하고", "마다", "조차",
+                    "은", "는", "이", "가", "을", "를", "의", "에", "와", "과", "도", "만", "로", "랑"
+            ).stream()
+            .sorted(Comparator.comparingInt(String::length).reversed())
+            .toList();
+
+    private final CharTermAttribute termAttribute=addAttribute(CharTermAttribute.class);
+    private final PositionIncrementAttribute positionIncrementAttribute=addAttribute(PositionIncrementAttribute.class);
+    private final boolean keepOriginal;
+
+    private String pendingStem;
+    private State pendingState;
+
+
+    public KoreanParticleFilter(TokenStream input, boolean keepOriginal){
+        super(input);
+        this.keepOriginal=keepOriginal;
+    }
+
+    @Override
+    public boolean incrementToken() throws IOException {
+        // 원본 토큰 다음에 조사를 뗀 토큰 내보내기
+        if(pendingStem!=null){
+            restoreState(pendingState);
+            termAttribute.setEmpty().append(pendingStem);
+            positionIncrementAttribute.setPositionIncrement(0);
+            pendingStem=null;
+            pendingState=null;
+            return true;
+        }
+
+        if(!input.incrementToken()) return false;
+
+        String term=termAttribute.toString();
+        String stem=stripParticle(term);
+        if(stem.equals(term)) return true;
+
+        if(keepOriginal){
+            pendingStem=stem;
+            pendingState=captureState();
+        }
+        else{
+            termAttribute.setEmpty().append(stem);
+        }
+        return true;
+    }
+
+    @Override
+    public void reset() throws IOException {
+        super.reset();
+        pendingStem=null;
+        pendingState=null;
+    }
+
+    /**
+     * 한글 토큰 끝의 조사 제거
+     *
+     * @param term 토큰
+     * @return 조사를 뗀 토큰 (한글 토큰이 아니거나 조사가 없다면 원본 그대로)
+     */
+    public static String stripParticle(String term){
+        if(!isHangul(term)) return term;
+
+        for(String particle : PARTICLES){
+            if(term.endsWith(particle) && term.length()-particle.length()>=MIN_STEM_LENGTH){
+                return term.substring(0, term.length()-particle.length());
+            }
+        }
+        return term;
+    }
+
+    private static boolean isHangul(String term){
+        if(term.isEmpty()) return false;
+        for(int i=0; i<term.length(); i++){
+            if(Character.UnicodeScript.of(term.charAt(i))!=Character.UnicodeScript.HANGUL){
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,63 @@
+package applesquare.moment.search.analysis;
+
+import org.apache.lucene.analysis.TokenFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+
+import java.io.IOException;
+
+/**
+ * 검색어 토큰을 gramSize 글자 단위의 n-gram으로 분리하는 필터
+ *
+ * 색인에는 모든 2~3-gram이 들어 있으므로, 검색어는 가장 긴 n-gram만 사용해도 충분하다.
+ * (gramSize 글자 이하의 토큰은 그대로 내보낸다.)
+ */
+public final class KoreanQueryGramFilter extends TokenFilter {
+    private final CharTermAttribute termAttribute=addAttribute(CharTermAttribute.class);
+    private final int gramSize;
+
+    private String currentTerm;
+    private State currentState;
+    private int gramStart;  // 다음 n-gram의 시작 인덱스 (char 단위)
+
+
+    public KoreanQueryGramFilter(TokenStream input, int gramSize){
+        super(input);
+        this.gramSize=gramSize;
+    }
+
+    @Override
+    public boolean incrementToken() throws IOException {
+        while(true){
+            // 현재 토큰에서 남은 n-gram 내보내기
+            if(currentTerm!=null){
+                if(currentTerm.codePointCount(gramStart, currentTerm.length())>=gramSize){
+                    int gramEnd=currentTerm.offsetByCodePoints(gramStart, gramSize);
+                    restoreState(currentState);
+                    termAttribute.setEmpty().append(currentTerm, gramStart, gramEnd);
+                    gramStart=currentTerm.offsetByCodePoints(gramStart, 1);
+                    return true;
+                }
+                currentTerm=null;
+                currentState=null;
+            }
+
+            if(!input.incrementToken()) return false;
+
+            String term=termAttribute.toString();
+            if(term.codePointCount(0, term.length())<=gramSize) return true;
+
+            currentTerm=term;
+            currentState=captureState();
+            gramStart=0;
+        }
+    }
+
+    @Override
+    public void reset() throws IOException {
+        super.reset();
+        currentTerm=null;
+        currentState=null;
+        gramStart=0;
+    }
+}
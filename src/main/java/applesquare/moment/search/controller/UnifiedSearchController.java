@@ -0,0 +1,49 @@
+package applesquare.moment.search.controller;
+
+import applesquare.moment.common.exception.ResponseMap;
+import applesquare.moment.search.dto.UnifiedSearchResponseDTO;
+import applesquare.moment.search.service.UnifiedSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class UnifiedSearchController {
+    private final UnifiedSearchService unifiedSearchService;
+
+
+    /**
+     * 통합 검색 API
+     * (게시물, 모먼트, 태그, 사용자 검색을 동시에 실행하고, 섹션별 첫 페이지를 한 번에 반환)
+     *
+     * @param keyword 검색 키워드
+     * @param size 섹션별 페이지 크기
+     * @return  (status) 200,
+     *              (body) 검색 성공 메세지,
+     *                      섹션별 검색 결과 (content, hasNext, nextCursor, status)
+     *                      (다음 페이지는 섹션별 검색 API에 nextCursor를 cursor로 넘겨서 조회한다.)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Map<String, Object>> search(@RequestParam(value = "keyword", required = false) String keyword,
+                                                      @RequestParam(value = "size", required = false, defaultValue = "10") int size){
+        UnifiedSearchResponseDTO unifiedSearchResponseDTO=unifiedSearchService.search(keyword, size);
+
+        // 응답 객체 구성
+        ResponseMap responseMap=new ResponseMap();
+        responseMap.put("posts", unifiedSearchResponseDTO.getPosts());
+        responseMap.put("moments", unifiedSearchResponseDTO.getMoments());
+        responseMap.put("tags", unifiedSearchResponseDTO.getTags());
+        responseMap.put("users", unifiedSearchResponseDTO.getUsers());
+        responseMap.put("message", "통합 검색에 성공했습니다.");
+
+        return ResponseEntity.status(HttpStatus.OK).body(responseMap.getMap());
+    }
+}
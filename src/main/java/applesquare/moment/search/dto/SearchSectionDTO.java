@@ -0,0 +1,20 @@
+package applesquare.moment.search.dto;
+
+import applesquare.moment.search.model.SearchSectionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchSectionDTO<T> {
+    private List<T> content;  // 검색 결과 (시간 초과/실패 시 빈 목록)
+    private boolean hasNext;  // 다음 페이지 존재 여부
+    private String nextCursor;  // 다음 페이지 커서 (섹션별 검색 API의 cursor로 사용, 다음 페이지가 없다면 null)
+    private SearchSectionStatus status;  // 섹션 검색 결과 상태
+}
@@ -0,0 +1,21 @@
+package applesquare.moment.search.dto;
+
+import applesquare.moment.post.dto.MomentDetailReadAllResponseDTO;
+import applesquare.moment.post.dto.PostThumbnailReadAllResponseDTO;
+import applesquare.moment.tag.dto.TagReadResponseDTO;
+import applesquare.moment.user.dto.UserProfileReadResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnifiedSearchResponseDTO {
+    private SearchSectionDTO<PostThumbnailReadAllResponseDTO> posts;  // 게시물 (3열 피드)
+    private SearchSectionDTO<MomentDetailReadAllResponseDTO> moments;  // 모먼트
+    private SearchSectionDTO<TagReadResponseDTO> tags;  // 태그
+    private SearchSectionDTO<UserProfileReadResponseDTO> users;  // 사용자
+}
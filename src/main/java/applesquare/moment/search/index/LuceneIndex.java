@@ -0,0 +1,127 @@
+package applesquare.moment.search.index;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.FSDirectory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * 로컬 디스크에 보관하는 Lucene 색인
+ *
+ * 쓰기 직후 refresh()를 호출하면 커밋하지 않아도 검색에 반영되고,
+ * 디스크에는 commitIfChanged()를 주기적으로 호출해서 반영한다.
+ * 색인을 만든 분석 규칙의 버전을 커밋 데이터에 기록해두고,
+ * 버전이 다르다면 isBuilt()가 false를 반환하므로 색인을 재구성해야 한다.
+ */
+public class LuceneIndex implements Closeable {
+    private static final String VERSION_KEY="analyzerVersion";
+
+    private final String version;
+    private final FSDirectory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final boolean built;
+
+
+    public LuceneIndex(Path path, Analyzer analyzer, String version) throws IOException {
+        this.version=version;
+        this.directory=FSDirectory.open(path);
+        IndexWriterConfig config=new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        this.indexWriter=new IndexWriter(directory, config);
+        this.searcherManager=new SearcherManager(indexWriter, null);
+
+        // 같은 분석 규칙으로 만든 색인이 남아 있는지 확인
+        String builtVersion=null;
+        Iterable<Map.Entry<String, String>> commitData=indexWriter.getLiveCommitData();
+        if(commitData!=null){
+            for(Map.Entry<String, String> entry : commitData){
+                if(VERSION_KEY.equals(entry.getKey())){
+                    builtVersion=entry.getValue();
+                }
+            }
+        }
+        this.built=indexWriter.getDocStats().numDocs>0 && version.equals(builtVersion);
+    }
+
+    /**
+     * 열었을 때 같은 분석 규칙으로 만든 색인이 남아 있었는지 여부
+     * @return 재구성 없이 사용할 수 있는지 여부
+     */
+    public boolean isBuilt(){
+        return built;
+    }
+
+    public IndexWriter getWriter(){
+        return indexWriter;
+    }
+
+    /**
+     * 커밋하지 않은 변경 사항까지 검색에 반영
+     */
+    public void refresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
+    /**
+     * 최신 검색기로 검색 실행
+     * @param function 검색 함수
+     * @return 검색 결과
+     */
+    public <T> T search(SearchFunction<T> function) throws IOException {
+        IndexSearcher searcher=searcherManager.acquire();
+        try{
+            return function.apply(searcher);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * 변경 사항이 있다면 디스크에 커밋
+     */
+    public void commitIfChanged() throws IOException {
+        if(indexWriter.hasUncommittedChanges()){
+            indexWriter.commit();
+        }
+    }
+
+    /**
+     * 재구성을 위해 모든 문서 삭제
+     * (분석 규칙 버전을 커밋 데이터에서 먼저 지워서, 재구성 도중에 커밋되더라도 다음 시작 시 다시 재구성하도록 한다.
+     *  버전은 commitBuilt()에서만 기록한다.)
+     */
+    public void deleteAllForRebuild() throws IOException {
+        indexWriter.setLiveCommitData(Map.<String, String>of().entrySet());
+        indexWriter.deleteAll();
+    }
+
+    /**
+     * 재구성을 마친 색인을 현재 분석 규칙 버전과 함께 커밋
+     */
+    public void commitBuilt() throws IOException {
+        indexWriter.setLiveCommitData(Map.of(VERSION_KEY, version).entrySet());
+        indexWriter.commit();
+        searcherManager.maybeRefresh();
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+
+    @FunctionalInterface
+    public interface SearchFunction<T> {
+        T apply(IndexSearcher searcher) throws IOException;
+    }
+}
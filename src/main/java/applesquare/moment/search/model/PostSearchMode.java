@@ -0,0 +1,8 @@
+package applesquare.moment.search.model;
+
+public enum PostSearchMode {
+    POST_KEYWORD,
+    POST_TAG,
+    MOMENT_KEYWORD,
+    MOMENT_TAG
+}
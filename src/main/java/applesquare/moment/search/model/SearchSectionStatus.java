@@ -0,0 +1,7 @@
+package applesquare.moment.search.model;
+
+public enum SearchSectionStatus {
+    OK,
+    TIMEOUT,
+    FAILED
+}
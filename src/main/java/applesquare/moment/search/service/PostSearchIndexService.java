@@ -0,0 +1,22 @@
+package applesquare.moment.search.service;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostSearchIndexService {
+    int REBUILD_BATCH_SIZE=1000;
+
+
+    // 검색 색인 반영
+    void indexPosts(Collection<Long> postIds);
+    void deletePost(Long postId);
+    void reindexWriter(String writerId);
+    void rebuild();
+
+    // 검색 색인 조회 (최신순, 커서 페이징)
+    boolean isReady();
+    List<Long> searchPostIdsByKeyword(String keyword, Long cursor, int size);
+    List<Long> searchMomentIdsByKeyword(String keyword, Long cursor, int size);
+    List<Long> searchPostIdsByTag(String keyword, Long cursor, int size);
+    List<Long> searchMomentIdsByTag(String keyword, Long cursor, int size);
+}
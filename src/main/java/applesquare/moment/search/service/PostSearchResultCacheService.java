@@ -0,0 +1,13 @@
+package applesquare.moment.search.service;
+
+import applesquare.moment.search.model.PostSearchMode;
+
+import java.util.List;
+
+public interface PostSearchResultCacheService {
+    int RESULT_CACHE_MAX_SIZE=10000;
+    int RESULT_CACHE_TTL_SECONDS=10;
+
+
+    List<Long> searchPostIds(PostSearchMode mode, String keyword, Long cursor, int size);
+}
@@ -0,0 +1,10 @@
+package applesquare.moment.search.service;
+
+import applesquare.moment.search.dto.UnifiedSearchResponseDTO;
+
+public interface UnifiedSearchService {
+    int MAX_SECTION_SIZE=30;
+
+
+    UnifiedSearchResponseDTO search(String keyword, int size);
+}
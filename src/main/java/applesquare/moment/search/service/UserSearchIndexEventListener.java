@@ -0,0 +1,85 @@
+package applesquare.moment.search.service;
+
+import applesquare.moment.config.AsyncConfig;
+import applesquare.moment.follow.event.FollowedEvent;
+import applesquare.moment.follow.event.UnfollowedEvent;
+import applesquare.moment.user.event.NicknameChangedEvent;
+import applesquare.moment.user.event.UserCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 사용자 생성, 닉네임 변경, 팔로우 변경 사항을 사용자 검색 색인에 반영
+ * (트랜잭션이 커밋된 이후에 별도 스레드에서 처리하므로, 요청 응답 시간에 영향을 주지 않는다.)
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class UserSearchIndexEventListener {
+    private final UserSearchIndexService userSearchIndexService;
+
+    // 시작 시 색인 강제 재구성 여부 (예: --applesquare.moment.search.rebuild-on-startup=true)
+    @Value("${applesquare.moment.search.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+
+    /**
+     * 애플리케이션 시작 시, 색인이 비어 있거나 재구성을 요청받았다면 색인 재구성
+     */
+    @Async(AsyncConfig.MAINTENANCE_TASK_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void handleApplicationReady(){
+        if(rebuildOnStartup || !userSearchIndexService.isReady()){
+            userSearchIndexService.rebuild();
+        }
+    }
+
+    @Async(AsyncConfig.EVENT_TASK_EXECUTOR)
+    @TransactionalEventListener
+    public void handleUserCreated(UserCreatedEvent event){
+        try{
+            userSearchIndexService.indexUsers(List.of(event.getUserId()));
+        } catch (Exception e){
+            log.error("사용자 검색 색인에 실패했습니다. (userId = "+event.getUserId()+") "+e.getMessage());
+        }
+    }
+
+    @Async(AsyncConfig.EVENT_TASK_EXECUTOR)
+    @TransactionalEventListener
+    public void handleNicknameChanged(NicknameChangedEvent event){
+        try{
+            userSearchIndexService.indexUsers(List.of(event.getUserId()));
+        } catch (Exception e){
+            log.error("사용자 검색 색인 갱신에 실패했습니다. (userId = "+event.getUserId()+") "+e.getMessage());
+        }
+    }
+
+    @Async(AsyncConfig.EVENT_TASK_EXECUTOR)
+    @TransactionalEventListener
+    public void handleFollowed(FollowedEvent event){
+        updateFollowerCount(event.getFolloweeId());
+    }
+
+    @Async(AsyncConfig.EVENT_TASK_EXECUTOR)
+    @TransactionalEventListener
+    public void handleUnfollowed(UnfollowedEvent event){
+        updateFollowerCount(event.getFolloweeId());
+    }
+
+
+    private void updateFollowerCount(String userId){
+        try{
+            userSearchIndexService.updateFollowerCount(userId);
+        } catch (Exception e){
+            log.error("사용자 팔로워 수 색인 갱신에 실패했습니다. (userId = "+userId+") "+e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package applesquare.moment.search.service;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserSearchIndexService {
+    int REBUILD_BATCH_SIZE=1000;
+
+
+    // 검색 색인 반영
+    void indexUsers(Collection<String> userIds);
+    void updateFollowerCount(String userId);
+    void rebuild();
+
+    // 검색 색인 조회 (팔로워가 많은 순, (followerCount, id) 커서 페이징)
+    boolean isReady();
+    List<String> searchUserIds(String keyword, String cursor, int size);
+}
@@ -0,0 +1,313 @@
+package applesquare.moment.search.service.impl;
+
+import applesquare.moment.file.model.MediaType;
+import applesquare.moment.post.model.Post;
+import applesquare.moment.post.model.PostStatus;
+import applesquare.moment.post.repository.PostRepository;
+import applesquare.moment.search.analysis.KoreanNGramAnalyzer;
+import applesquare.moment.search.analysis.KoreanNGramQueryBuilder;
+import applesquare.moment.search.index.LuceneIndex;
+import applesquare.moment.search.service.PostSearchIndexService;
+import applesquare.moment.tag.model.Tag;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게시물 검색 색인 서비스 (Lucene)
+ *
+ * 게시물 내용, 작성자 닉네임, 태그명을 로컬 디스크의 역색인에 보관하고,
+ * 검색 시에는 게시물 ID 내림차순으로 정렬된 ID 페이지만 반환한다.
+ * 색인 변경 사항은 즉시 검색에 반영되고, 디스크에는 주기적으로 커밋한다.
+ */
+@Log4j2
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PostSearchIndexServiceImpl implements PostSearchIndexService {
+    private static final String FIELD_POST_ID="postId";
+    private static final String FIELD_ID="id";
+    private static final String FIELD_WRITER_ID="writerId";
+    private static final String FIELD_MEDIA_TYPE="mediaType";
+    private static final String FIELD_CONTENT="content";
+    private static final String FIELD_NICKNAME="nickname";
+    private static final String FIELD_TAG="tag";
+
+    // 분석 규칙이 바뀌면 값을 올려서, 기존 색인을 시작 시 재구성하도록 한다.
+    private static final String ANALYZER_VERSION="korean-ngram-1";
+
+    private final PostRepository postRepository;
+
+    @Value("${applesquare.moment.search.index-dir:./search-index/post}")
+    private String indexDir;
+
+    private final KoreanNGramQueryBuilder queryBuilder=new KoreanNGramQueryBuilder();
+    private final AtomicBoolean rebuilding=new AtomicBoolean(false);
+    private volatile boolean ready=false;
+    private LuceneIndex luceneIndex;
+
+
+    @PostConstruct
+    public void open() throws IOException {
+        luceneIndex=new LuceneIndex(Path.of(indexDir), KoreanNGramAnalyzer.forIndex(), ANALYZER_VERSION);
+
+        // 같은 분석 규칙으로 만든 색인이 남아 있다면 바로 사용 (아니라면 시작 후 재구성)
+        ready=luceneIndex.isBuilt();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        luceneIndex.close();
+    }
+
+    /**
+     * 변경된 색인을 디스크에 주기적으로 커밋
+     * (재구성하는 동안에는 완성되지 않은 색인이 디스크에 남지 않도록 커밋하지 않는다.)
+     */
+    @Scheduled(fixedDelayString = "${applesquare.moment.search.commit-interval-ms:5000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void commit(){
+        if(rebuilding.get()) return;
+
+        try{
+            luceneIndex.commitIfChanged();
+        } catch (IOException e){
+            log.error("게시물 검색 색인 커밋에 실패했습니다. "+e.getMessage());
+        }
+    }
+
+
+    /**
+     * 게시물 색인 (추가 또는 갱신)
+     * (DB에 존재하지 않거나 미디어 처리가 끝나지 않은 게시물은 색인에서 제거한다.)
+     *
+     * @param postIds 게시물 ID 목록
+     */
+    @Override
+    public void indexPosts(Collection<Long> postIds){
+        if(postIds==null || postIds.isEmpty()) return;
+
+        List<Post> posts=postRepository.findAllWithWriterAndTagsByIdIn(postIds);
+        Set<Long> missingPostIds=new HashSet<>(postIds);
+        try{
+            for(Post post : posts){
+                // 미디어 처리가 끝나지 않은 게시물은 색인에서 제외 (처리가 끝나면 다시 색인된다.)
+                if(post.getStatus()!=PostStatus.READY) continue;
+                luceneIndex.getWriter().updateDocument(postIdTerm(post.getId()), toDocument(post));
+                missingPostIds.remove(post.getId());
+            }
+            for(Long missingPostId : missingPostIds){
+                luceneIndex.getWriter().deleteDocuments(postIdTerm(missingPostId));
+            }
+            luceneIndex.refresh();
+        } catch (IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 게시물 색인 제거
+     *
+     * @param postId 게시물 ID
+     */
+    @Override
+    public void deletePost(Long postId){
+        try{
+            luceneIndex.getWriter().deleteDocuments(postIdTerm(postId));
+            luceneIndex.refresh();
+        } catch (IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 특정 작성자의 모든 게시물 재색인 (닉네임 변경 시)
+     *
+     * @param writerId 작성자 ID
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reindexWriter(String writerId){
+        List<Long> postIds=postRepository.findIdAllByWriterId(writerId, Pageable.unpaged());
+        for(int from=0; from<postIds.size(); from+=REBUILD_BATCH_SIZE){
+            int to=Math.min(from+REBUILD_BATCH_SIZE, postIds.size());
+            indexPosts(postIds.subList(from, to));
+        }
+    }
+
+    /**
+     * 검색 색인 전체 재구성
+     * (재구성하는 동안에는 isReady()가 false를 반환하므로, 검색은 DB 쿼리로 대체된다.)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuild(){
+        if(!rebuilding.compareAndSet(false, true)){
+            log.warn("검색 색인을 이미 재구성하고 있습니다.");
+            return;
+        }
+
+        ready=false;
+        try{
+            luceneIndex.deleteAllForRebuild();
+
+            long maxPostId=postRepository.findMaxId();
+            int indexedCount=0;
+            for(long fromId=0; fromId<maxPostId; fromId+=REBUILD_BATCH_SIZE){
+                long toId=fromId+REBUILD_BATCH_SIZE;
+                List<Post> posts=postRepository.findAllWithWriterAndTagsByIdRange(fromId, toId);
+                for(Post post : posts){
+                    if(post.getStatus()!=PostStatus.READY) continue;
+                    luceneIndex.getWriter().updateDocument(postIdTerm(post.getId()), toDocument(post));
+                    indexedCount++;
+                }
+            }
+
+            luceneIndex.commitBuilt();
+            ready=true;
+            log.info("검색 색인 재구성 완료 (indexed = "+indexedCount+")");
+        } catch (IOException | RuntimeException e){
+            // 색인은 준비되지 않은 상태로 남겨두고 (검색은 DB 쿼리로 대체), 다음 시작 시 다시 재구성한다.
+            log.error("검색 색인 재구성에 실패했습니다. "+e.getMessage());
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+
+    /**
+     * 검색 색인 사용 가능 여부
+     * @return 사용 가능 여부
+     */
+    @Override
+    public boolean isReady(){
+        return ready;
+    }
+
+    /**
+     * 키워드로 게시물 검색 (게시물 내용, 작성자 닉네임, 태그명)
+     */
+    @Override
+    public List<Long> searchPostIdsByKeyword(String keyword, Long cursor, int size){
+        return search(keywordQuery(keyword), null, cursor, size);
+    }
+
+    /**
+     * 키워드로 모먼트 검색 (게시물 내용, 작성자 닉네임, 태그명)
+     */
+    @Override
+    public List<Long> searchMomentIdsByKeyword(String keyword, Long cursor, int size){
+        return search(keywordQuery(keyword), MediaType.VIDEO, cursor, size);
+    }
+
+    /**
+     * 태그로 게시물 검색 (태그명)
+     */
+    @Override
+    public List<Long> searchPostIdsByTag(String keyword, Long cursor, int size){
+        return search(tagQuery(keyword), null, cursor, size);
+    }
+
+    /**
+     * 태그로 모먼트 검색 (태그명)
+     */
+    @Override
+    public List<Long> searchMomentIdsByTag(String keyword, Long cursor, int size){
+        return search(tagQuery(keyword), MediaType.VIDEO, cursor, size);
+    }
+
+
+    /**
+     * 게시물 ID 내림차순으로 검색 결과 ID 페이지 조회
+     *
+     * @param query 검색 조건
+     * @param mediaType 미디어 타입 조건 (null이면 조건 없음)
+     * @param cursor 페이지 커서 (이 ID보다 작은 게시물만 조회)
+     * @param size 페이지 크기
+     * @return 게시물 ID 목록
+     */
+    private List<Long> search(Query query, MediaType mediaType, Long cursor, int size){
+        List<Long> postIds=new ArrayList<>();
+        if(query==null) return postIds;
+
+        BooleanQuery.Builder builder=new BooleanQuery.Builder()
+                .add(query, BooleanClause.Occur.MUST);
+        if(mediaType!=null){
+            builder.add(new TermQuery(new Term(FIELD_MEDIA_TYPE, mediaType.name())), BooleanClause.Occur.FILTER);
+        }
+        if(cursor!=null){
+            builder.add(LongPoint.newRangeQuery(FIELD_ID, Long.MIN_VALUE, cursor-1), BooleanClause.Occur.FILTER);
+        }
+        Sort sort=new Sort(new SortField(FIELD_ID, SortField.Type.LONG, true));
+
+        try{
+            TopDocs topDocs=luceneIndex.search(searcher -> searcher.search(builder.build(), size, sort));
+            for(ScoreDoc scoreDoc : topDocs.scoreDocs){
+                // 정렬 기준 값(게시물 ID)을 그대로 사용
+                postIds.add((Long) ((FieldDoc) scoreDoc).fields[0]);
+            }
+        } catch (IOException e){
+            throw new UncheckedIOException(e);
+        }
+        return postIds;
+    }
+
+    /**
+     * 키워드 검색 조건 생성
+     * (검색어의 모든 n-gram이 게시물 내용, 작성자 닉네임, 태그명 중 하나에 포함되어야 한다.)
+     */
+    private Query keywordQuery(String keyword){
+        return queryBuilder.build(keyword, FIELD_CONTENT, FIELD_NICKNAME, FIELD_TAG);
+    }
+
+    /**
+     * 태그 검색 조건 생성
+     */
+    private Query tagQuery(String keyword){
+        return queryBuilder.build(keyword, FIELD_TAG);
+    }
+
+    private Term postIdTerm(Long postId){
+        return new Term(FIELD_POST_ID, String.valueOf(postId));
+    }
+
+    /**
+     * 게시물 엔티티를 색인 문서로 변환
+     */
+    private Document toDocument(Post post){
+        Document document=new Document();
+        document.add(new StringField(FIELD_POST_ID, String.valueOf(post.getId()), Field.Store.NO));
+        document.add(new LongPoint(FIELD_ID, post.getId()));
+        document.add(new NumericDocValuesField(FIELD_ID, post.getId()));
+        document.add(new StringField(FIELD_WRITER_ID, post.getWriter().getId(), Field.Store.NO));
+        if(post.getMediaType()!=null){
+            document.add(new StringField(FIELD_MEDIA_TYPE, post.getMediaType().name(), Field.Store.NO));
+        }
+        if(post.getContent()!=null){
+            document.add(new TextField(FIELD_CONTENT, post.getContent(), Field.Store.NO));
+        }
+        if(post.getWriter().getNickname()!=null){
+            document.add(new TextField(FIELD_NICKNAME, post.getWriter().getNickname(), Field.Store.NO));
+        }
+        for(Tag tag : post.getTags()){
+            document.add(new TextField(FIELD_TAG, tag.getName(), Field.Store.NO));
+        }
+        return document;
+    }
+}
@@ -0,0 +1,83 @@
+package applesquare.moment.search.service.impl;
+
+import applesquare.moment.post.repository.PostRepository;
+import applesquare.moment.search.model.PostSearchMode;
+import applesquare.moment.search.service.PostSearchIndexService;
+import applesquare.moment.search.service.PostSearchResultCacheService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시물 검색 결과 캐시 서비스
+ *
+ * (검색 방식, 페이지 크기, 커서, 키워드) → 정렬된 게시물 ID 페이지를 짧은 시간 동안 보관한다.
+ * 같은 키를 동시에 요청하면 한 요청만 검색을 실행하고, 나머지는 그 결과를 기다렸다가 사용한다.
+ * 게시물 ID만 캐싱하므로, 좋아요/팔로우 여부 같은 사용자별 정보는 요청마다 새로 조회된다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PostSearchResultCacheServiceImpl implements PostSearchResultCacheService {
+    private final PostSearchIndexService postSearchIndexService;
+    private final PostRepository postRepository;
+
+    // 검색 결과 캐시 (검색 조건 -> 게시물 ID 페이지)
+    private final Cache<String, List<Long>> resultCache=Caffeine.newBuilder()
+            .maximumSize(RESULT_CACHE_MAX_SIZE)
+            .expireAfterWrite(Duration.ofSeconds(RESULT_CACHE_TTL_SECONDS))
+            .build();
+
+
+    /**
+     * 검색 결과 게시물 ID 페이지 조회 (캐시에 없다면 검색 후 캐싱)
+     *
+     * @param mode 검색 방식
+     * @param keyword 검색 키워드
+     * @param cursor 페이지 커서 (이 ID보다 작은 게시물만 조회)
+     * @param size 페이지 크기
+     * @return 게시물 ID 목록 (최신순, 호출한 쪽에서 수정 가능)
+     */
+    @Override
+    public List<Long> searchPostIds(PostSearchMode mode, String keyword, Long cursor, int size){
+        // 키워드에 구분자가 들어가도 키가 겹치지 않도록, 키워드를 마지막에 둔다.
+        String cacheKey=mode.name()+":"+size+":"+cursor+":"+keyword;
+
+        List<Long> postIds=resultCache.get(cacheKey, key -> List.copyOf(search(mode, keyword, cursor, size)));
+        return new ArrayList<>(postIds);
+    }
+
+
+    /**
+     * 검색 방식에 따라 게시물 ID 페이지 검색
+     * (검색 색인이 준비되지 않았다면 DB에서 검색)
+     */
+    private List<Long> search(PostSearchMode mode, String keyword, Long cursor, int size){
+        boolean indexReady=postSearchIndexService.isReady();
+        switch(mode){
+            case POST_TAG:
+                return indexReady
+                        ? postSearchIndexService.searchPostIdsByTag(keyword, cursor, size)
+                        : postRepository.searchPostIdsByTag(keyword, cursor, size);
+            case MOMENT_KEYWORD:
+                return indexReady
+                        ? postSearchIndexService.searchMomentIdsByKeyword(keyword, cursor, size)
+                        : postRepository.searchMomentIdsByKeyword(keyword, cursor, size);
+            case MOMENT_TAG:
+                return indexReady
+                        ? postSearchIndexService.searchMomentIdsByTag(keyword, cursor, size)
+                        : postRepository.searchMomentIdsByTag(keyword, cursor, size);
+            case POST_KEYWORD:
+            default:
+                return indexReady
+                        ? postSearchIndexService.searchPostIdsByKeyword(keyword, cursor, size)
+                        : postRepository.searchPostIdsByKeyword(keyword, cursor, size);
+        }
+    }
+}
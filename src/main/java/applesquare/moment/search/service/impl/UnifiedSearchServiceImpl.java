@@ -0,0 +1,187 @@
+package applesquare.moment.search.service.impl;
+
+import applesquare.moment.common.dto.PageRequestDTO;
+import applesquare.moment.common.dto.PageResponseDTO;
+import applesquare.moment.config.AsyncConfig;
+import applesquare.moment.post.dto.MomentDetailReadAllResponseDTO;
+import applesquare.moment.post.dto.PostThumbnailReadAllResponseDTO;
+import applesquare.moment.post.service.MomentSearchService;
+import applesquare.moment.post.service.PostSearchService;
+import applesquare.moment.search.dto.SearchSectionDTO;
+import applesquare.moment.search.dto.UnifiedSearchResponseDTO;
+import applesquare.moment.search.model.SearchSectionStatus;
+import applesquare.moment.search.service.UnifiedSearchService;
+import applesquare.moment.tag.dto.TagReadResponseDTO;
+import applesquare.moment.tag.service.TagService;
+import applesquare.moment.user.dto.UserProfileReadResponseDTO;
+import applesquare.moment.user.service.UserProfileService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 통합 검색 서비스
+ *
+ * 게시물, 모먼트, 태그, 사용자 검색을 검색 전용 스레드 풀에서 동시에 실행하고 하나의 응답으로 묶는다.
+ * 섹션마다 제한 시간을 두어, 늦거나 실패한 섹션은 빈 결과와 상태만 반환하고 나머지 섹션은 그대로 응답한다.
+ * (하위 검색은 요청 스레드의 인증 정보를 그대로 사용하므로, 좋아요/팔로우 여부 같은 사용자별 정보도 유지된다.)
+ *
+ * 제한 시간이 지난 섹션은 아직 시작하지 않았다면 실행하지 않는다.
+ * 이미 실행 중인 하위 검색은 중단하지 않고 끝까지 실행한다. (Lucene 색인 읽기와 JDBC는 스레드 인터럽트로 안전하게 멈출 수 없다.)
+ * 대신 동시에 실행되는 섹션 수를 제한해서, 늦어진 검색이 검색 스레드와 DB 커넥션을 한도 이상 붙잡지 않게 한다.
+ * (한도를 넘는 섹션은 기다리지 않고 바로 실패로 응답한다.)
+ */
+@Log4j2
+@Service
+public class UnifiedSearchServiceImpl implements UnifiedSearchService {
+    private final PostSearchService postSearchService;
+    private final MomentSearchService momentSearchService;
+    private final TagService tagService;
+    private final UserProfileService userProfileService;
+    private final Executor searchExecutor;
+
+    @Value("${applesquare.moment.search.section-timeout-ms:1000}")
+    private long sectionTimeoutMs;
+
+    private final Semaphore sectionPermits;  // 동시에 실행 중인 (제한 시간이 지난 것 포함) 섹션 검색 수 제한
+
+
+    public UnifiedSearchServiceImpl(PostSearchService postSearchService,
+                                    MomentSearchService momentSearchService,
+                                    TagService tagService,
+                                    UserProfileService userProfileService,
+                                    @Qualifier(AsyncConfig.SEARCH_TASK_EXECUTOR) Executor searchTaskExecutor,
+                                    @Value("${applesquare.moment.search.max-running-sections:8}") int maxRunningSections){
+        this.postSearchService=postSearchService;
+        this.momentSearchService=momentSearchService;
+        this.tagService=tagService;
+        this.userProfileService=userProfileService;
+        // 작업을 제출한 스레드의 SecurityContext를 작업 스레드에 전달
+        this.searchExecutor=new DelegatingSecurityContextExecutor(searchTaskExecutor);
+        this.sectionPermits=new Semaphore(maxRunningSections);
+    }
+
+
+    /**
+     * 키워드로 게시물, 모먼트, 태그, 사용자 통합 검색
+     *
+     * @param keyword 검색 키워드
+     * @param size 섹션별 페이지 크기 (1 ~ MAX_SECTION_SIZE)
+     * @return 섹션별 검색 결과 (첫 페이지)
+     */
+    @Override
+    public UnifiedSearchResponseDTO search(String keyword, int size){
+        // 입력 형식 검사
+        if(keyword==null || keyword.isBlank()){
+            throw new IllegalArgumentException("키워드를 입력해주세요.");
+        }
+        if(size<1 || size>MAX_SECTION_SIZE){
+            throw new IllegalArgumentException("페이지 크기는 1 ~ "+MAX_SECTION_SIZE+" 사이여야 합니다.");
+        }
+
+        PageRequestDTO pageRequestDTO=PageRequestDTO.builder()
+                .size(size)
+                .keyword(keyword)
+                .build();
+
+        // 섹션별 검색을 동시에 시작
+        CompletableFuture<SearchSectionDTO<PostThumbnailReadAllResponseDTO>> posts=searchSection("posts", ()->postSearchService.searchThumbnail(pageRequestDTO), post -> String.valueOf(post.getId()));
+        CompletableFuture<SearchSectionDTO<MomentDetailReadAllResponseDTO>> moments=searchSection("moments", ()->momentSearchService.searchDetail(pageRequestDTO), moment -> String.valueOf(moment.getId()));
+        CompletableFuture<SearchSectionDTO<TagReadResponseDTO>> tags=searchSection("tags", ()->tagService.search(pageRequestDTO), TagService::toCursor);
+        CompletableFuture<SearchSectionDTO<UserProfileReadResponseDTO>> users=searchSection("users", ()->userProfileService.search(pageRequestDTO), UserProfileReadResponseDTO::getId);
+
+        // 모든 섹션이 끝나거나 제한 시간이 지날 때까지 대기 (섹션별 예외는 상태로 변환되어 있다.)
+        CompletableFuture.allOf(posts, moments, tags, users).join();
+
+        return UnifiedSearchResponseDTO.builder()
+                .posts(posts.join())
+                .moments(moments.join())
+                .tags(tags.join())
+                .users(users.join())
+                .build();
+    }
+
+
+    /**
+     * 섹션 검색을 검색 스레드 풀에서 실행
+     * (제한 시간을 넘기거나 실패하면 빈 결과와 상태를 반환한다.)
+     *
+     * @param section 섹션 이름 (로그용)
+     * @param search 섹션 검색 작업
+     * @param cursorOf 섹션 항목의 페이지 커서 변환 함수
+     * @return 섹션 검색 결과
+     */
+    private <T> CompletableFuture<SearchSectionDTO<T>> searchSection(String section, Supplier<PageResponseDTO<T>> search, Function<T, String> cursorOf){
+        // 동시에 실행 중인 섹션이 한도에 도달한 경우
+        if(!sectionPermits.tryAcquire()){
+            log.warn("통합 검색 섹션을 시작하지 못했습니다. (section = "+section+")");
+            return CompletableFuture.completedFuture(emptySection(SearchSectionStatus.FAILED));
+        }
+
+        // 작업이 시작되거나 (제한 시간이 지나서) 취소된 순간 선점하고, 선점한 쪽이 허가를 반납한다.
+        AtomicBoolean claimed=new AtomicBoolean(false);
+        CompletableFuture<PageResponseDTO<T>> future;
+        try{
+            future=CompletableFuture.supplyAsync(()->{
+                if(!claimed.compareAndSet(false, true)){
+                    throw new CancellationException();
+                }
+                try{
+                    return search.get();
+                } finally {
+                    sectionPermits.release();
+                }
+            }, searchExecutor);
+        } catch (RejectedExecutionException e){
+            // 검색 스레드 풀이 가득 찬 경우
+            sectionPermits.release();
+            log.warn("통합 검색 섹션을 시작하지 못했습니다. (section = "+section+")");
+            return CompletableFuture.completedFuture(emptySection(SearchSectionStatus.FAILED));
+        }
+
+        return future
+                .orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS)
+                .handle((page, throwable)->{
+                    if(throwable==null){
+                        List<T> content=page.getContent();
+                        String nextCursor=(page.isHasNext() && !content.isEmpty())
+                                ? cursorOf.apply(content.get(content.size()-1)) : null;
+                        return SearchSectionDTO.<T>builder()
+                                .content(content)
+                                .hasNext(page.isHasNext())
+                                .nextCursor(nextCursor)
+                                .status(SearchSectionStatus.OK)
+                                .build();
+                    }
+
+                    Throwable cause=(throwable instanceof CompletionException && throwable.getCause()!=null)
+                            ? throwable.getCause() : throwable;
+                    if(cause instanceof TimeoutException){
+                        // 아직 큐에서 기다리는 중이라면 실행하지 않고 허가를 반납한다.
+                        if(claimed.compareAndSet(false, true)){
+                            sectionPermits.release();
+                        }
+                        log.warn("통합 검색 섹션의 제한 시간을 초과했습니다. (section = "+section+")");
+                        return emptySection(SearchSectionStatus.TIMEOUT);
+                    }
+                    log.error("통합 검색 섹션 검색에 실패했습니다. (section = "+section+") "+cause.getMessage());
+                    return emptySection(SearchSectionStatus.FAILED);
+                });
+    }
+
+    private <T> SearchSectionDTO<T> emptySection(SearchSectionStatus status){
+        return SearchSectionDTO.<T>builder()
+                .content(List.of())
+                .hasNext(false)
+                .status(status)
+                .build();
+    }
+}
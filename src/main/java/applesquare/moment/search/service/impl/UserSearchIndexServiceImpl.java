@@ -0,0 +1,256 @@
+package applesquare.moment.search.service.impl;
+
+import applesquare.moment.search.analysis.KoreanNGramAnalyzer;
+import applesquare.moment.search.analysis.KoreanNGramQueryBuilder;
+import applesquare.moment.search.index.LuceneIndex;
+import applesquare.moment.search.service.UserSearchIndexService;
+import applesquare.moment.user.model.UserInfo;
+import applesquare.moment.user.repository.UserInfoRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사용자 검색 색인 서비스 (Lucene)
+ *
+ * 사용자 ID와 닉네임(n-gram)을 색인하고, 팔로워 수를 문서 값(doc values)으로 보관한다.
+ * 팔로우/언팔로우 시에는 문서를 다시 만들지 않고 팔로워 수 값만 갱신하며,
+ * 검색은 (팔로워 수 내림차순, 사용자 ID 오름차순) 정렬 후 커서 문서 다음부터 읽는다.
+ */
+@Log4j2
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class UserSearchIndexServiceImpl implements UserSearchIndexService {
+    private static final String FIELD_USER_ID="userId";
+    private static final String FIELD_USER_ID_SORT="userIdSort";
+    private static final String FIELD_NICKNAME="nickname";
+    private static final String FIELD_FOLLOWER_COUNT="followerCount";
+
+    // 분석 규칙이 바뀌면 값을 올려서, 기존 색인을 시작 시 재구성하도록 한다.
+    private static final String ANALYZER_VERSION="korean-ngram-1";
+
+    private static final Sort FOLLOWER_ORDER=new Sort(
+            new SortField(FIELD_FOLLOWER_COUNT, SortField.Type.LONG, true),
+            new SortField(FIELD_USER_ID_SORT, SortField.Type.STRING, false));
+
+    private final UserInfoRepository userInfoRepository;
+
+    @Value("${applesquare.moment.search.user-index-dir:./search-index/user}")
+    private String indexDir;
+
+    private final KoreanNGramQueryBuilder queryBuilder=new KoreanNGramQueryBuilder();
+    private final AtomicBoolean rebuilding=new AtomicBoolean(false);
+    private volatile boolean ready=false;
+    private LuceneIndex luceneIndex;
+
+
+    @PostConstruct
+    public void open() throws IOException {
+        luceneIndex=new LuceneIndex(Path.of(indexDir), KoreanNGramAnalyzer.forIndex(), ANALYZER_VERSION);
+
+        // 같은 분석 규칙으로 만든 색인이 남아 있다면 바로 사용 (아니라면 시작 후 재구성)
+        ready=luceneIndex.isBuilt();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        luceneIndex.close();
+    }
+
+    /**
+     * 변경된 색인을 디스크에 주기적으로 커밋
+     * (재구성하는 동안에는 완성되지 않은 색인이 디스크에 남지 않도록 커밋하지 않는다.)
+     */
+    @Scheduled(fixedDelayString = "${applesquare.moment.search.commit-interval-ms:5000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void commit(){
+        if(rebuilding.get()) return;
+
+        try{
+            luceneIndex.commitIfChanged();
+        } catch (IOException e){
+            log.error("사용자 검색 색인 커밋에 실패했습니다. "+e.getMessage());
+        }
+    }
+
+
+    /**
+     * 사용자 색인 (추가 또는 갱신)
+     *
+     * @param userIds 사용자 ID 목록
+     */
+    @Override
+    public void indexUsers(Collection<String> userIds){
+        if(userIds==null || userIds.isEmpty()) return;
+
+        try{
+            for(UserInfo userInfo : userInfoRepository.findAllById(userIds)){
+                luceneIndex.getWriter().updateDocument(userIdTerm(userInfo.getId()), toDocument(userInfo));
+            }
+            luceneIndex.refresh();
+        } catch (IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 사용자의 팔로워 수 갱신 (DB에 반영된 값으로)
+     *
+     * @param userId 사용자 ID
+     */
+    @Override
+    public void updateFollowerCount(String userId){
+        Optional<Long> followerCount=userInfoRepository.findFollowerCountById(userId);
+        if(followerCount.isEmpty()) return;
+
+        try{
+            luceneIndex.getWriter().updateNumericDocValue(userIdTerm(userId), FIELD_FOLLOWER_COUNT, followerCount.get());
+            luceneIndex.refresh();
+        } catch (IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 검색 색인 전체 재구성
+     * (재구성하는 동안에는 isReady()가 false를 반환하므로, 검색은 DB 쿼리로 대체된다.)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuild(){
+        if(!rebuilding.compareAndSet(false, true)){
+            log.warn("사용자 검색 색인을 이미 재구성하고 있습니다.");
+            return;
+        }
+
+        ready=false;
+        try{
+            luceneIndex.deleteAllForRebuild();
+
+            // 사용자 ID 순으로 나눠서 색인
+            String lastUserId="";
+            int indexedCount=0;
+            while(true){
+                List<UserInfo> userInfos=userInfoRepository.findAllByIdGreaterThanOrderByIdAsc(lastUserId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                if(userInfos.isEmpty()) break;
+
+                for(UserInfo userInfo : userInfos){
+                    luceneIndex.getWriter().updateDocument(userIdTerm(userInfo.getId()), toDocument(userInfo));
+                }
+                indexedCount+=userInfos.size();
+                lastUserId=userInfos.get(userInfos.size()-1).getId();
+            }
+
+            luceneIndex.commitBuilt();
+            ready=true;
+            log.info("사용자 검색 색인 재구성 완료 (indexed = "+indexedCount+")");
+        } catch (IOException | RuntimeException e){
+            // 색인은 준비되지 않은 상태로 남겨두고 (검색은 DB 쿼리로 대체), 다음 시작 시 다시 재구성한다.
+            log.error("사용자 검색 색인 재구성에 실패했습니다. "+e.getMessage());
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+
+    /**
+     * 검색 색인 사용 가능 여부
+     * @return 사용 가능 여부
+     */
+    @Override
+    public boolean isReady(){
+        return ready;
+    }
+
+    /**
+     * 키워드로 사용자 검색
+     * - 검색 속성 : 사용자 ID (일치) | 닉네임 (포함)
+     * - 정렬 기준 : 인기순 (팔로워가 많은 순, 같으면 사용자 ID 오름차순)
+     *
+     * @param keyword 검색 키워드 (비어 있다면 전체 사용자)
+     * @param cursor 페이지 커서 (이전 페이지의 마지막 사용자 ID)
+     * @param size 페이지 크기
+     * @return 사용자 ID 목록
+     */
+    @Override
+    public List<String> searchUserIds(String keyword, String cursor, int size){
+        Query query=keywordQuery(keyword);
+
+        try{
+            TopDocs topDocs=luceneIndex.search(searcher -> {
+                if(cursor==null){
+                    return searcher.search(query, size, FOLLOWER_ORDER);
+                }
+
+                // 커서 사용자의 정렬 값을 읽어서, 그 다음 문서부터 조회
+                TopFieldDocs cursorDocs=searcher.search(new TermQuery(userIdTerm(cursor)), 1, FOLLOWER_ORDER);
+                if(cursorDocs.scoreDocs.length==0){
+                    throw new IllegalArgumentException("존재하지 않는 커서입니다. (cursor="+cursor+")");
+                }
+                return searcher.searchAfter(cursorDocs.scoreDocs[0], query, size, FOLLOWER_ORDER);
+            });
+
+            List<String> userIds=new ArrayList<>();
+            for(ScoreDoc scoreDoc : topDocs.scoreDocs){
+                // 정렬 기준 값(사용자 ID)을 그대로 사용
+                userIds.add(((BytesRef) ((FieldDoc) scoreDoc).fields[1]).utf8ToString());
+            }
+            return userIds;
+        } catch (IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    /**
+     * 사용자 검색 조건 생성
+     * (사용자 ID가 키워드와 같거나, 닉네임에 키워드가 포함되어 있다면)
+     */
+    private Query keywordQuery(String keyword){
+        if(keyword==null || keyword.isBlank()){
+            return new MatchAllDocsQuery();
+        }
+
+        BooleanQuery.Builder builder=new BooleanQuery.Builder()
+                .add(new TermQuery(userIdTerm(keyword)), BooleanClause.Occur.SHOULD);
+        Query nicknameQuery=queryBuilder.build(keyword, FIELD_NICKNAME);
+        if(nicknameQuery!=null){
+            builder.add(nicknameQuery, BooleanClause.Occur.SHOULD);
+        }
+        return builder.build();
+    }
+
+    private Term userIdTerm(String userId){
+        return new Term(FIELD_USER_ID, userId);
+    }
+
+    /**
+     * 사용자 엔티티를 색인 문서로 변환
+     */
+    private Document toDocument(UserInfo userInfo){
+        Document document=new Document();
+        document.add(new StringField(FIELD_USER_ID, userInfo.getId(), Field.Store.NO));
+        document.add(new SortedDocValuesField(FIELD_USER_ID_SORT, new BytesRef(userInfo.getId())));
+        document.add(new TextField(FIELD_NICKNAME, userInfo.getNickname(), Field.Store.NO));
+        document.add(new NumericDocValuesField(FIELD_FOLLOWER_COUNT, userInfo.getFollowerCount()));
+        return document;
+    }
+}
@@ -26,11 +26,12 @@ public class TagController {
     /**
      * 태그 검색 API
      * @param size 페이지 크기
-     * @param cursor 페이지 커서
+     * @param cursor 페이지 커서 (이전 응답의 nextCursor)
      * @param keyword 검색 키워드
      * @return  (status) 200,
      *          (body)  태그 검색 성공 메세지,
-     *                  태그 검색 결과
+     *                  태그 검색 결과,
+     *                  다음 페이지 커서
      */
     @GetMapping("/search")
     public ResponseEntity<Map<String, Object>> search(@RequestParam(value = "size", required = false, defaultValue = "10") int size,
@@ -51,6 +52,8 @@ public class TagController {
         responseMap.put("message", "태그 검색에 성공했습니다.");
         responseMap.put("content", pageResponseDTO.getContent());
         responseMap.put("hasNext", pageResponseDTO.isHasNext());
+        List<TagReadResponseDTO> content=pageResponseDTO.getContent();
+        responseMap.put("nextCursor", pageResponseDTO.isHasNext()? TagService.toCursor(content.get(content.size()-1)) : null);
 
         return ResponseEntity.status(HttpStatus.OK).body(responseMap.getMap());
     }
@@ -5,5 +5,5 @@ import applesquare.moment.tag.dto.TagReadResponseDTO;
 import java.util.List;
 
 public interface CustomTagRepository {
-    List<TagReadResponseDTO> searchByKeyword(String keyword, Long cursor, int pageSized);
+    List<TagReadResponseDTO> searchByKeyword(String keyword, Long cursorUsageCount, Long cursorId, int pageSized);
 }
@@ -30,6 +30,21 @@ public interface TagRepository extends JpaRepository<Tag, Long>, CustomTagReposi
     List<Tuple> findPopularTags(@Param("baseTime") LocalDateTime baseTime,
                                 Pageable pageable);
 
+    // 전체 태그와 사용 횟수 조회 (태그 추천 색인 구성용)
+    @Query(value = "SELECT t.id AS id, t.name AS name, COUNT(pt.post_id) AS usageCount " +
+            "FROM tag t " +
+            "LEFT JOIN post_tags pt ON t.id = pt.tag_id " +
+            "GROUP BY t.id, t.name", nativeQuery = true)
+    List<Tuple> findAllWithUsageCount();
+
+    // 최근 등록된 게시물의 태그별, 시간별 사용 횟수 조회 (실시간 인기 태그 초기화용)
+    @Query(value = "SELECT pt.tag_id AS tagId, DATE_FORMAT(p.reg_date, '%Y-%m-%d %H:00:00') AS regHour, COUNT(*) AS usageCount " +
+            "FROM post p " +
+            "INNER JOIN post_tags pt ON p.id = pt.post_id " +
+            "WHERE p.reg_date >= :since " +
+            "GROUP BY pt.tag_id, regHour", nativeQuery = true)
+    List<Tuple> findUsageCountsByHourSince(@Param("since") LocalDateTime since);
+
     @Query(value = "SELECT p.id AS postId, t.name AS tagName " +
             "FROM post p " +
             "INNER JOIN post_tags pt ON p.id = pt.post_id " +
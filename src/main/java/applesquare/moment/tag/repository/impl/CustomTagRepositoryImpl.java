@@ -18,7 +18,7 @@ public class CustomTagRepositoryImpl implements CustomTagRepository {
     private final JPQLQueryFactory queryFactory;
 
     @Override
-    public List<TagReadResponseDTO> searchByKeyword(String keyword, Long cursor, int pageSize){
+    public List<TagReadResponseDTO> searchByKeyword(String keyword, Long cursorUsageCount, Long cursorId, int pageSize){
         // 키워드에 따른 검색 조건
         BooleanExpression tagNameLikeKeyword=null;
         if(keyword!=null && !keyword.isBlank()){
@@ -27,20 +27,11 @@ public class CustomTagRepositoryImpl implements CustomTagRepository {
 
         // 커서 페이징 조건
         BooleanExpression cursorCondition=null;
-        if(cursor!=null){
-            Integer cursorUsageCount=queryFactory
-                    .select(tag.posts.size())
-                    .from(tag)
-                    .where(tag.id.eq(cursor))
-                    .fetchOne();
-
+        if(cursorUsageCount!=null && cursorId!=null){
             // 사용된 회수가 cursor의 usageCount보다 작거나, 같으면서 태그 ID가 더 작으면
-            if(cursorUsageCount!=null) {
-                cursorCondition = tag.posts.size().lt(cursorUsageCount)
-                        .or(tag.posts.size().eq(cursorUsageCount).and(tag.id.lt(cursor)));
-            }else{
-                throw new IllegalArgumentException("존재하지 않는 커서입니다. (cursor="+cursor+")");
-            }
+            int usageCount=(int) Math.min(cursorUsageCount, Integer.MAX_VALUE);
+            cursorCondition = tag.posts.size().lt(usageCount)
+                    .or(tag.posts.size().eq(usageCount).and(tag.id.lt(cursorId)));
         }
 
         // 메인 쿼리 작성
@@ -51,7 +42,7 @@ public class CustomTagRepositoryImpl implements CustomTagRepository {
                         tag.posts.size().longValue().as("usageCount")))  // usageCount 필드가 long 타입이라 캐스팅
                 .from(tag)
                 .where(tagNameLikeKeyword.and(cursorCondition))
-                .orderBy(tag.posts.size().desc())
+                .orderBy(tag.posts.size().desc(), tag.id.desc())
                 .limit(pageSize)
                 .fetch();
     }
@@ -0,0 +1,18 @@
+package applesquare.moment.tag.service;
+
+import applesquare.moment.tag.dto.TagReadResponseDTO;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PopularTagService {
+    int MAX_WINDOW_DAYS=7;
+    int SNAPSHOT_SIZE=100;  // 기간별로 미리 계산해두는 인기 태그 개수
+
+
+    void changeUsage(LocalDateTime postRegDate, Collection<Long> oldTagIds, Collection<Long> newTagIds);
+    void seedRecentBuckets();
+    void refresh();
+    List<TagReadResponseDTO> readPopularTags(int days, int size);
+}
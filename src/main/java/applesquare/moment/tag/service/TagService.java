@@ -12,9 +12,19 @@ import java.util.List;
 public interface TagService {
     int MIN_TAG_NAME_LENGTH=1;
     int MAX_TAG_NAME_LENGTH=100;
+    String CURSOR_SEPARATOR="_";  // 태그 검색 커서 형식 : (사용 횟수)_(태그 ID)
 
     Tag readByName(String tagName);
     void deleteUnreferencedTags(Collection<Tag> tags);
     PageResponseDTO<TagReadResponseDTO> search(PageRequestDTO pageRequestDTO);
     List<TagReadResponseDTO> readPopularTags(Integer days, Integer size);
+
+    /**
+     * 태그 검색 결과의 다음 페이지 커서 생성
+     * @param tag 현재 페이지의 마지막 태그
+     * @return 페이지 커서 ((사용 횟수)_(태그 ID))
+     */
+    static String toCursor(TagReadResponseDTO tag){
+        return tag.getUsageCount()+CURSOR_SEPARATOR+tag.getId();
+    }
 }
@@ -0,0 +1,19 @@
+package applesquare.moment.tag.service;
+
+import applesquare.moment.tag.dto.TagReadResponseDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TagSuggestionService {
+    // 태그 추천 색인 반영 (트랜잭션 커밋 이후)
+    void add(Long tagId, String tagName);
+    void remove(Collection<Long> tagIds);
+    void changeUsage(Collection<Long> oldTagIds, Collection<Long> newTagIds);
+    void reload();
+
+    // 태그 추천 (인기순, (usageCount, id) 커서 페이징)
+    boolean isReady();
+    List<TagReadResponseDTO> search(String keyword, Long cursorUsageCount, Long cursorId, int size);
+    List<TagReadResponseDTO> readMostUsed(int size);
+}
@@ -0,0 +1,258 @@
+package applesquare.moment.tag.service.impl;
+
+import applesquare.moment.config.AsyncConfig;
+import applesquare.moment.redis.model.RedisKeyType;
+import applesquare.moment.redis.repository.RedisRepository;
+import applesquare.moment.tag.dto.TagReadResponseDTO;
+import applesquare.moment.tag.model.Tag;
+import applesquare.moment.tag.repository.TagRepository;
+import applesquare.moment.tag.service.PopularTagService;
+import applesquare.moment.util.TransactionUtil;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실시간 인기 태그 서비스
+ *
+ * 태그가 게시물에 붙거나 떨어질 때마다 Redis의 시간별 버킷(정렬 집합)에 사용 횟수를 더하고,
+ * 몇 초마다 최근 버킷을 읽어 기간별 인기 태그 스냅샷을 미리 계산해둔다.
+ * 인기 점수는 시간이 지날수록 반감기에 따라 줄어드는 가중치를 곱해서 합산한다.
+ * 태그가 떨어질 때는 게시물이 등록된 시간의 버킷에서 빼므로, 오래된 게시물의 태그 변경이 현재 점수를 깎지 않는다.
+ * 버킷이 비어 있는 상태로 시작하지 않도록, 시작 시 최근 게시물의 태그로 비어 있는 버킷을 채운다.
+ */
+@Log4j2
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PopularTagServiceImpl implements PopularTagService {
+    private static final int MAX_WINDOW_HOURS=MAX_WINDOW_DAYS*24;
+    private static final String SEEDED_KEY="seeded";  // 버킷 초기화 여부 (여러 서버가 동시에 초기화하지 않도록)
+    private static final DateTimeFormatter REG_HOUR_FORMATTER=DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final RedisRepository redisRepository;
+    private final TagRepository tagRepository;
+
+    @Value("${applesquare.moment.tag.popular-half-life-hours:6}")
+    private double halfLifeHours;
+
+    // 조회 요청이 들어온 기간(일)만 스냅샷을 계산한다.
+    private final Set<Integer> requestedDays=ConcurrentHashMap.newKeySet();
+    private volatile Map<Integer, List<TagReadResponseDTO>> snapshots=Map.of();
+
+
+    /**
+     * 게시물의 태그 변경을 시간 버킷에 반영 (커밋 이후)
+     * - 붙은 태그 : 현재 시간 버킷에 더하기
+     * - 떨어진 태그 : 게시물 등록 시간 버킷에서 빼기 (등록 시간이 집계 기간을 벗어났다면 무시)
+     *
+     * @param postRegDate 게시물 등록 시각
+     * @param oldTagIds 기존 태그 ID 목록 (게시물 생성 시 빈 목록)
+     * @param newTagIds 새로운 태그 ID 목록 (게시물 삭제 시 빈 목록)
+     */
+    @Override
+    public void changeUsage(LocalDateTime postRegDate, Collection<Long> oldTagIds, Collection<Long> newTagIds){
+        Map<String, Double> deltas=new HashMap<>();
+        oldTagIds.forEach(tagId -> deltas.merge(String.valueOf(tagId), -1.0, Double::sum));
+        newTagIds.forEach(tagId -> deltas.merge(String.valueOf(tagId), 1.0, Double::sum));
+        deltas.values().removeIf(delta -> delta==0);
+        if(deltas.isEmpty()) return;
+
+        long currentHour=currentHour();
+        long regHour=(postRegDate!=null)? toHour(postRegDate) : currentHour;
+        Map<String, Double> additions=new HashMap<>();
+        Map<String, Double> removals=new HashMap<>();
+        deltas.forEach((tagId, delta)->(delta>0 ? additions : removals).put(tagId, delta));
+        if(currentHour-regHour>=MAX_WINDOW_HOURS) removals.clear();
+
+        TransactionUtil.afterCommit(()->{
+            try{
+                incrementBucket(currentHour, currentHour, additions);
+                incrementBucket(currentHour, Math.min(regHour, currentHour), removals);
+            } catch (DataAccessException e){
+                // 인기 태그는 근사치이므로, 반영에 실패하더라도 요청은 그대로 진행한다.
+                log.error("태그 사용 횟수 반영에 실패했습니다. "+e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 시작 시 비어 있는 최근 버킷을 게시물의 태그로 채우기
+     * (배포 직후나 Redis 초기화 이후에도 최근 기간의 인기 태그를 바로 보여줄 수 있도록,
+     * 현재 시간 이전의 버킷 중 아직 없는 버킷만 채운다.)
+     */
+    @Override
+    @Async(AsyncConfig.MAINTENANCE_TASK_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void seedRecentBuckets(){
+        try{
+            // 기간 안에 이미 초기화했다면 건너뛴다. (이후 버킷은 태그 변경으로 채워진다.)
+            if(!redisRepository.saveIfAbsentWithTTL(RedisKeyType.TAG_USAGE, SEEDED_KEY, "1", MAX_WINDOW_HOURS, TimeUnit.HOURS)){
+                return;
+            }
+
+            long currentHour=currentHour();
+            Map<Long, Map<String, Double>> bucketUsages=new HashMap<>();
+            for(Tuple tuple : tagRepository.findUsageCountsByHourSince(LocalDateTime.now().minusHours(MAX_WINDOW_HOURS))){
+                long hour=toHour(LocalDateTime.parse((String) tuple.get("regHour"), REG_HOUR_FORMATTER));
+                if(hour>=currentHour || currentHour-hour>=MAX_WINDOW_HOURS) continue;
+                bucketUsages.computeIfAbsent(hour, key -> new HashMap<>())
+                        .put(String.valueOf(((Number) tuple.get("tagId")).longValue()), ((Number) tuple.get("usageCount")).doubleValue());
+            }
+
+            int seededCount=0;
+            for(Map.Entry<Long, Map<String, Double>> entry : bucketUsages.entrySet()){
+                if(redisRepository.exists(RedisKeyType.TAG_USAGE, String.valueOf(entry.getKey()))) continue;
+                incrementBucket(currentHour, entry.getKey(), entry.getValue());
+                seededCount++;
+            }
+            log.info("실시간 인기 태그 버킷 초기화 완료 (buckets = "+seededCount+")");
+        } catch (DataAccessException e){
+            log.error("실시간 인기 태그 버킷 초기화에 실패했습니다. "+e.getMessage());
+            try{
+                // 다음 시작 때 다시 초기화 (이미 채운 버킷은 건너뛴다.)
+                redisRepository.delete(RedisKeyType.TAG_USAGE, SEEDED_KEY);
+            } catch (DataAccessException deleteException){
+                log.error("실시간 인기 태그 초기화 기록 삭제에 실패했습니다. "+deleteException.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 기간별 인기 태그 스냅샷 갱신
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${applesquare.moment.tag.popular-refresh-interval-ms:5000}")
+    @Transactional(readOnly = true)
+    public void refresh(){
+        if(requestedDays.isEmpty()) return;
+
+        try{
+            snapshots=computeSnapshots(Set.copyOf(requestedDays));
+        } catch (DataAccessException e){
+            log.error("인기 태그 스냅샷 갱신에 실패했습니다. "+e.getMessage());
+        }
+    }
+
+    /**
+     * 최근 (days)일 동안의 인기 태그 조회
+     *
+     * @param days 며칠 전 기록부터 조회할 것인지 (1 ~ MAX_WINDOW_DAYS)
+     * @param size 조회할 태그 개수 (최대 SNAPSHOT_SIZE)
+     * @return 인기 태그 목록 (해당 기간에 사용된 태그가 없다면 빈 목록)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TagReadResponseDTO> readPopularTags(int days, int size){
+        int windowDays=Math.min(Math.max(days, 1), MAX_WINDOW_DAYS);
+
+        List<TagReadResponseDTO> snapshot=snapshots.get(windowDays);
+        if(snapshot==null){
+            // 처음 요청된 기간이라면, 이번 한 번만 바로 계산
+            requestedDays.add(windowDays);
+            try{
+                Map<Integer, List<TagReadResponseDTO>> computedSnapshots=computeSnapshots(Set.of(windowDays));
+                snapshots=computedSnapshots;
+                snapshot=computedSnapshots.get(windowDays);
+            } catch (DataAccessException e){
+                log.error("인기 태그 계산에 실패했습니다. "+e.getMessage());
+                return List.of();
+            }
+        }
+
+        return snapshot.subList(0, Math.min(size, snapshot.size()));
+    }
+
+
+    /**
+     * 최근 버킷을 읽어서 기간별 인기 태그 계산
+     *
+     * @param daysSet 계산할 기간(일) 목록
+     * @return 기간별 인기 태그 목록 (인기 점수 내림차순)
+     */
+    private Map<Integer, List<TagReadResponseDTO>> computeSnapshots(Set<Integer> daysSet){
+        // 현재 시간부터 과거 순으로 버킷 읽기
+        long currentHour=currentHour();
+        int maxHours=daysSet.stream().mapToInt(days -> days*24).max().orElse(0);
+        List<String> bucketKeys=new ArrayList<>(maxHours);
+        for(int age=0; age<maxHours; age++){
+            bucketKeys.add(String.valueOf(currentHour-age));
+        }
+        List<Map<String, Double>> buckets=redisRepository.readSortedSets(RedisKeyType.TAG_USAGE, bucketKeys);
+
+        // 기간별 상위 태그 ID와 사용 횟수 계산
+        Map<Integer, List<Map.Entry<Long, Long>>> topTagsByDays=new HashMap<>();
+        Set<Long> topTagIds=new HashSet<>();
+        for(int days : daysSet){
+            Map<Long, Double> scores=new HashMap<>();
+            Map<Long, Double> usageCounts=new HashMap<>();
+            for(int age=0; age<days*24 && age<buckets.size(); age++){
+                double weight=Math.pow(0.5, age/halfLifeHours);
+                for(Map.Entry<String, Double> entry : buckets.get(age).entrySet()){
+                    Long tagId=Long.parseLong(entry.getKey());
+                    scores.merge(tagId, entry.getValue()*weight, Double::sum);
+                    usageCounts.merge(tagId, entry.getValue(), Double::sum);
+                }
+            }
+
+            List<Map.Entry<Long, Long>> topTags=scores.entrySet().stream()
+                    .filter(entry -> entry.getValue()>0 && usageCounts.get(entry.getKey())>0)
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                    .limit(SNAPSHOT_SIZE)
+                    .map(entry -> Map.entry(entry.getKey(), Math.round(usageCounts.get(entry.getKey()))))
+                    .toList();
+            topTagsByDays.put(days, topTags);
+            topTags.forEach(entry -> topTagIds.add(entry.getKey()));
+        }
+
+        // 태그 이름 조회 (이미 삭제된 태그는 제외)
+        Map<Long, String> tagNames=new HashMap<>();
+        for(Tag tag : tagRepository.findAllById(topTagIds)){
+            tagNames.put(tag.getId(), tag.getName());
+        }
+
+        Map<Integer, List<TagReadResponseDTO>> result=new HashMap<>(snapshots);
+        topTagsByDays.forEach((days, topTags)->result.put(days, topTags.stream()
+                .filter(entry -> tagNames.containsKey(entry.getKey()))
+                .map(entry -> TagReadResponseDTO.builder()
+                        .id(entry.getKey())
+                        .name(tagNames.get(entry.getKey()))
+                        .usageCount(entry.getValue())
+                        .build())
+                .toList()));
+        return result;
+    }
+
+    /**
+     * 시간 버킷에 사용 횟수 더하기 (버킷은 집계 기간이 지나면 만료된다.)
+     */
+    private void incrementBucket(long currentHour, long hour, Map<String, Double> deltas){
+        if(deltas.isEmpty()) return;
+        long ttlHours=MAX_WINDOW_HOURS+1-(currentHour-hour);
+        redisRepository.incrementScoresWithTTL(RedisKeyType.TAG_USAGE, String.valueOf(hour), deltas, ttlHours, TimeUnit.HOURS);
+    }
+
+    private long currentHour(){
+        return TimeUnit.MILLISECONDS.toHours(System.currentTimeMillis());
+    }
+
+    private long toHour(LocalDateTime dateTime){
+        return TimeUnit.MILLISECONDS.toHours(dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
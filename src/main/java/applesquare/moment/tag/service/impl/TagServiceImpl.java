@@ -5,7 +5,9 @@ import applesquare.moment.common.dto.PageResponseDTO;
 import applesquare.moment.tag.dto.TagReadResponseDTO;
 import applesquare.moment.tag.model.Tag;
 import applesquare.moment.tag.repository.TagRepository;
+import applesquare.moment.tag.service.PopularTagService;
 import applesquare.moment.tag.service.TagService;
+import applesquare.moment.tag.service.TagSuggestionService;
 import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -15,7 +17,6 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -26,6 +27,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class TagServiceImpl implements TagService {
     private final TagRepository tagRepository;
+    private final TagSuggestionService tagSuggestionService;
+    private final PopularTagService popularTagService;
 
 
     /**
@@ -47,7 +50,11 @@ public class TagServiceImpl implements TagService {
             Tag newTag=Tag.builder()
                     .name(tagName)
                     .build();
-            return tagRepository.save(newTag);
+            Tag result=tagRepository.save(newTag);
+
+            // 태그 추천 색인에 추가
+            tagSuggestionService.add(result.getId(), result.getName());
+            return result;
         }
     }
 
@@ -60,12 +67,15 @@ public class TagServiceImpl implements TagService {
         List<String> tagNames=tags.stream().map(tag -> tag.getName()).toList();
         List<Tag> unreferencedTags=tagRepository.findUnreferencedTags(tagNames);
         tagRepository.deleteAll(unreferencedTags);
+
+        // 태그 추천 색인에서 제거
+        tagSuggestionService.remove(unreferencedTags.stream().map(Tag::getId).toList());
     }
 
     /**
      * 키워드로 태그 검색
      * - 검색 속성 : 태그 이름
-     * - 정렬 기준 : 인기순 (많이 참조된 순)
+     * - 정렬 기준 : 인기순 (많이 참조된 순, 같으면 최신순)
      *
      * @param pageRequestDTO 페이지 요청 정보
      * @return 태그 목록
@@ -81,13 +91,24 @@ public class TagServiceImpl implements TagService {
         // 다음 페이지 존재 여부를 확인하기 위해 (size + 1)
         int pageSize=pageRequestDTO.getSize()+1;
 
-        Long cursor=null;
+        // 커서 분리 ((사용 횟수)_(태그 ID))
+        Long cursorUsageCount=null;
+        Long cursorId=null;
         if(pageRequestDTO.getCursor()!=null){
-            cursor= Long.parseLong(pageRequestDTO.getCursor());
+            String[] cursorParts=pageRequestDTO.getCursor().split(CURSOR_SEPARATOR, -1);
+            try{
+                if(cursorParts.length!=2) throw new NumberFormatException();
+                cursorUsageCount=Long.parseLong(cursorParts[0]);
+                cursorId=Long.parseLong(cursorParts[1]);
+            } catch (NumberFormatException e){
+                throw new IllegalArgumentException("잘못된 커서입니다. (cursor="+pageRequestDTO.getCursor()+")");
+            }
         }
 
-        // 키워드에 따른 태그 검색
-        List<TagReadResponseDTO> tagReadResponseDTOS=tagRepository.searchByKeyword(keyword, cursor, pageSize);
+        // 키워드에 따른 태그 검색 (태그 추천 색인이 준비되지 않았다면 DB에서 검색)
+        List<TagReadResponseDTO> tagReadResponseDTOS=tagSuggestionService.isReady()
+                ? tagSuggestionService.search(keyword, cursorUsageCount, cursorId, pageSize)
+                : tagRepository.searchByKeyword(keyword, cursorUsageCount, cursorId, pageSize);
 
         // hasNext 설정
         boolean hasNext=false;
@@ -113,18 +134,23 @@ public class TagServiceImpl implements TagService {
     @Override
     public List<TagReadResponseDTO> readPopularTags(Integer days, Integer size){
         size = (size!=null)? size : 10;
-        Sort sort= Sort.by(Sort.Direction.DESC, "id");
-        Pageable pageable= PageRequest.of(0, size, sort);
+        days = (days!=null)? days : 1;
 
-        // 키워드에 따른 태그 검색
-        LocalDateTime baseTime = (days!=null)? LocalDateTime.now().minusDays(days) : null;
-        List<Tuple> tuples=tagRepository.findPopularTags(baseTime, pageable);
+        // 최근 (days)일 동안의 인기 태그 조회 (미리 계산해둔 스냅샷)
+        List<TagReadResponseDTO> popularTags=popularTagService.readPopularTags(days, size);
+        if(!popularTags.isEmpty()){
+            return popularTags;
+        }
 
-        if(tuples.size()==0 && baseTime!=null){
-            // 만약 최근 (days)일 동안 사용된 태그가 없다면, 전체 기간에서 인기 태그 조회
-            tuples=tagRepository.findPopularTags(null, pageable);
+        // 만약 최근 (days)일 동안 사용된 태그가 없다면, 전체 기간에서 인기 태그 조회
+        if(tagSuggestionService.isReady()){
+            return tagSuggestionService.readMostUsed(size);
         }
 
+        Sort sort= Sort.by(Sort.Direction.DESC, "id");
+        Pageable pageable= PageRequest.of(0, size, sort);
+        List<Tuple> tuples=tagRepository.findPopularTags(null, pageable);
+
         // DTO 변환
         List<TagReadResponseDTO> tagDTOs=tuples.stream().map((tuple)->{
             Tag tag1=(Tag) tuple.get("tag");
@@ -139,4 +165,4 @@ public class TagServiceImpl implements TagService {
 
         return tagDTOs;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,293 @@
+package applesquare.moment.tag.service.impl;
+
+import applesquare.moment.tag.dto.TagReadResponseDTO;
+import applesquare.moment.tag.repository.TagRepository;
+import applesquare.moment.tag.service.TagSuggestionService;
+import applesquare.moment.util.TransactionUtil;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 추천 서비스 (메모리 색인)
+ *
+ * 모든 태그 이름의 접미사(suffix)를 정렬된 맵에 보관하므로,
+ * 키워드로 시작하는 접미사 구간만 읽으면 접두/중간 일치 태그를 모두 찾을 수 있다.
+ * 태그는 인기순으로도 정렬해두므로, 일치하는 태그가 많은 짧은 키워드는 인기순으로 훑으면서 필요한 개수만 찾는다.
+ * 태그 생성, 삭제, 사용 횟수 변경은 커밋 이후에 반영하고,
+ * 다른 서버에서 일어난 변경을 반영하기 위해 주기적으로 DB에서 다시 불러온다.
+ */
+@Log4j2
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class TagSuggestionServiceImpl implements TagSuggestionService {
+    // 일치하는 태그가 이보다 많으면 인기순으로 훑는다. (아니라면 일치하는 태그만 모아서 정렬)
+    private static final int DENSE_MATCH_THRESHOLD=1000;
+    // 사용 횟수가 0인 태그 중 가장 앞선 순서보다도 앞에 오는 키
+    private static final RankKey FIRST_UNUSED_RANK=new RankKey(0, Long.MAX_VALUE);
+
+    private final TagRepository tagRepository;
+    private volatile Index index=new Index();
+    private volatile boolean ready=false;
+
+
+    /**
+     * DB에서 태그 추천 색인 다시 불러오기
+     * (애플리케이션 시작 직후에 처음 실행된다.)
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${applesquare.moment.tag.suggestion-reload-interval-ms:3600000}")
+    @Transactional(readOnly = true)
+    public void reload(){
+        Index newIndex=new Index();
+        for(Tuple tuple : tagRepository.findAllWithUsageCount()){
+            long id=((Number) tuple.get("id")).longValue();
+            String name=(String) tuple.get("name");
+            long usageCount=((Number) tuple.get("usageCount")).longValue();
+            newIndex.put(id, name, usageCount);
+        }
+
+        index=newIndex;
+        ready=true;
+        log.info("태그 추천 색인 불러오기 완료 (tags = "+newIndex.entries.size()+")");
+    }
+
+    @Override
+    public void add(Long tagId, String tagName){
+        TransactionUtil.afterCommit(()->index.put(tagId, tagName, 0));
+    }
+
+    @Override
+    public void remove(Collection<Long> tagIds){
+        List<Long> removedTagIds=List.copyOf(tagIds);
+        TransactionUtil.afterCommit(()->removedTagIds.forEach(index::remove));
+    }
+
+    /**
+     * 게시물의 태그 변경에 따른 사용 횟수 반영
+     *
+     * @param oldTagIds 기존 태그 ID 목록 (게시물 생성 시 빈 목록)
+     * @param newTagIds 새로운 태그 ID 목록 (게시물 삭제 시 빈 목록)
+     */
+    @Override
+    public void changeUsage(Collection<Long> oldTagIds, Collection<Long> newTagIds){
+        Map<Long, Long> deltas=new HashMap<>();
+        oldTagIds.forEach(tagId -> deltas.merge(tagId, -1L, Long::sum));
+        newTagIds.forEach(tagId -> deltas.merge(tagId, 1L, Long::sum));
+        deltas.values().removeIf(delta -> delta==0);
+        if(deltas.isEmpty()) return;
+
+        TransactionUtil.afterCommit(()->deltas.forEach(index::addUsage));
+    }
+
+
+    /**
+     * 태그 추천 색인 사용 가능 여부
+     * @return 사용 가능 여부
+     */
+    @Override
+    public boolean isReady(){
+        return ready;
+    }
+
+    /**
+     * 키워드가 포함된 태그 추천 (대소문자 무시)
+     * - 정렬 기준 : 인기순 (사용 횟수 내림차순, 같으면 ID 내림차순)
+     *
+     * (커서에 이전 페이지의 마지막 사용 횟수를 그대로 담아두므로, 그 사이에 사용 횟수가 바뀌거나 태그가 삭제되어도 이어서 조회된다.)
+     *
+     * @param keyword 검색 키워드
+     * @param cursorUsageCount 페이지 커서 (이전 페이지의 마지막 태그 사용 횟수)
+     * @param cursorId 페이지 커서 (이전 페이지의 마지막 태그 ID)
+     * @param size 페이지 크기
+     * @return 태그 목록
+     */
+    @Override
+    public List<TagReadResponseDTO> search(String keyword, Long cursorUsageCount, Long cursorId, int size){
+        Index currentIndex=index;
+        String key=keyword.toLowerCase(Locale.ROOT);
+
+        // 커서 이후의 태그만 조회
+        RankKey cursorKey=null;
+        if(cursorUsageCount!=null && cursorId!=null){
+            cursorKey=new RankKey(cursorUsageCount, cursorId);
+        }
+
+        List<TagReadResponseDTO> result=new ArrayList<>(size);
+        Set<Long> matchedIds=currentIndex.findIdsContaining(key, DENSE_MATCH_THRESHOLD);
+        if(matchedIds==null){
+            // 일치하는 태그가 많다면, 인기순으로 훑으면서 size개를 찾으면 멈춘다.
+            for(TagEntry entry : currentIndex.rankedAfter(cursorKey, size, entry -> entry.lowerName.contains(key))){
+                result.add(entry.toDTO());
+            }
+            return result;
+        }
+
+        // 일치하는 태그가 적다면, 모아서 정렬
+        RankKey finalCursorKey=cursorKey;
+        matchedIds.stream()
+                .map(currentIndex.entries::get)
+                .filter(Objects::nonNull)
+                .map(entry -> entry.rankKey)
+                .filter(rankKey -> finalCursorKey==null || rankKey.compareTo(finalCursorKey)>0)
+                .sorted()
+                .limit(size)
+                .forEach(rankKey -> {
+                    TagEntry entry=currentIndex.entries.get(rankKey.id);
+                    if(entry!=null) result.add(entry.toDTO());
+                });
+        return result;
+    }
+
+    /**
+     * 전체 기간에서 가장 많이 사용된 태그 조회
+     *
+     * @param size 조회할 태그 개수
+     * @return 태그 목록 (인기순)
+     */
+    @Override
+    public List<TagReadResponseDTO> readMostUsed(int size){
+        // 인기순이므로 사용 횟수가 0인 태그는 맨 뒤에 모여 있다.
+        return index.rankedBetween(null, FIRST_UNUSED_RANK, size, entry -> true).stream()
+                .map(TagEntry::toDTO)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+
+    /**
+     * 인기순 정렬 키 (사용 횟수 내림차순, 같으면 ID 내림차순)
+     */
+    private record RankKey(long usageCount, long id) implements Comparable<RankKey> {
+        @Override
+        public int compareTo(RankKey other){
+            int result=Long.compare(other.usageCount, usageCount);
+            return (result!=0)? result : Long.compare(other.id, id);
+        }
+    }
+
+    private static class TagEntry {
+        private final long id;
+        private final String name;
+        private final String lowerName;
+        private volatile RankKey rankKey;  // 현재 사용 횟수 (Index 잠금 안에서만 바꾼다.)
+
+        private TagEntry(long id, String name, long usageCount){
+            this.id=id;
+            this.name=name;
+            this.lowerName=name.toLowerCase(Locale.ROOT);
+            this.rankKey=new RankKey(usageCount, id);
+        }
+
+        private TagReadResponseDTO toDTO(){
+            return TagReadResponseDTO.builder()
+                    .id(id)
+                    .name(name)
+                    .usageCount(rankKey.usageCount)
+                    .build();
+        }
+    }
+
+    /**
+     * 태그 ID별 항목, 소문자 태그 이름의 모든 접미사 → 태그 ID 집합, 인기순으로 정렬한 항목
+     * (쓰기는 드물기 때문에 동기화하고, 읽기는 잠금 없이 수행한다.)
+     */
+    private static class Index {
+        private final Map<Long, TagEntry> entries=new ConcurrentHashMap<>();
+        private final ConcurrentSkipListMap<String, Set<Long>> suffixes=new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<RankKey, TagEntry> ranking=new ConcurrentSkipListMap<>();
+
+        private synchronized void put(long id, String name, long usageCount){
+            TagEntry newEntry=new TagEntry(id, name, usageCount);
+            if(entries.putIfAbsent(id, newEntry)!=null) return;
+            ranking.put(newEntry.rankKey, newEntry);
+
+            for(String suffix : suffixesOf(name)){
+                suffixes.computeIfAbsent(suffix, key -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+
+        private synchronized void remove(long id){
+            TagEntry entry=entries.remove(id);
+            if(entry==null) return;
+            ranking.remove(entry.rankKey);
+
+            for(String suffix : suffixesOf(entry.name)){
+                Set<Long> ids=suffixes.get(suffix);
+                if(ids!=null){
+                    ids.remove(id);
+                    if(ids.isEmpty()) suffixes.remove(suffix);
+                }
+            }
+        }
+
+        private synchronized void addUsage(long id, long delta){
+            TagEntry entry=entries.get(id);
+            if(entry==null) return;
+
+            // 새로운 순서 위치에 먼저 넣고 이전 위치를 지우므로, 읽는 쪽에서 태그가 잠시 사라지지 않는다.
+            RankKey oldKey=entry.rankKey;
+            RankKey newKey=new RankKey(Math.max(0, oldKey.usageCount+delta), id);
+            if(newKey.equals(oldKey)) return;
+            ranking.put(newKey, entry);
+            entry.rankKey=newKey;
+            ranking.remove(oldKey);
+        }
+
+        /**
+         * 소문자 키워드가 포함된 태그 ID 집합
+         *
+         * @return 태그 ID 집합 (일치하는 항목이 limit개를 넘으면 null)
+         */
+        private Set<Long> findIdsContaining(String key, int limit){
+            Set<Long> ids=new HashSet<>();
+            for(Set<Long> suffixIds : suffixes.subMap(key, true, key+Character.MAX_VALUE, false).values()){
+                ids.addAll(suffixIds);
+                if(ids.size()>limit) return null;
+            }
+            return ids;
+        }
+
+        /**
+         * 커서 이후의 태그 중 조건에 맞는 태그를 인기순으로 size개 조회 (커서가 없다면 처음부터)
+         */
+        private List<TagEntry> rankedAfter(RankKey cursorKey, int size, Predicate<TagEntry> filter){
+            return rankedBetween(cursorKey, null, size, filter);
+        }
+
+        /**
+         * 커서 이후, 끝 키 이전의 태그 중 조건에 맞는 태그를 인기순으로 size개 조회 (null이면 범위 제한 없음)
+         */
+        private List<TagEntry> rankedBetween(RankKey cursorKey, RankKey endKey, int size, Predicate<TagEntry> filter){
+            NavigableMap<RankKey, TagEntry> tail=(cursorKey==null)? ranking : ranking.tailMap(cursorKey, false);
+            if(endKey!=null) tail=tail.headMap(endKey, false);
+            List<TagEntry> result=new ArrayList<>(size);
+            for(Map.Entry<RankKey, TagEntry> ranked : tail.entrySet()){
+                if(result.size()==size) break;
+                TagEntry entry=ranked.getValue();
+                // 사용 횟수를 바꾸는 중이라면 현재 위치만 읽는다.
+                if(!ranked.getKey().equals(entry.rankKey) || !filter.test(entry)) continue;
+                result.add(entry);
+            }
+            return result;
+        }
+
+        private static List<String> suffixesOf(String name){
+            String lowerName=name.toLowerCase(Locale.ROOT);
+            List<String> result=new ArrayList<>();
+            for(int i=0; i<lowerName.length(); i=lowerName.offsetByCodePoints(i, 1)){
+                result.add(lowerName.substring(i));
+            }
+            return result;
+        }
+    }
+}
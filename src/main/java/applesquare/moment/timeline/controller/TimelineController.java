@@ -0,0 +1,55 @@
+package applesquare.moment.timeline.controller;
+
+import applesquare.moment.common.dto.PageRequestDTO;
+import applesquare.moment.common.dto.PageResponseDTO;
+import applesquare.moment.common.exception.ResponseMap;
+import applesquare.moment.post.dto.PostDetailReadAllResponseDTO;
+import applesquare.moment.timeline.service.TimelineService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/timeline")
+public class TimelineController {
+    private final TimelineService timelineService;
+
+
+    /**
+     * 나의 홈 타임라인 조회 API
+     * (나와 내가 팔로우한 사용자의 게시물 목록)
+     *
+     * @param size 페이지 크기
+     * @param cursor 페이지 커서
+     * @return  (status) 200,
+     *          (body)  조회 성공 메세지,
+     *                  게시물 목록
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> readDetailAll(@RequestParam(value = "size", required = false, defaultValue = "10") int size,
+                                                             @RequestParam(value = "cursor", required = false) String cursor){
+        // 페이지 요청 설정
+        PageRequestDTO pageRequestDTO=PageRequestDTO.builder()
+                .size(size)
+                .cursor(cursor)
+                .build();
+
+        // 타임라인 조회
+        PageResponseDTO<PostDetailReadAllResponseDTO> pageResponseDTO=timelineService.readDetailAll(pageRequestDTO);
+
+        // 응답 객체 구성
+        ResponseMap responseMap=new ResponseMap();
+        responseMap.put("content", pageResponseDTO.getContent());
+        responseMap.put("hasNext", pageResponseDTO.isHasNext());
+        responseMap.put("message", "타임라인 조회에 성공했습니다.");
+
+        return ResponseEntity.status(HttpStatus.OK).body(responseMap.getMap());
+    }
+}
@@ -0,0 +1,64 @@
+package applesquare.moment.timeline.service;
+
+import applesquare.moment.config.AsyncConfig;
+import applesquare.moment.follow.event.FollowedEvent;
+import applesquare.moment.follow.event.UnfollowedEvent;
+import applesquare.moment.post.event.PostCreatedEvent;
+import applesquare.moment.post.event.PostDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시물, 팔로우 변경 사항을 타임라인에 반영
+ * (트랜잭션이 커밋된 이후에 별도 스레드에서 처리하므로, 요청 응답 시간에 영향을 주지 않는다.)
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class TimelineEventListener {
+    private final TimelineService timelineService;
+
+
+    @Async(AsyncConfig.EVENT_TASK_EXECUTOR)
+    @TransactionalEventListener
+    public void handlePostCreated(PostCreatedEvent event){
+        try{
+            timelineService.fanOutPost(event.getPostId(), event.getWriterId());
+        } catch (Exception e){
+            log.error("타임라인 전파에 실패했습니다. (postId = "+event.getPostId()+") "+e.getMessage());
+        }
+    }
+
+    @Async(AsyncConfig.EVENT_TASK_EXECUTOR)
+    @TransactionalEventListener
+    public void handlePostDeleted(PostDeletedEvent event){
+        try{
+            timelineService.removePost(event.getPostId(), event.getWriterId());
+        } catch (Exception e){
+            log.error("타임라인 게시물 제거에 실패했습니다. (postId = "+event.getPostId()+") "+e.getMessage());
+        }
+    }
+
+    @Async(AsyncConfig.EVENT_TASK_EXECUTOR)
+    @TransactionalEventListener
+    public void handleFollowed(FollowedEvent event){
+        try{
+            timelineService.addFolloweePosts(event.getFollowerId(), event.getFolloweeId());
+        } catch (Exception e){
+            log.error("타임라인 팔로우 반영에 실패했습니다. (followerId = "+event.getFollowerId()+") "+e.getMessage());
+        }
+    }
+
+    @Async(AsyncConfig.EVENT_TASK_EXECUTOR)
+    @TransactionalEventListener
+    public void handleUnfollowed(UnfollowedEvent event){
+        try{
+            timelineService.removeFolloweePosts(event.getFollowerId(), event.getFolloweeId());
+        } catch (Exception e){
+            log.error("타임라인 팔로우 취소 반영에 실패했습니다. (followerId = "+event.getFollowerId()+") "+e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package applesquare.moment.timeline.service;
+
+import applesquare.moment.common.dto.PageRequestDTO;
+import applesquare.moment.common.dto.PageResponseDTO;
+import applesquare.moment.post.dto.PostDetailReadAllResponseDTO;
+
+public interface TimelineService {
+    int MAX_TIMELINE_SIZE=800;
+    int FAN_OUT_BATCH_SIZE=500;
+    long TIMELINE_TTL_DAYS=7;
+    String EMPTY_TIMELINE_MARKER="0";  // 비어있는 타임라인도 캐시되도록 넣는 표식 (점수 0)
+    String PULLED_WRITER_SET_KEY="writers";
+
+
+    PageResponseDTO<PostDetailReadAllResponseDTO> readDetailAll(PageRequestDTO pageRequestDTO);
+    void fanOutPost(Long postId, String writerId);
+    void removePost(Long postId, String writerId);
+    void addFolloweePosts(String followerId, String followeeId);
+    void removeFolloweePosts(String followerId, String followeeId);
+}
@@ -0,0 +1,395 @@
+package applesquare.moment.timeline.service.impl;
+
+import applesquare.moment.common.dto.PageRequestDTO;
+import applesquare.moment.common.dto.PageResponseDTO;
+import applesquare.moment.common.service.SecurityService;
+import applesquare.moment.follow.repository.FollowRepository;
+import applesquare.moment.post.dto.PostDetailReadAllResponseDTO;
+import applesquare.moment.post.model.Post;
+import applesquare.moment.post.repository.PostRepository;
+import applesquare.moment.post.service.PostReadSupport;
+import applesquare.moment.redis.model.RedisKeyType;
+import applesquare.moment.redis.repository.RedisRepository;
+import applesquare.moment.timeline.service.TimelineService;
+import applesquare.moment.user.repository.UserInfoRepository;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 팔로우 기반 홈 타임라인 서비스
+ *
+ * 사용자별 타임라인을 Redis 정렬 집합 (값 : 게시물 ID, 점수 : 게시물 ID)에 보관한다.
+ * - 게시물 생성 시 : 작성자의 팔로워 타임라인에 게시물 ID 전파 (fan-out-on-write)
+ * - 게시물 삭제 / 팔로우 취소 시 : 타임라인에서 게시물 ID 제거
+ * - 팔로우 시 : 팔로우한 사용자의 최신 게시물 ID를 타임라인에 추가
+ *
+ * 타임라인이 Redis에 없으면 (처음 조회하거나 만료된 경우), DB에서 다시 만든다.
+ * 전파는 이미 존재하는 타임라인에만 하므로, 일부만 채워진 타임라인이 생기지 않는다.
+ *
+ * 팔로워 수가 기준치 이상인 작성자는 "pull" 작성자로 분류한다.
+ * pull 작성자의 게시물은 팔로워 타임라인에 전파하지 않고, 작성자별 정렬 집합에만 보관한 뒤
+ * 조회 시점에 나의 타임라인과 게시물 ID 기준으로 k-way 병합한다. (한 번 분류되면 계속 유지)
+ */
+@Log4j2
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class TimelineServiceImpl implements TimelineService {
+    private final SecurityService securityService;
+    private final PostReadSupport postReadSupport;
+    private final PostRepository postRepository;
+    private final FollowRepository followRepository;
+    private final UserInfoRepository userInfoRepository;
+    private final RedisRepository redisRepository;
+    @Value("${applesquare.moment.timeline.pull-follower-threshold:10000}")
+    private long pullFollowerThreshold;
+
+
+    /**
+     * 나의 홈 타임라인 조회 (커서 페이징)
+     * [필요 권한 : 로그인 상태]
+     *
+     * @param pageRequestDTO 페이지 요청 정보
+     * @return 게시물 세부사항 목록
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDTO<PostDetailReadAllResponseDTO> readDetailAll(PageRequestDTO pageRequestDTO){
+        // 권한 검사
+        String userId=securityService.getUserId();
+
+        // 다음 페이지 존재 여부를 확인하기 위해 (size + 1)
+        int pageSize=pageRequestDTO.getSize()+1;
+        Long cursor=null;
+        if(pageRequestDTO.getCursor()!=null){
+            cursor=Long.parseLong(pageRequestDTO.getCursor());
+        }
+
+        // 타임라인 게시물 ID 목록 조회
+        List<Long> postIds=new ArrayList<>(readPostIds(userId, cursor, pageSize));
+
+        // hasNext 설정
+        boolean hasNext=false;
+        if(postIds.size()>pageRequestDTO.getSize()){
+            postIds.remove(postIds.size()-1);
+            hasNext=true;
+        }
+
+        // 게시물 조회 (타임라인 순서 유지, 이미 삭제된 게시물은 제외)
+        List<Post> posts=readPostsInOrder(postIds);
+
+        // 조회된 게시물 목록을 기반으로, 게시물 정보 이외에 태그, 댓글, 좋아요 정보 가져오기
+        List<PostDetailReadAllResponseDTO> postDetailReadAllResponseDTOS=postReadSupport.readPostDetailAllByPosts(posts);
+
+        // 게시글 세부사항 페이지 반환
+        return PageResponseDTO.<PostDetailReadAllResponseDTO>builder()
+                .content(postDetailReadAllResponseDTOS)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 새 게시물을 작성자와 작성자의 팔로워 타임라인에 전파
+     * @param postId 게시물 ID
+     * @param writerId 작성자 ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void fanOutPost(Long postId, String writerId){
+        Map<String, Double> valueScores=Map.of(String.valueOf(postId), postId.doubleValue());
+
+        // 작성자 본인의 타임라인
+        redisRepository.addToSortedSetsIfExist(RedisKeyType.TIMELINE, List.of(writerId), valueScores, MAX_TIMELINE_SIZE);
+
+        // pull 작성자라면, 작성자별 타임라인에만 추가 (팔로워는 조회 시점에 병합)
+        if(isPulledWriter(writerId)){
+            if(!redisRepository.exists(RedisKeyType.WRITER_TIMELINE, writerId)){
+                rebuildWriterTimeline(writerId);
+            }
+            else{
+                redisRepository.addToSortedSetsIfExist(RedisKeyType.WRITER_TIMELINE, List.of(writerId), valueScores, MAX_TIMELINE_SIZE);
+            }
+            return;
+        }
+
+        // 팔로워 타임라인 (묶음 단위로 전파)
+        forEachFollowerBatch(writerId, followerIds ->
+                redisRepository.addToSortedSetsIfExist(RedisKeyType.TIMELINE, followerIds, valueScores, MAX_TIMELINE_SIZE)
+        );
+    }
+
+    /**
+     * 삭제된 게시물을 작성자와 작성자의 팔로워 타임라인에서 제거
+     * @param postId 게시물 ID
+     * @param writerId 작성자 ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void removePost(Long postId, String writerId){
+        List<String> values=List.of(String.valueOf(postId));
+
+        redisRepository.removeFromSortedSets(RedisKeyType.TIMELINE, List.of(writerId), values);
+        redisRepository.removeFromSortedSets(RedisKeyType.WRITER_TIMELINE, List.of(writerId), values);
+        forEachFollowerBatch(writerId, followerIds ->
+                redisRepository.removeFromSortedSets(RedisKeyType.TIMELINE, followerIds, values)
+        );
+    }
+
+    /**
+     * 팔로우한 사용자의 최신 게시물을 팔로워 타임라인에 추가
+     * @param followerId 팔로워 ID
+     * @param followeeId 팔로우한 사용자 ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void addFolloweePosts(String followerId, String followeeId){
+        // pull 작성자의 게시물은 조회 시점에 병합하므로 추가하지 않는다.
+        if(redisRepository.isMemberOfSet(RedisKeyType.PULLED_WRITER, PULLED_WRITER_SET_KEY, followeeId)){
+            return;
+        }
+
+        List<Long> postIds=postRepository.findIdAllByWriterId(followeeId, PageRequest.of(0, MAX_TIMELINE_SIZE));
+        if(postIds.isEmpty()){
+            return;
+        }
+
+        Map<String, Double> valueScores=new HashMap<>();
+        for(Long postId : postIds){
+            valueScores.put(String.valueOf(postId), postId.doubleValue());
+        }
+        redisRepository.addToSortedSetsIfExist(RedisKeyType.TIMELINE, List.of(followerId), valueScores, MAX_TIMELINE_SIZE);
+    }
+
+    /**
+     * 팔로우 취소한 사용자의 게시물을 팔로워 타임라인에서 제거
+     * @param followerId 팔로워 ID
+     * @param followeeId 팔로우 취소한 사용자 ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void removeFolloweePosts(String followerId, String followeeId){
+        List<Long> postIds=postRepository.findIdAllByWriterId(followeeId, PageRequest.of(0, MAX_TIMELINE_SIZE));
+        if(postIds.isEmpty()){
+            return;
+        }
+
+        List<String> values=postIds.stream().map(String::valueOf).toList();
+        redisRepository.removeFromSortedSets(RedisKeyType.TIMELINE, List.of(followerId), values);
+    }
+
+
+    /**
+     * 타임라인에서 커서 이전의 게시물 ID 목록 조회
+     * (나의 타임라인과 내가 팔로우한 pull 작성자의 타임라인을 병합한다.)
+     * (Redis를 사용할 수 없거나 타임라인 범위를 벗어나면, DB에서 직접 조회한다.)
+     *
+     * @param userId 사용자 ID
+     * @param cursor 페이지 커서 (게시물 ID)
+     * @param count 최대 개수
+     * @return 게시물 ID 목록 (ID 내림차순)
+     */
+    private List<Long> readPostIds(String userId, Long cursor, int count){
+        try{
+            double max=(cursor!=null)? cursor-1 : Double.POSITIVE_INFINITY;
+            List<List<Long>> sources=new ArrayList<>();
+            boolean truncated=false;
+
+            // 나의 타임라인 (없다면, DB에서 다시 만들기)
+            if(!redisRepository.exists(RedisKeyType.TIMELINE, userId)){
+                rebuildTimeline(userId);
+            }
+            redisRepository.extendTTL(RedisKeyType.TIMELINE, userId, TIMELINE_TTL_DAYS, TimeUnit.DAYS);
+            sources.add(readSortedSetIds(RedisKeyType.TIMELINE, userId, max, count));
+            truncated|=redisRepository.sizeOfSortedSet(RedisKeyType.TIMELINE, userId)>=MAX_TIMELINE_SIZE;
+
+            // 내가 팔로우한 pull 작성자의 타임라인
+            for(String writerId : readFollowedPulledWriterIds(userId)){
+                if(!redisRepository.exists(RedisKeyType.WRITER_TIMELINE, writerId)){
+                    rebuildWriterTimeline(writerId);
+                }
+                sources.add(readSortedSetIds(RedisKeyType.WRITER_TIMELINE, writerId, max, count));
+                truncated|=redisRepository.sizeOfSortedSet(RedisKeyType.WRITER_TIMELINE, writerId)>=MAX_TIMELINE_SIZE;
+            }
+
+            List<Long> postIds=mergeDescending(sources, count);
+
+            // 타임라인 최대 크기를 넘어선 과거 페이지는 DB에서 조회
+            // (타임라인 크기가 최대 크기에 도달했다면, 잘려나간 게시물이 DB에 남아있을 수 있다.)
+            if(postIds.size()<count && truncated){
+                return postRepository.findTimelineIdAllByUserId(userId, cursor, PageRequest.of(0, count));
+            }
+            return postIds;
+
+        } catch (DataAccessException e){
+            log.warn("Redis 타임라인 조회에 실패하여 DB에서 조회합니다. (userId = "+userId+") "+e.getMessage());
+            return postRepository.findTimelineIdAllByUserId(userId, cursor, PageRequest.of(0, count));
+        }
+    }
+
+    /**
+     * 정렬 집합에서 최대 점수 이하의 게시물 ID 목록 조회
+     * @param keyType 키 용도
+     * @param key 키
+     * @param max 최대 점수 (포함)
+     * @param count 최대 개수
+     * @return 게시물 ID 목록 (ID 내림차순)
+     */
+    private List<Long> readSortedSetIds(RedisKeyType keyType, String key, double max, int count){
+        return redisRepository.reverseRangeByScore(keyType, key, 1, max, count)
+                .stream()
+                .map(Long::parseLong)
+                .toList();
+    }
+
+    /**
+     * ID 내림차순으로 정렬된 여러 게시물 ID 목록을 k-way 병합
+     * (중복된 게시물 ID는 한 번만 포함한다.)
+     *
+     * @param sources ID 내림차순으로 정렬된 게시물 ID 목록들
+     * @param count 최대 개수
+     * @return 병합된 게시물 ID 목록 (ID 내림차순)
+     */
+    private List<Long> mergeDescending(List<List<Long>> sources, int count){
+        if(sources.size()==1){
+            return sources.get(0);
+        }
+
+        // [게시물 ID, 목록 번호, 목록 내 위치]를 게시물 ID 내림차순으로 꺼내는 우선순위 큐
+        PriorityQueue<long[]> queue=new PriorityQueue<>((a, b) -> Long.compare(b[0], a[0]));
+        for(int i=0;i<sources.size();i++){
+            if(!sources.get(i).isEmpty()){
+                queue.add(new long[]{sources.get(i).get(0), i, 0});
+            }
+        }
+
+        List<Long> merged=new ArrayList<>();
+        while(!queue.isEmpty() && merged.size()<count){
+            long[] head=queue.poll();
+            long postId=head[0];
+            if(merged.isEmpty() || merged.get(merged.size()-1)!=postId){
+                merged.add(postId);
+            }
+
+            List<Long> source=sources.get((int) head[1]);
+            int next=(int) head[2]+1;
+            if(next<source.size()){
+                queue.add(new long[]{source.get(next), head[1], next});
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 특정 작성자가 pull 작성자인지 확인
+     * (팔로워 수가 기준치 이상이면, pull 작성자로 등록한다.)
+     *
+     * @param writerId 작성자 ID
+     * @return pull 작성자 여부
+     */
+    private boolean isPulledWriter(String writerId){
+        if(redisRepository.isMemberOfSet(RedisKeyType.PULLED_WRITER, PULLED_WRITER_SET_KEY, writerId)){
+            return true;
+        }
+        if(userInfoRepository.findFollowerCountById(writerId).orElse(0L)>=pullFollowerThreshold){
+            redisRepository.addToSet(RedisKeyType.PULLED_WRITER, PULLED_WRITER_SET_KEY, writerId);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 내가 팔로우한 pull 작성자 ID 목록 조회
+     * @param userId 사용자 ID
+     * @return pull 작성자 ID 목록
+     */
+    private List<String> readFollowedPulledWriterIds(String userId){
+        Set<String> pulledWriterIds=redisRepository.readSet(RedisKeyType.PULLED_WRITER, PULLED_WRITER_SET_KEY);
+        if(pulledWriterIds.isEmpty()){
+            return new ArrayList<>();
+        }
+        return followRepository.findAllFollowedFolloweeIdByFolloweeIdsAndUserId(new ArrayList<>(pulledWriterIds), userId);
+    }
+
+    /**
+     * DB에서 작성자별 타임라인 다시 만들기
+     * @param writerId 작성자 ID
+     */
+    private void rebuildWriterTimeline(String writerId){
+        List<Long> postIds=postRepository.findIdAllByWriterId(writerId, PageRequest.of(0, MAX_TIMELINE_SIZE));
+
+        Map<String, Double> valueScores=new HashMap<>();
+        valueScores.put(EMPTY_TIMELINE_MARKER, 0d);
+        for(Long postId : postIds){
+            valueScores.put(String.valueOf(postId), postId.doubleValue());
+        }
+        redisRepository.saveSortedSetWithTTL(RedisKeyType.WRITER_TIMELINE, writerId, valueScores, TIMELINE_TTL_DAYS, TimeUnit.DAYS);
+    }
+
+    /**
+     * DB에서 타임라인 다시 만들기
+     * @param userId 사용자 ID
+     */
+    private void rebuildTimeline(String userId){
+        List<Long> postIds=postRepository.findTimelineIdAllByUserId(userId, null, PageRequest.of(0, MAX_TIMELINE_SIZE));
+
+        Map<String, Double> valueScores=new HashMap<>();
+        valueScores.put(EMPTY_TIMELINE_MARKER, 0d);
+        for(Long postId : postIds){
+            valueScores.put(String.valueOf(postId), postId.doubleValue());
+        }
+        redisRepository.saveSortedSetWithTTL(RedisKeyType.TIMELINE, userId, valueScores, TIMELINE_TTL_DAYS, TimeUnit.DAYS);
+    }
+
+    /**
+     * 게시물 ID 순서를 유지하며 게시물 조회
+     * @param postIds 게시물 ID 목록
+     * @return 게시물 목록
+     */
+    private List<Post> readPostsInOrder(List<Long> postIds){
+        if(postIds.isEmpty()){
+            return new ArrayList<>();
+        }
+
+        Map<Long, Post> postMap=new HashMap<>();
+        for(Post post : postRepository.findAllByIdIn(postIds)){
+            postMap.put(post.getId(), post);
+        }
+        return postIds.stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 특정 사용자의 팔로워 ID를 묶음 단위로 처리
+     * @param followeeId 팔로우 대상 사용자 ID
+     * @param consumer 팔로워 ID 묶음 처리 함수
+     */
+    private void forEachFollowerBatch(String followeeId, Consumer<List<String>> consumer){
+        Long cursor=null;
+        while(true){
+            List<Tuple> tuples=followRepository.findFollowerIdAllByFolloweeId(followeeId, cursor, PageRequest.of(0, FAN_OUT_BATCH_SIZE));
+            if(tuples.isEmpty()){
+                return;
+            }
+
+            List<String> followerIds=tuples.stream().map(tuple -> (String) tuple.get("followerId")).toList();
+            consumer.accept(followerIds);
+
+            if(tuples.size()<FAN_OUT_BATCH_SIZE){
+                return;
+            }
+            cursor=(Long) tuples.get(tuples.size()-1).get("id");
+        }
+    }
+}
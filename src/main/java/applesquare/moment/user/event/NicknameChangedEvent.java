@@ -0,0 +1,13 @@
+package applesquare.moment.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 닉네임 변경 이벤트 (트랜잭션 커밋 이후 처리)
+ */
+@Getter
+@AllArgsConstructor
+public class NicknameChangedEvent {
+    private final String userId;
+}
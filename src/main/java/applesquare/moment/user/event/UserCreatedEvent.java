@@ -0,0 +1,13 @@
+package applesquare.moment.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 생성 이벤트 (트랜잭션 커밋 이후 처리)
+ */
+@Getter
+@AllArgsConstructor
+public class UserCreatedEvent {
+    private final String userId;
+}
@@ -0,0 +1,31 @@
+package applesquare.moment.user.mapper;
+
+import applesquare.moment.user.dto.UserInfoReadResponseDTO;
+import applesquare.moment.user.dto.UserProfileReadResponseDTO;
+import applesquare.moment.user.model.UserInfo;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * UserInfo 엔티티와 사용자 DTO 간 변환 (컴파일 시점에 변환 코드 생성)
+ */
+@Mapper(componentModel = "spring")
+public interface UserMapper {
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "userInfo.id")
+    @Mapping(target = "nickname", source = "userInfo.nickname")
+    @Mapping(target = "profileImage", source = "profileImage")
+    UserProfileReadResponseDTO toProfileDTO(UserInfo userInfo, String profileImage);
+
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "userInfo.id")
+    @Mapping(target = "nickname", source = "userInfo.nickname")
+    @Mapping(target = "regDate", source = "userInfo.regDate")
+    @Mapping(target = "birth", source = "userInfo.birth")
+    @Mapping(target = "gender", source = "userInfo.gender")
+    @Mapping(target = "address", source = "userInfo.address")
+    @Mapping(target = "intro", source = "userInfo.intro")
+    @Mapping(target = "profileImage", source = "profileImage")
+    UserInfoReadResponseDTO toInfoDTO(UserInfo userInfo, String profileImage);
+}
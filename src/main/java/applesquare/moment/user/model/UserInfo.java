@@ -19,6 +19,9 @@ import java.time.LocalDate;
 @Table(name = "user_info",
         uniqueConstraints = {
         @UniqueConstraint(columnNames = "nickname")
+},
+        indexes = {
+        @Index(name = "idx_user_info_follower_count_id", columnList = "follower_count DESC, id")
 })
 public class UserInfo extends BaseEntity {
     @Id
@@ -42,4 +45,6 @@ public class UserInfo extends BaseEntity {
     private StorageFile profileImage;
     @Column(name = "social")
     private boolean social;
+    @Column(name = "follower_count", nullable = false, updatable = false)
+    private long followerCount;  // 팔로워 수 (엔티티 저장으로 덮어쓰지 않도록, 쿼리로만 증감)
 }
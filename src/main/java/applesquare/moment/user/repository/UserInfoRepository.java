@@ -1,10 +1,64 @@
 package applesquare.moment.user.repository;
 
 import applesquare.moment.user.model.UserInfo;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 
 public interface UserInfoRepository extends JpaRepository<UserInfo, String>, CustomUserInfoRepository {
     boolean existsByNickname(String nickname);
     boolean existsById(String id);
+
+    // 사용자 ID 목록으로 프로필 사진과 함께 사용자 목록 조회
+    @Query("SELECT u " +
+            "FROM UserInfo u " +
+            "LEFT JOIN FETCH u.profileImage " +
+            "WHERE u.id IN :userIds")
+    List<UserInfo> findAllWithProfileImageByIds(@Param("userIds") Collection<String> userIds);
+
+    // ID 순으로 사용자 목록 조회 (검색 색인 구성용)
+    List<UserInfo> findAllByIdGreaterThanOrderByIdAsc(String id, Pageable pageable);
+
+    // 팔로워 수 조회
+    @Query("SELECT u.followerCount " +
+            "FROM UserInfo u " +
+            "WHERE u.id=:userId")
+    Optional<Long> findFollowerCountById(@Param("userId") String userId);
+
+    // 팔로워 수 증감 (동시에 여러 요청이 들어와도 누락되지 않도록 원자적으로 갱신)
+    @Modifying
+    @Query("UPDATE UserInfo u " +
+            "SET u.followerCount=u.followerCount+:delta " +
+            "WHERE u.id=:userId")
+    int addFollowerCount(@Param("userId") String userId, @Param("delta") long delta);
+
+    // ID 순으로 사용자 ID 목록 조회 (팔로워 수 보정 구간 나누기용)
+    @Query("SELECT u.id " +
+            "FROM UserInfo u " +
+            "WHERE u.id>:lastUserId " +
+            "ORDER BY u.id ASC")
+    List<String> findIdsAfter(@Param("lastUserId") String lastUserId, Pageable pageable);
+
+    // ID 구간 (fromId, toId] 안에서 팔로워 수가 팔로우 테이블과 다른 사용자 ID 목록 조회 (보정용)
+    @Query(value = "SELECT u.id " +
+            "FROM user_info u " +
+            "WHERE u.id>:fromId AND u.id<=:toId " +
+            "AND u.follower_count<>(SELECT COUNT(*) FROM follow f WHERE f.followee_id=u.id)", nativeQuery = true)
+    List<String> findFollowerCountMismatchIds(@Param("fromId") String fromId, @Param("toId") String toId);
+
+    // 한 사용자의 팔로워 수를 팔로우 테이블과 일치시키기 (보정용)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE user_info u " +
+            "SET u.follower_count=(SELECT COUNT(*) FROM follow f WHERE f.followee_id=:userId) " +
+            "WHERE u.id=:userId", nativeQuery = true)
+    int syncFollowerCount(@Param("userId") String userId);
 }
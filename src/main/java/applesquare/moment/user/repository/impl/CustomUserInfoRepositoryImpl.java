@@ -10,7 +10,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 import static applesquare.moment.file.model.QStorageFile.storageFile;
-import static applesquare.moment.follow.model.QFollow.follow;
 import static applesquare.moment.user.model.QUserInfo.userInfo;
 
 
@@ -32,34 +31,29 @@ public class CustomUserInfoRepositoryImpl implements CustomUserInfoRepository {
         // 커서 페이징 조건
         BooleanExpression cursorCondition=null;
         if(cursor!=null){
-            // 서브 쿼리 정의
-            Long cursorFollowCount = queryFactory
-                    .select(follow.count())
+            Long cursorFollowerCount = queryFactory
+                    .select(userInfo.followerCount)
                     .from(userInfo)
-                    .leftJoin(follow).on(follow.followee.id.eq(userInfo.id))
                     .where(userInfo.id.eq(cursor))
                     .fetchOne();
 
             // 팔로워 수가 커서 데이터의 팔로워 수보다 작거나, 같으면서 사용자 ID가 더 크다면
-            if(cursorFollowCount!=null){
-                cursorCondition=follow.count().lt(cursorFollowCount)
-                        .or(follow.count().eq(cursorFollowCount).and(userInfo.id.gt(cursor)));
+            if(cursorFollowerCount!=null){
+                cursorCondition=userInfo.followerCount.lt(cursorFollowerCount)
+                        .or(userInfo.followerCount.eq(cursorFollowerCount).and(userInfo.id.gt(cursor)));
             }else{
                 throw new IllegalArgumentException("존재하지 않는 커서입니다. (cursor="+cursor+")" );
             }
         }
 
-        // 메인 쿼리 작성
+        // 메인 쿼리 작성 (팔로워 수 컬럼의 인덱스 순서로 읽으므로, 집계 없이 페이지 단위로 조회)
         return queryFactory
                 .select(userInfo)
                 .from(userInfo)
-                .leftJoin(userInfo.profileImage, storageFile)
-                .leftJoin(follow).on(follow.followee.id.eq(userInfo.id))
-                .where(userIdEqOrNicknameLikeKeyword)
-                .groupBy(userInfo.id)
-                .having(cursorCondition)
-                .orderBy(follow.count().desc(), userInfo.id.asc())
+                .leftJoin(userInfo.profileImage, storageFile).fetchJoin()
+                .where(userIdEqOrNicknameLikeKeyword, cursorCondition)
+                .orderBy(userInfo.followerCount.desc(), userInfo.id.asc())
                 .limit(pageSize)
                 .fetch();
     }
-}
\ No newline at end of file
+}
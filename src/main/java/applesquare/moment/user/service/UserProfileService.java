@@ -6,13 +6,19 @@ import applesquare.moment.user.dto.UserProfileReadResponseDTO;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
 
 public interface UserProfileService {
     String DEFAULT_PROFILE_NAME="default-profile.png";
+    int PROFILE_CACHE_MAX_SIZE=10000;
+    int PROFILE_CACHE_TTL_MINUTES=10;
 
 
     UserProfileReadResponseDTO readMyProfile();
     UserProfileReadResponseDTO readProfileById(String userId);
+    Map<String, UserProfileReadResponseDTO> readProfilesByIds(Collection<String> userIds);
+    void evictProfileCache(String userId);
 
     String updateProfileImage(String userId, MultipartFile profileImage) throws Exception;
     void deleteProfileImage(String userId) throws IOException;
@@ -4,13 +4,16 @@ import applesquare.moment.address.dto.AddressSearchResponseDTO;
 import applesquare.moment.address.service.AddressService;
 import applesquare.moment.common.service.SecurityService;
 import applesquare.moment.user.dto.UserInfoUpdateRequestDTO;
+import applesquare.moment.user.event.NicknameChangedEvent;
 import applesquare.moment.user.model.Gender;
 import applesquare.moment.user.model.UserInfo;
 import applesquare.moment.user.repository.UserInfoRepository;
 import applesquare.moment.user.service.UserInfoService;
+import applesquare.moment.user.service.UserProfileService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +28,8 @@ public class UserInfoServiceImpl implements UserInfoService {
     private final UserInfoRepository userInfoRepository;
     private final SecurityService securityService;
     private final AddressService addressService;
+    private final UserProfileService userProfileService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     /**
@@ -74,6 +79,14 @@ public class UserInfoServiceImpl implements UserInfoService {
         // DB 저장
         userInfoRepository.save(newUserInfo);
 
+        // 닉네임이 바뀔 수 있으므로 프로필 캐시 무효화
+        userProfileService.evictProfileCache(userId);
+
+        // 닉네임 변경 이벤트 발행 (커밋 이후 검색 색인 갱신)
+        if(!newNickname.equals(oldUserInfo.getNickname())){
+            eventPublisher.publishEvent(new NicknameChangedEvent(userId));
+        }
+
         // 리소스 ID 반환
         return userId;
     }
@@ -7,13 +7,13 @@ import applesquare.moment.follow.repository.FollowRepository;
 import applesquare.moment.post.repository.PostRepository;
 import applesquare.moment.user.dto.UserInfoReadResponseDTO;
 import applesquare.moment.user.dto.UserPageReadResponseDTO;
+import applesquare.moment.user.mapper.UserMapper;
 import applesquare.moment.user.model.UserInfo;
 import applesquare.moment.user.repository.UserInfoRepository;
 import applesquare.moment.user.service.UserPageService;
 import applesquare.moment.user.service.UserProfileService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,7 +26,7 @@ public class UserPageServiceImpl implements UserPageService {
     private final FollowRepository followRepository;
     private final FileService fileService;
     private final SecurityService securityService;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
 
 
     /**
@@ -39,20 +39,17 @@ public class UserPageServiceImpl implements UserPageService {
         // 유저 정보 가져오기
         UserInfo userInfo=userInfoRepository.findById(userId)
                 .orElseThrow(()-> new EntityNotFoundException("존재하지 않는 사용자입니다. (id = "+userId+")"));
-        UserInfoReadResponseDTO userInfoReadResponseDTO=modelMapper.map(userInfo, UserInfoReadResponseDTO.class);
 
         // 프로필 사진 URL 설정하기
         String profileName=(userInfo.getProfileImage()!=null)?
                 userInfo.getProfileImage().getFilename() : UserProfileService.DEFAULT_PROFILE_NAME;
         String profileImageURL=fileService.convertFilenameToUrl(profileName);
 
-        userInfoReadResponseDTO=userInfoReadResponseDTO.toBuilder()
-                .profileImage(profileImageURL)
-                .build();
+        UserInfoReadResponseDTO userInfoReadResponseDTO=userMapper.toInfoDTO(userInfo, profileImageURL);
 
         // 게시글 수, 팔로워 수, 팔로잉 수 가져오기
         long postCount=postRepository.countByWriterId(userId);
-        long followerCount=followRepository.countByFolloweeId(userId);
+        long followerCount=userInfo.getFollowerCount();
         long followingCount=followRepository.countByFollowerId(userId);
 
         // 팔로우 눌렀는지 여부 가져오기
@@ -5,21 +5,26 @@ import applesquare.moment.common.dto.PageResponseDTO;
 import applesquare.moment.common.service.SecurityService;
 import applesquare.moment.file.model.StorageFile;
 import applesquare.moment.file.service.FileService;
+import applesquare.moment.search.service.UserSearchIndexService;
 import applesquare.moment.user.dto.UserProfileReadResponseDTO;
+import applesquare.moment.user.mapper.UserMapper;
 import applesquare.moment.user.model.UserInfo;
 import applesquare.moment.user.repository.UserInfoRepository;
 import applesquare.moment.user.service.UserProfileService;
+import applesquare.moment.util.TransactionUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.List;
+import java.time.Duration;
+import java.util.*;
 
 @Log4j2
 @Service
@@ -29,7 +34,14 @@ public class UserProfileServiceImpl implements UserProfileService {
     private final UserInfoRepository userInfoRepository;
     private final FileService fileService;
     private final SecurityService securityService;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
+    private final UserSearchIndexService userSearchIndexService;
+
+    // 사용자 프로필 캐시 (사용자 ID -> 프로필)
+    private final Cache<String, UserProfileReadResponseDTO> profileCache=Caffeine.newBuilder()
+            .maximumSize(PROFILE_CACHE_MAX_SIZE)
+            .expireAfterWrite(Duration.ofMinutes(PROFILE_CACHE_TTL_MINUTES))
+            .build();
 
 
     /**
@@ -53,23 +65,57 @@ public class UserProfileServiceImpl implements UserProfileService {
      */
     @Override
     public UserProfileReadResponseDTO readProfileById(String userId){
-        // 엔티티 조회
-        UserInfo userInfo=userInfoRepository.findById(userId)
-                .orElseThrow(()-> new EntityNotFoundException("존재하지 않는 사용자입니다. (id = "+userId+")"));
+        UserProfileReadResponseDTO userProfileReadResponseDTO=readProfilesByIds(List.of(userId)).get(userId);
+        if(userProfileReadResponseDTO==null){
+            throw new EntityNotFoundException("존재하지 않는 사용자입니다. (id = "+userId+")");
+        }
+        return userProfileReadResponseDTO;
+    }
 
-        // 프로필 사진 URL 가져오기
-        String profileName=(userInfo.getProfileImage()!=null)?
-                userInfo.getProfileImage().getFilename() : UserProfileService.DEFAULT_PROFILE_NAME;
-        String profileImageURL=fileService.convertFilenameToUrl(profileName);
+    /**
+     * 여러 사용자의 프로필을 한 번에 조회
+     * (캐시에 없는 사용자만 한 번의 쿼리로 조회한다.)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID별 프로필 (존재하지 않는 사용자는 포함되지 않음)
+     */
+    @Override
+    public Map<String, UserProfileReadResponseDTO> readProfilesByIds(Collection<String> userIds){
+        Map<String, UserProfileReadResponseDTO> profileMap=new HashMap<>();
+        if(userIds==null || userIds.isEmpty()){
+            return profileMap;
+        }
 
-        // DTO 변환
-        UserProfileReadResponseDTO userProfileReadResponseDTO=modelMapper.map(userInfo, UserProfileReadResponseDTO.class);
-        userProfileReadResponseDTO=userProfileReadResponseDTO.toBuilder()
-                .profileImage(profileImageURL)
-                .build();
+        // 캐시에서 프로필 조회
+        Set<String> uniqueUserIds=new HashSet<>(userIds);
+        profileMap.putAll(profileCache.getAllPresent(uniqueUserIds));
 
-        // DTO 반환
-        return userProfileReadResponseDTO;
+        // 캐시에 없는 프로필은 DB에서 한 번에 조회
+        List<String> missedUserIds=uniqueUserIds.stream()
+                .filter(userId -> !profileMap.containsKey(userId))
+                .toList();
+        if(!missedUserIds.isEmpty()){
+            List<UserInfo> userInfos=userInfoRepository.findAllWithProfileImageByIds(missedUserIds);
+            for(UserInfo userInfo : userInfos){
+                UserProfileReadResponseDTO userProfileReadResponseDTO=toProfileDTO(userInfo);
+                profileCache.put(userInfo.getId(), userProfileReadResponseDTO);
+                profileMap.put(userInfo.getId(), userProfileReadResponseDTO);
+            }
+        }
+
+        return profileMap;
+    }
+
+    /**
+     * 사용자 프로필 캐시 무효화
+     * (트랜잭션 도중 다른 요청이 이전 값을 다시 캐싱할 수 있으므로, 커밋 후에 한 번 더 무효화한다.)
+     *
+     * @param userId 사용자 ID
+     */
+    @Override
+    public void evictProfileCache(String userId){
+        profileCache.invalidate(userId);
+        TransactionUtil.afterCommit(()-> profileCache.invalidate(userId));
     }
 
     /**
@@ -111,6 +157,9 @@ public class UserProfileServiceImpl implements UserProfileService {
             // DB 저장
             userInfoRepository.save(newUserInfo);
 
+            // 프로필 캐시 무효화
+            evictProfileCache(userId);
+
         }catch(Exception e){
             log.error(e.getMessage());
 
@@ -173,6 +222,9 @@ public class UserProfileServiceImpl implements UserProfileService {
             // DB 저장
             userInfoRepository.save(newUserInfo);
 
+            // 프로필 캐시 무효화
+            evictProfileCache(userId);
+
             // 저장소에서 프로필 사진 삭제
             try{
                 fileService.delete(oldProfileImage.getFilename());
@@ -199,8 +251,10 @@ public class UserProfileServiceImpl implements UserProfileService {
         String cursor= pageRequestDTO.getCursor();
         String keyword= pageRequestDTO.getKeyword();
 
-        // 키워드로 사용자 검색 (팔로워가 많은 순으로 정렬)
-        List<UserInfo> userInfos=userInfoRepository.searchByKeyword(keyword, cursor, pageSize);
+        // 키워드로 사용자 검색 (팔로워가 많은 순으로 정렬, 검색 색인이 준비되지 않았다면 DB에서 검색)
+        List<UserInfo> userInfos=userSearchIndexService.isReady()
+                ? readAllInOrder(userSearchIndexService.searchUserIds(keyword, cursor, pageSize))
+                : userInfoRepository.searchByKeyword(keyword, cursor, pageSize);
 
         // hasNext 설정
         boolean hasNext=false;
@@ -227,4 +281,39 @@ public class UserProfileServiceImpl implements UserProfileService {
                 .hasNext(hasNext)
                 .build();
     }
+
+
+    /**
+     * 사용자 ID 목록 순서대로 사용자 정보 조회 (프로필 사진 포함)
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 정보 목록 (존재하지 않는 사용자는 제외)
+     */
+    private List<UserInfo> readAllInOrder(List<String> userIds){
+        Map<String, UserInfo> userInfoMap=new HashMap<>();
+        for(UserInfo userInfo : userInfoRepository.findAllWithProfileImageByIds(userIds)){
+            userInfoMap.put(userInfo.getId(), userInfo);
+        }
+
+        List<UserInfo> userInfos=new ArrayList<>();
+        for(String userId : userIds){
+            UserInfo userInfo=userInfoMap.get(userId);
+            if(userInfo!=null) userInfos.add(userInfo);
+        }
+        return userInfos;
+    }
+
+    /**
+     * UserInfo 엔티티를 사용자 프로필 DTO로 변환
+     * @param userInfo 사용자 정보
+     * @return 사용자 프로필
+     */
+    private UserProfileReadResponseDTO toProfileDTO(UserInfo userInfo){
+        // 프로필 사진 URL 가져오기
+        String profileName=(userInfo.getProfileImage()!=null)?
+                userInfo.getProfileImage().getFilename() : UserProfileService.DEFAULT_PROFILE_NAME;
+        String profileImageURL=fileService.convertFilenameToUrl(profileName);
+
+        // DTO 변환
+        return userMapper.toProfileDTO(userInfo, profileImageURL);
+    }
 }
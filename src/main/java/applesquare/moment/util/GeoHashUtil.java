@@ -0,0 +1,216 @@
+package applesquare.moment.util;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 지오해시(geohash) 유틸리티
+ *
+ * 경도/위도를 base32 문자열로 변환하며, 문자열이 앞부분을 공유할수록 가까운 위치이다.
+ * (MySQL의 ST_GeoHash(x, y, length)와 같은 값을 만든다.)
+ */
+public class GeoHashUtil {
+    public static final int MAX_PRECISION=12;
+    public static final int MAX_COVER_CELLS=16;
+    public static final double EARTH_RADIUS_METERS=6_371_000;
+    private static final double METERS_PER_DEGREE=Math.PI*EARTH_RADIUS_METERS/180;
+    private static final String BASE32="0123456789bcdefghjkmnpqrstuvwxyz";
+
+
+    /**
+     * 좌표를 지오해시로 변환
+     *
+     * @param x 경도 (-180 ~ 180)
+     * @param y 위도 (-90 ~ 90)
+     * @param precision 지오해시 길이 (1 ~ MAX_PRECISION)
+     * @return 지오해시
+     */
+    public static String encode(double x, double y, int precision){
+        if(x<-180 || x>180 || y<-90 || y>90){
+            throw new IllegalArgumentException("좌표 범위를 벗어났습니다. (x="+x+", y="+y+")");
+        }
+        if(precision<1 || precision>MAX_PRECISION){
+            throw new IllegalArgumentException("지오해시 길이는 1 ~ "+MAX_PRECISION+" 사이여야 합니다.");
+        }
+
+        double minX=-180, maxX=180;
+        double minY=-90, maxY=90;
+        StringBuilder sb=new StringBuilder(precision);
+        boolean isXBit=true;  // 경도 비트부터 번갈아 가며 채운다.
+        int bitCount=0;
+        int charIndex=0;
+        while(sb.length()<precision){
+            if(isXBit){
+                double midX=(minX+maxX)/2;
+                if(x>=midX){
+                    charIndex=(charIndex<<1)|1;
+                    minX=midX;
+                }
+                else{
+                    charIndex=charIndex<<1;
+                    maxX=midX;
+                }
+            }
+            else{
+                double midY=(minY+maxY)/2;
+                if(y>=midY){
+                    charIndex=(charIndex<<1)|1;
+                    minY=midY;
+                }
+                else{
+                    charIndex=charIndex<<1;
+                    maxY=midY;
+                }
+            }
+            isXBit=!isXBit;
+
+            // 5비트마다 한 글자
+            if(++bitCount==5){
+                sb.append(BASE32.charAt(charIndex));
+                bitCount=0;
+                charIndex=0;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 반경 (radius)미터 원의 경계 사각형을 덮는 지오해시 셀 목록
+     * (셀 개수가 MAX_COVER_CELLS 이하인 가장 긴 지오해시 길이를 고른다.
+     * 지오해시 길이가 하나 줄 때마다 셀 넓이가 8 ~ 32배 커지므로,
+     * 주변 3x3 셀 대신 경계 사각형에 걸치는 셀만 골라서 읽는 범위를 줄인다.)
+     *
+     * @param x 중심 경도
+     * @param y 중심 위도
+     * @param radius 반경 (미터)
+     * @param maxPrecision 최대 지오해시 길이 (저장된 지오해시 길이보다 긴 셀은 아무것도 찾지 못한다.)
+     * @return 지오해시 셀 목록 (같은 길이의 접두사)
+     */
+    public static Set<String> coverCells(double x, double y, double radius, int maxPrecision){
+        double dx=longitudeDelta(y, radius);
+        double dy=latitudeDelta(radius);
+        return coverCells(Math.max(-180, x-dx), Math.min(180, x+dx), Math.max(-90, y-dy), Math.min(90, y+dy), maxPrecision);
+    }
+
+    /**
+     * 경계 사각형을 덮는 지오해시 셀 목록
+     * (셀 개수가 MAX_COVER_CELLS 이하인 가장 긴 지오해시 길이를 고른다.)
+     *
+     * @param minX 최소 경도
+     * @param maxX 최대 경도
+     * @param minY 최소 위도
+     * @param maxY 최대 위도
+     * @param maxPrecision 최대 지오해시 길이 (1 ~ MAX_PRECISION)
+     * @return 지오해시 셀 목록 (같은 길이의 접두사)
+     */
+    public static Set<String> coverCells(double minX, double maxX, double minY, double maxY, int maxPrecision){
+        for(int precision=Math.min(maxPrecision, MAX_PRECISION); precision>=1; precision--){
+            if(countCells(minX, maxX, minY, maxY, precision)>MAX_COVER_CELLS && precision>1) continue;
+            return cellsAt(minX, maxX, minY, maxY, precision);
+        }
+        return Set.of();
+    }
+
+    /**
+     * 경계 사각형에 걸치는 특정 길이의 지오해시 셀 개수
+     *
+     * @param minX 최소 경도
+     * @param maxX 최대 경도
+     * @param minY 최소 위도
+     * @param maxY 최대 위도
+     * @param precision 지오해시 길이 (1 ~ MAX_PRECISION)
+     * @return 셀 개수
+     */
+    public static long countCells(double minX, double maxX, double minY, double maxY, int precision){
+        long[] grid=gridRange(minX, maxX, minY, maxY, precision);
+        return (grid[1]-grid[0]+1)*(grid[3]-grid[2]+1);
+    }
+
+    /**
+     * 경계 사각형에 걸치는 특정 길이의 지오해시 셀 목록
+     *
+     * @param minX 최소 경도
+     * @param maxX 최대 경도
+     * @param minY 최소 위도
+     * @param maxY 최대 위도
+     * @param precision 지오해시 길이 (1 ~ MAX_PRECISION)
+     * @return 지오해시 셀 목록
+     */
+    public static Set<String> cellsAt(double minX, double maxX, double minY, double maxY, int precision){
+        double cellWidth=cellWidthDegrees(precision);
+        double cellHeight=cellHeightDegrees(precision);
+        long[] grid=gridRange(minX, maxX, minY, maxY, precision);
+
+        // 각 셀의 중심 좌표로 지오해시 계산
+        Set<String> cells=new LinkedHashSet<>();
+        for(long row=grid[2]; row<=grid[3]; row++){
+            double cellY=-90+(row+0.5)*cellHeight;
+            for(long column=grid[0]; column<=grid[1]; column++){
+                double cellX=-180+(column+0.5)*cellWidth;
+                cells.add(encode(cellX, cellY, precision));
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * 두 좌표 사이의 거리 (하버사인 공식)
+     *
+     * @return 거리 (미터)
+     */
+    public static double distance(double x1, double y1, double x2, double y2){
+        double dLat=Math.toRadians(y2-y1);
+        double dLon=Math.toRadians(x2-x1);
+        double a=Math.sin(dLat/2)*Math.sin(dLat/2)
+                +Math.cos(Math.toRadians(y1))*Math.cos(Math.toRadians(y2))*Math.sin(dLon/2)*Math.sin(dLon/2);
+        return 2*EARTH_RADIUS_METERS*Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * 반경 (radius)미터에 해당하는 위도 차이
+     */
+    public static double latitudeDelta(double radius){
+        return radius/METERS_PER_DEGREE;
+    }
+
+    /**
+     * 위도 (y)에서 반경 (radius)미터에 해당하는 경도 차이
+     * (극지방처럼 경도 차이가 의미 없는 경우 180을 반환)
+     */
+    public static double longitudeDelta(double y, double radius){
+        double cos=Math.cos(Math.toRadians(y));
+        if(cos<=0) return 180;
+        return Math.min(180, radius/(METERS_PER_DEGREE*cos));
+    }
+
+
+    /**
+     * 경계 사각형에 걸치는 셀의 격자 범위 {minColumn, maxColumn, minRow, maxRow}
+     * (셀은 (-180, -90)부터 일정한 간격으로 나뉜다.)
+     */
+    private static long[] gridRange(double minX, double maxX, double minY, double maxY, int precision){
+        double cellWidth=cellWidthDegrees(precision);
+        double cellHeight=cellHeightDegrees(precision);
+        long minColumn=(long) Math.floor((minX+180)/cellWidth);
+        long maxColumn=Math.min((long) Math.floor((maxX+180)/cellWidth), Math.round(360/cellWidth)-1);
+        long minRow=(long) Math.floor((minY+90)/cellHeight);
+        long maxRow=Math.min((long) Math.floor((maxY+90)/cellHeight), Math.round(180/cellHeight)-1);
+        return new long[]{minColumn, maxColumn, minRow, maxRow};
+    }
+
+    /**
+     * 지오해시 길이별 셀의 가로 길이 (경도)
+     */
+    public static double cellWidthDegrees(int precision){
+        int xBits=(precision*5+1)/2;
+        return 360/Math.pow(2, xBits);
+    }
+
+    /**
+     * 지오해시 길이별 셀의 세로 길이 (위도)
+     */
+    public static double cellHeightDegrees(int precision){
+        int yBits=(precision*5)/2;
+        return 180/Math.pow(2, yBits);
+    }
+}
@@ -6,11 +6,13 @@ import com.google.gson.GsonBuilder;
 import java.io.Reader;
 import java.lang.reflect.Type;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Map;
 
 public class JsonUtil {
     private static final Gson gson=new GsonBuilder()
-            .registerTypeAdapter(LocalDate .class, new LocalDateAdapter()).create();
+            .registerTypeAdapter(LocalDate .class, new LocalDateAdapter())
+            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter()).create();
 
     /**
      * 특정 객체를 Json 문자열로 직렬화
@@ -30,4 +32,14 @@ public class JsonUtil {
     public static Map<String, String> fromJson(Reader reader, Type type){
         return gson.fromJson(reader, type);
     }
+
+    /**
+     * Json 문자열을 특정 타입의 객체로 역직렬화
+     * @param json Json 문자열
+     * @param clazz 객체 타입
+     * @return 역직렬화한 객체
+     */
+    public static <T> T fromJson(String json, Class<T> clazz){
+        return gson.fromJson(json, clazz);
+    }
 }
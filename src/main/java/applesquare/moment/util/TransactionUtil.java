@@ -0,0 +1,26 @@
+package applesquare.moment.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+    /**
+     * 현재 트랜잭션이 커밋된 후에 작업 실행
+     * (트랜잭션이 없다면 즉시 실행)
+     *
+     * @param task 실행할 작업
+     */
+    public static void afterCommit(Runnable task){
+        if(TransactionSynchronizationManager.isSynchronizationActive()){
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        }
+        else{
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package applesquare.moment.viewer.model;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 특정 사용자의 상호작용 상태
+ * (좋아요 누른 게시물, 댓글 단 게시물, 팔로우한 사용자)
+ *
+ * 게시물 ID 집합은 압축 비트맵으로 보관하므로, 사용자당 메모리가 작고 포함 여부를 O(1)에 가깝게 확인할 수 있다.
+ * 여러 요청 스레드가 동시에 읽고 쓰므로, 모든 접근은 동기화한다.
+ */
+public class ViewerState {
+    // 로그인하지 않은 사용자의 상태 (모든 여부가 false)
+    public static final ViewerState EMPTY=new ViewerState();
+
+    private final Roaring64Bitmap likedPostIds=new Roaring64Bitmap();
+    private final Roaring64Bitmap commentedPostIds=new Roaring64Bitmap();
+    private final Set<String> followedUserIds=new HashSet<>();
+
+
+    public ViewerState(){
+    }
+
+    public ViewerState(Collection<Long> likedPostIds, Collection<Long> commentedPostIds, Collection<String> followedUserIds){
+        likedPostIds.forEach(this.likedPostIds::addLong);
+        commentedPostIds.forEach(this.commentedPostIds::addLong);
+        this.followedUserIds.addAll(followedUserIds);
+        this.likedPostIds.runOptimize();
+        this.commentedPostIds.runOptimize();
+    }
+
+
+    public synchronized boolean isLiked(Long postId){
+        return postId!=null && likedPostIds.contains(postId);
+    }
+
+    public synchronized boolean isCommented(Long postId){
+        return postId!=null && commentedPostIds.contains(postId);
+    }
+
+    public synchronized boolean isFollowing(String userId){
+        return userId!=null && followedUserIds.contains(userId);
+    }
+
+    public synchronized void addLikedPost(Long postId){
+        likedPostIds.addLong(postId);
+    }
+
+    public synchronized void removeLikedPost(Long postId){
+        likedPostIds.removeLong(postId);
+    }
+
+    public synchronized void addCommentedPost(Long postId){
+        commentedPostIds.addLong(postId);
+    }
+
+    public synchronized void removeCommentedPost(Long postId){
+        commentedPostIds.removeLong(postId);
+    }
+
+    public synchronized void addFollowedUser(String userId){
+        followedUserIds.add(userId);
+    }
+
+    public synchronized void removeFollowedUser(String userId){
+        followedUserIds.remove(userId);
+    }
+}
@@ -0,0 +1,19 @@
+package applesquare.moment.viewer.service;
+
+import applesquare.moment.viewer.model.ViewerState;
+
+public interface ViewerStateService {
+    int MAX_CACHED_VIEWERS=10000;
+    int IDLE_EXPIRE_MINUTES=10;
+    int MAX_STATE_AGE_MINUTES=30;
+
+
+    ViewerState read(String userId);
+
+    void addLikedPost(String userId, Long postId);
+    void removeLikedPost(String userId, Long postId);
+    void addCommentedPost(String userId, Long postId);
+    void removeCommentedPost(String userId, Long postId);
+    void addFollowedUser(String userId, String followeeId);
+    void removeFollowedUser(String userId, String followeeId);
+}
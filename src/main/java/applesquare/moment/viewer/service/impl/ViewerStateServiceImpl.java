@@ -0,0 +1,125 @@
+package applesquare.moment.viewer.service.impl;
+
+import applesquare.moment.comment.repository.CommentRepository;
+import applesquare.moment.follow.repository.FollowRepository;
+import applesquare.moment.like.repository.PostLikeRepository;
+import applesquare.moment.util.TransactionUtil;
+import applesquare.moment.viewer.model.ViewerState;
+import applesquare.moment.viewer.service.ViewerStateService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 상호작용 상태 서비스
+ *
+ * 처음 조회할 때 DB에서 한 번에 불러오고, 이후에는 좋아요, 댓글, 팔로우 서비스가 커밋 이후에 갱신한다.
+ * 일정 시간 사용하지 않은 사용자의 상태는 제거하며,
+ * 다른 서버에서 일어난 변경을 반영하기 위해 오래된 상태도 주기적으로 다시 불러온다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ViewerStateServiceImpl implements ViewerStateService {
+    private final PostLikeRepository postLikeRepository;
+    private final CommentRepository commentRepository;
+    private final FollowRepository followRepository;
+    private final Cache<String, ViewerState> viewerStateCache=Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_VIEWERS)
+            .expireAfterAccess(IDLE_EXPIRE_MINUTES, TimeUnit.MINUTES)
+            .expireAfterWrite(MAX_STATE_AGE_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+
+    /**
+     * 사용자의 상호작용 상태 조회
+     * (로그인하지 않은 경우, 빈 상태 반환)
+     *
+     * @param userId 사용자 ID
+     * @return 상호작용 상태
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ViewerState read(String userId){
+        if(userId==null){
+            return ViewerState.EMPTY;
+        }
+        return viewerStateCache.get(userId, this::load);
+    }
+
+    @Override
+    public void addLikedPost(String userId, Long postId){
+        updateAfterCommit(userId, viewerState -> viewerState.addLikedPost(postId));
+    }
+
+    @Override
+    public void removeLikedPost(String userId, Long postId){
+        updateAfterCommit(userId, viewerState -> viewerState.removeLikedPost(postId));
+    }
+
+    @Override
+    public void addCommentedPost(String userId, Long postId){
+        updateAfterCommit(userId, viewerState -> viewerState.addCommentedPost(postId));
+    }
+
+    /**
+     * 댓글 삭제 반영
+     * (같은 게시물에 남은 댓글이 없을 때만 댓글 작성 여부를 해제한다.)
+     *
+     * @param userId 사용자 ID
+     * @param postId 게시물 ID
+     */
+    @Override
+    public void removeCommentedPost(String userId, Long postId){
+        if(commentRepository.existsByPostIdAndWriterId(postId, userId)){
+            return;
+        }
+        updateAfterCommit(userId, viewerState -> viewerState.removeCommentedPost(postId));
+    }
+
+    @Override
+    public void addFollowedUser(String userId, String followeeId){
+        updateAfterCommit(userId, viewerState -> viewerState.addFollowedUser(followeeId));
+    }
+
+    @Override
+    public void removeFollowedUser(String userId, String followeeId){
+        updateAfterCommit(userId, viewerState -> viewerState.removeFollowedUser(followeeId));
+    }
+
+
+    /**
+     * DB에서 사용자의 상호작용 상태 불러오기
+     * @param userId 사용자 ID
+     * @return 상호작용 상태
+     */
+    private ViewerState load(String userId){
+        return new ViewerState(
+                postLikeRepository.findAllPostIdByUserId(userId),
+                commentRepository.findAllCommentedPostIdByUserId(userId),
+                followRepository.findAllFolloweeIdByFollowerId(userId)
+        );
+    }
+
+    /**
+     * 트랜잭션 커밋 이후에 캐시된 상태 갱신
+     * (캐시되지 않은 사용자는 다음 조회 때 DB에서 불러오므로 갱신하지 않는다.)
+     * (불러오는 중인 상태가 있다면, 불러오기가 끝난 뒤에 갱신된다.)
+     *
+     * @param userId 사용자 ID
+     * @param update 갱신 작업
+     */
+    private void updateAfterCommit(String userId, Consumer<ViewerState> update){
+        TransactionUtil.afterCommit(()->
+                viewerStateCache.asMap().computeIfPresent(userId, (key, viewerState)->{
+                    update.accept(viewerState);
+                    return viewerState;
+                })
+        );
+    }
+}
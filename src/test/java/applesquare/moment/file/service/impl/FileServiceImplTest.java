@@ -0,0 +1,357 @@
+package applesquare.moment.file.service.impl;
+
+import applesquare.moment.file.exception.FileTransferException;
+import applesquare.moment.file.model.StorageFile;
+import applesquare.moment.file.repository.StorageFileRepository;
+import applesquare.moment.file.service.ImageVariantService;
+import applesquare.moment.file.service.VideoPreviewGenerator;
+import com.cloudinary.Cloudinary;
+import com.cloudinary.Uploader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class FileServiceImplTest {
+    private static final int FILE_SIZE=20*1024*1024;  // 20MB
+    private static final int CONCURRENT_UPLOADS=16;
+    // 파일 하나를 처리하는 동안 허용하는 힙 할당량 (파일 전체를 메모리에 올리면 20MB 이상)
+    private static final long MAX_ALLOCATED_BYTES_PER_FILE=4*1024*1024;
+
+    private final com.sun.management.ThreadMXBean threadMXBean=(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @TempDir
+    Path uploadDirectory;
+
+    private VideoPreviewGenerator videoPreviewGenerator;
+    private StorageFileRepository storageFileRepository;
+    private FileServiceImpl fileService;
+
+
+    @BeforeEach
+    void setUp(){
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        videoPreviewGenerator=mock(VideoPreviewGenerator.class);
+        storageFileRepository=mock(StorageFileRepository.class);
+        fileService=new FileServiceImpl(videoPreviewGenerator, mock(ImageVariantService.class), storageFileRepository, Runnable::run);
+        ReflectionTestUtils.setField(fileService, "uploadDirectory", uploadDirectory.toString());
+        ReflectionTestUtils.setField(fileService, "baseUrl", "http://localhost/api/files");
+    }
+
+    @Test
+    void concurrentUploadsStreamToDisk() throws Exception {
+        List<Long> allocatedBytes=runConcurrently(index -> {
+            StorageFile storageFile=fileService.upload(new GeneratedMultipartFile("video"+index+".mp4", "video/mp4", FILE_SIZE), null);
+            assertThat(Files.size(fileService.resolveFilePath(storageFile.getFilename()))).isEqualTo(FILE_SIZE);
+        });
+
+        assertThat(allocatedBytes).allSatisfy(bytes -> assertThat(bytes).isLessThan(MAX_ALLOCATED_BYTES_PER_FILE));
+    }
+
+    @Test
+    void uploadAllKeepsInputOrder() throws Exception {
+        FileServiceImpl parallelFileService=parallelFileService();
+        // 저장한 행을 순서와 상관없이 돌려주는 DB 흉내
+        List<StorageFile> insertedFiles=new ArrayList<>();
+        when(storageFileRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            insertedFiles.addAll(invocation.getArgument(0));
+            return insertedFiles.size();
+        });
+        when(storageFileRepository.findAllByFilenameIn(anyCollection())).thenAnswer(invocation -> {
+            List<StorageFile> rows=new ArrayList<>(insertedFiles);
+            Collections.shuffle(rows);
+            return rows;
+        });
+
+        List<MultipartFile> files=new ArrayList<>();
+        for(int index=0; index<10; index++){
+            files.add(new GeneratedMultipartFile("image"+index+".png", "image/png", 1024*(index+1)));
+        }
+        List<StorageFile> storageFiles=parallelFileService.uploadAll(files, null);
+
+        verify(storageFileRepository, times(1)).insertAll(anyList());
+        assertThat(storageFiles).extracting(StorageFile::getOriginalFilename)
+                .containsExactlyElementsOf(files.stream().map(MultipartFile::getOriginalFilename).toList());
+        for(StorageFile storageFile : storageFiles){
+            assertThat(Files.size(fileService.resolveFilePath(storageFile.getFilename()))).isEqualTo(storageFile.getFileSize());
+        }
+    }
+
+    @Test
+    void uploadAllRemovesEveryFileWhenOneTransferFails() throws Exception {
+        FileServiceImpl parallelFileService=parallelFileService();
+        List<MultipartFile> files=new ArrayList<>();
+        for(int index=0; index<10; index++){
+            files.add(new GeneratedMultipartFile("image"+index+".png", "image/png", 1024));
+        }
+        files.set(5, new GeneratedMultipartFile("broken.png", "image/png", 1024){
+            @Override
+            public void transferTo(Path dest) throws IOException {
+                throw new IOException("전송 실패");
+            }
+        });
+
+        assertThatThrownBy(()->parallelFileService.uploadAll(files, null)).isInstanceOf(FileTransferException.class);
+
+        verify(storageFileRepository, never()).insertAll(anyList());
+        try(var uploadedFiles=Files.walk(uploadDirectory)){
+            assertThat(uploadedFiles.filter(Files::isRegularFile).toList()).isEmpty();
+        }
+    }
+
+    @Test
+    void concurrentVideoThumbnailsStreamToDisk() throws Exception {
+        // 실제 Cloudinary 구현체로 내려받기 (업로드 결과와 변환 파일 응답 본문만 흉내)
+        Cloudinary cloudinary=mock(Cloudinary.class);
+        Uploader uploader=mock(Uploader.class);
+        when(cloudinary.uploader()).thenReturn(uploader);
+        when(uploader.upload(any(), anyMap())).thenReturn(Map.of(
+                "eager", List.of(Map.of("secure_url", "https://res.cloudinary.com/demo/video/upload/preview.mp4"))
+        ));
+        CloudinaryServiceImpl cloudinaryService=new CloudinaryServiceImpl(new GeneratedBodyRestTemplate(FILE_SIZE), cloudinary);
+        FileServiceImpl cloudinaryFileService=new FileServiceImpl(new CloudinaryVideoPreviewGenerator(cloudinaryService), mock(ImageVariantService.class), storageFileRepository, Runnable::run);
+        ReflectionTestUtils.setField(cloudinaryFileService, "uploadDirectory", uploadDirectory.toString());
+        ReflectionTestUtils.setField(cloudinaryFileService, "baseUrl", "http://localhost/api/files");
+
+        List<String> filenames=new ArrayList<>();
+        for(int index=0; index<CONCURRENT_UPLOADS; index++){
+            String filename="video"+index+".mp4";
+            Files.write(uploadDirectory.resolve(filename), new byte[1024]);
+            when(storageFileRepository.findByFilename(filename)).thenReturn(Optional.of(storageFile(filename, "video/mp4")));
+            filenames.add(filename);
+        }
+
+        List<Long> allocatedBytes=runConcurrently(index -> {
+            StorageFile thumbnail=cloudinaryFileService.createThumbnail(filenames.get(index));
+            assertThat(thumbnail.getFileSize()).isEqualTo(FILE_SIZE);
+        });
+
+        assertThat(allocatedBytes).allSatisfy(bytes -> assertThat(bytes).isLessThan(MAX_ALLOCATED_BYTES_PER_FILE));
+    }
+
+    @Test
+    void imageThumbnailIsCreatedFromStoredFile() throws Exception {
+        String filename="image.png";
+        ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), "png", uploadDirectory.resolve(filename).toFile());
+        when(storageFileRepository.findByFilename(filename)).thenReturn(Optional.of(storageFile(filename, "image/png")));
+
+        StorageFile thumbnail=fileService.createThumbnail(filename);
+
+        File thumbFile=fileService.resolveFilePath(thumbnail.getFilename()).toFile();
+        BufferedImage thumbImage=ImageIO.read(thumbFile);
+        assertThat(thumbImage.getWidth()).isEqualTo(500);
+        assertThat(thumbImage.getHeight()).isEqualTo(250);
+        assertThat(thumbnail.getFileSize()).isEqualTo(thumbFile.length());
+    }
+
+    @Test
+    void legacyFilesAreReadableAndMovedToShardDirectory() throws Exception {
+        String filename="0a1b2c3d-0000-0000-0000-000000000000_image.png";
+        Path legacyPath=uploadDirectory.resolve(filename);
+        Files.write(legacyPath, new byte[1024]);
+
+        // 옮기기 전에는 기존 경로에서 조회
+        assertThat(fileService.resolveFilePath(filename)).isEqualTo(legacyPath);
+
+        assertThat(fileService.migrateLegacyFiles(100)).isEqualTo(1);
+        assertThat(fileService.migrateLegacyFiles(100)).isZero();
+
+        assertThat(legacyPath).doesNotExist();
+        assertThat(fileService.resolveFilePath(filename)).isEqualTo(uploadDirectory.resolve("0a").resolve("1b").resolve(filename));
+    }
+
+
+    /**
+     * 작업을 동시에 실행하고, 작업마다 스레드가 할당한 힙 크기를 반환
+     */
+    private List<Long> runConcurrently(IndexedTask task) throws Exception {
+        ExecutorService executor=Executors.newFixedThreadPool(CONCURRENT_UPLOADS);
+        try{
+            CountDownLatch startLatch=new CountDownLatch(1);
+            List<Future<Long>> futures=new ArrayList<>();
+            for(int index=0; index<CONCURRENT_UPLOADS; index++){
+                int taskIndex=index;
+                futures.add(executor.submit(()->{
+                    startLatch.await();
+                    long before=threadMXBean.getCurrentThreadAllocatedBytes();
+                    task.run(taskIndex);
+                    return threadMXBean.getCurrentThreadAllocatedBytes()-before;
+                }));
+            }
+            startLatch.countDown();
+
+            List<Long> allocatedBytes=new ArrayList<>();
+            for(Future<Long> future : futures){
+                allocatedBytes.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return allocatedBytes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private FileServiceImpl parallelFileService(){
+        FileServiceImpl parallelFileService=new FileServiceImpl(videoPreviewGenerator, mock(ImageVariantService.class), storageFileRepository, Executors.newFixedThreadPool(4));
+        ReflectionTestUtils.setField(parallelFileService, "uploadDirectory", uploadDirectory.toString());
+        ReflectionTestUtils.setField(parallelFileService, "baseUrl", "http://localhost/api/files");
+        return parallelFileService;
+    }
+
+    private StorageFile storageFile(String filename, String contentType){
+        return StorageFile.builder()
+                .filename(filename)
+                .originalFilename(filename)
+                .contentType(contentType)
+                .fileSize((long) FILE_SIZE)
+                .build();
+    }
+
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index) throws Exception;
+    }
+
+    /**
+     * 내용을 미리 만들어두지 않고 읽을 때마다 생성하는 입력 스트림
+     */
+    private static class GeneratedInputStream extends InputStream {
+        private final long size;
+        private long position=0;
+
+        GeneratedInputStream(long size){
+            this.size=size;
+        }
+
+        @Override
+        public int read(){
+            if(position>=size) return -1;
+            return (int) (position++ & 0xFF);
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length){
+            if(position>=size) return -1;
+            int count=(int) Math.min(length, size-position);
+            for(int i=0; i<count; i++){
+                buffer[offset+i]=(byte) (position++ & 0xFF);
+            }
+            return count;
+        }
+    }
+
+    /**
+     * 응답 본문을 GeneratedInputStream으로 돌려주는 RestTemplate (네트워크 요청 없이 ResponseExtractor 실행)
+     */
+    private static class GeneratedBodyRestTemplate extends RestTemplate {
+        private final long size;
+
+        GeneratedBodyRestTemplate(long size){
+            this.size=size;
+        }
+
+        @Override
+        public <T> T execute(String url, HttpMethod method, RequestCallback requestCallback,
+                             ResponseExtractor<T> responseExtractor, Object... uriVariables) throws RestClientException {
+            ClientHttpResponse response=mock(ClientHttpResponse.class);
+            try{
+                when(response.getBody()).thenReturn(new GeneratedInputStream(size));
+                return responseExtractor.extractData(response);
+            } catch (IOException e){
+                throw new RestClientException(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 전체 내용을 byte[]로 꺼내면 실패하는 업로드 파일 (스트리밍 처리만 허용)
+     */
+    private static class GeneratedMultipartFile implements MultipartFile {
+        private final String originalFilename;
+        private final String contentType;
+        private final long size;
+
+        GeneratedMultipartFile(String originalFilename, String contentType, long size){
+            this.originalFilename=originalFilename;
+            this.contentType=contentType;
+            this.size=size;
+        }
+
+        @Override
+        public String getName(){
+            return "files";
+        }
+
+        @Override
+        public String getOriginalFilename(){
+            return originalFilename;
+        }
+
+        @Override
+        public String getContentType(){
+            return contentType;
+        }
+
+        @Override
+        public boolean isEmpty(){
+            return size==0;
+        }
+
+        @Override
+        public long getSize(){
+            return size;
+        }
+
+        @Override
+        public byte[] getBytes(){
+            throw new UnsupportedOperationException("업로드 파일 전체를 메모리에 올리면 안 됩니다.");
+        }
+
+        @Override
+        public InputStream getInputStream(){
+            return new GeneratedInputStream(size);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            transferTo(dest.toPath());
+        }
+
+        @Override
+        public void transferTo(Path dest) throws IOException {
+            try(InputStream inputStream=getInputStream()){
+                Files.copy(inputStream, dest);
+            }
+        }
+    }
+}
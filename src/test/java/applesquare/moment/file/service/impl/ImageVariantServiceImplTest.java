@@ -0,0 +1,127 @@
+package applesquare.moment.file.service.impl;
+
+import applesquare.moment.file.service.ImageVariantService;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantServiceImplTest {
+    @TempDir
+    Path uploadDirectory;
+    @TempDir
+    Path variantDirectory;
+
+
+    @Test
+    void widthIsRoundedUpToBucket(){
+        assertThat(ImageVariantService.toWidthBucket(1)).isEqualTo(150);
+        assertThat(ImageVariantService.toWidthBucket(150)).isEqualTo(150);
+        assertThat(ImageVariantService.toWidthBucket(151)).isEqualTo(320);
+        assertThat(ImageVariantService.toWidthBucket(5000)).isEqualTo(1080);
+    }
+
+    @Test
+    void concurrentRequestsShareOneVariant() throws Exception {
+        ImageVariantServiceImpl imageVariantService=openService(ImageVariantService.DEFAULT_CACHE_MAX_BYTES);
+        Path originalPath=writeImage("image.png", 2000, 1000);
+
+        ExecutorService executor=Executors.newFixedThreadPool(8);
+        try{
+            CountDownLatch startLatch=new CountDownLatch(1);
+            List<Future<Path>> futures=new ArrayList<>();
+            for(int i=0; i<8; i++){
+                futures.add(executor.submit(()->{
+                    startLatch.await();
+                    return imageVariantService.resolveVariantPath("image.png", originalPath, 300);
+                }));
+            }
+            startLatch.countDown();
+
+            Set<Path> variantPaths=new HashSet<>();
+            for(Future<Path> future : futures){
+                variantPaths.add(future.get(30, TimeUnit.SECONDS));
+            }
+            assertThat(variantPaths).containsExactly(variantDirectory.resolve("w320_image.png"));
+            assertThat(ImageIO.read(variantDirectory.resolve("w320_image.png").toFile()).getWidth()).isEqualTo(320);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try(var files=Files.list(variantDirectory)){
+            assertThat(files.toList()).hasSize(1);
+        }
+    }
+
+    @Test
+    void narrowImageIsNotUpscaled() throws Exception {
+        ImageVariantServiceImpl imageVariantService=openService(ImageVariantService.DEFAULT_CACHE_MAX_BYTES);
+        Path originalPath=writeImage("small.png", 200, 100);
+
+        assertThat(imageVariantService.resolveVariantPath("small.png", originalPath, 1080)).isEqualTo(originalPath);
+        assertThat(imageVariantService.resolveVariantPath("small.png", originalPath, 150)).isEqualTo(variantDirectory.resolve("w150_small.png"));
+    }
+
+    @Test
+    void variantsAreEvictedFromDiskOverSizeLimit() throws Exception {
+        // 변환 이미지 몇 개만 들어가는 캐시
+        ImageVariantServiceImpl imageVariantService=openService(64*1024);
+        for(int i=0; i<20; i++){
+            String filename="image"+i+".png";
+            Path originalPath=writeNoiseImage(filename, 1200, 800);
+            imageVariantService.resolveVariantPath(filename, originalPath, 320);
+        }
+
+        @SuppressWarnings("unchecked")
+        AsyncCache<String, Path> variantCache=(AsyncCache<String, Path>) ReflectionTestUtils.getField(imageVariantService, "variantCache");
+        variantCache.synchronous().cleanUp();
+
+        long totalBytes=0;
+        try(var files=Files.list(variantDirectory)){
+            for(Path file : files.toList()){
+                totalBytes+=Files.size(file);
+            }
+        }
+        assertThat(totalBytes).isLessThanOrEqualTo(64*1024+1024*20);
+    }
+
+
+    private ImageVariantServiceImpl openService(long cacheMaxBytes) throws Exception {
+        ImageVariantServiceImpl imageVariantService=new ImageVariantServiceImpl();
+        ReflectionTestUtils.setField(imageVariantService, "variantDirectory", variantDirectory.toString());
+        ReflectionTestUtils.setField(imageVariantService, "cacheMaxBytes", cacheMaxBytes);
+        imageVariantService.open();
+        return imageVariantService;
+    }
+
+    private Path writeImage(String filename, int width, int height) throws Exception {
+        Path path=uploadDirectory.resolve(filename);
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", path.toFile());
+        return path;
+    }
+
+    private Path writeNoiseImage(String filename, int width, int height) throws Exception {
+        BufferedImage image=new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ThreadLocalRandom random=ThreadLocalRandom.current();
+        for(int y=0; y<height; y++){
+            for(int x=0; x<width; x++){
+                image.setRGB(x, y, random.nextInt());
+            }
+        }
+        Path path=uploadDirectory.resolve(filename);
+        ImageIO.write(image, "png", path.toFile());
+        return path;
+    }
+}
@@ -0,0 +1,240 @@
+package applesquare.moment.post.mapper;
+
+import applesquare.moment.comment.dto.CommentReadAllResponseDTO;
+import applesquare.moment.comment.mapper.CommentMapper;
+import applesquare.moment.comment.mapper.CommentMapperImpl;
+import applesquare.moment.comment.model.Comment;
+import applesquare.moment.file.model.MediaType;
+import applesquare.moment.post.dto.MomentDetailReadAllResponseDTO;
+import applesquare.moment.post.dto.PostDetailReadAllResponseDTO;
+import applesquare.moment.post.model.Post;
+import applesquare.moment.user.dto.UserProfileReadResponseDTO;
+import applesquare.moment.user.mapper.UserMapper;
+import applesquare.moment.user.mapper.UserMapperImpl;
+import applesquare.moment.user.model.UserInfo;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 목록 조회 시 행마다 실행되는 엔티티 -> DTO 변환 비교
+ * (기존 ModelMapper + toBuilder 방식 vs MapStruct 생성 코드)
+ *
+ * 두 방식이 같은 값을 채우는지 확인하고, 행 하나당 힙 할당량을 비교한다.
+ * (지연 시간은 실행 환경에 따라 흔들리므로 비교하지 않는다.)
+ */
+class DtoMapperAllocationTest {
+    private static final int ROW_COUNT=10_000;
+    private static final int WARMUP_ROUNDS=5;
+    private static final int MEASURE_ROUNDS=5;
+    private static final int COMPARE_STEP=100;
+
+    private static final List<Post> POSTS=new ArrayList<>(ROW_COUNT);
+    private static final List<Comment> COMMENTS=new ArrayList<>(ROW_COUNT);
+    private static final List<UserInfo> USERS=new ArrayList<>(ROW_COUNT);
+
+    private final com.sun.management.ThreadMXBean threadMXBean=(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final PostMapper postMapper=new PostMapperImpl();
+    private final CommentMapper commentMapper=new CommentMapperImpl();
+    private final UserMapper userMapper=new UserMapperImpl();
+    private ModelMapper modelMapper;
+
+
+    @BeforeAll
+    static void createRows(){
+        for(int index=0; index<ROW_COUNT; index++){
+            UserInfo writer=UserInfo.builder()
+                    .id("user"+index)
+                    .nickname("닉네임"+index)
+                    .build();
+            ReflectionTestUtils.setField(writer, "regDate", LocalDateTime.now());
+            USERS.add(writer);
+
+            Post post=Post.builder()
+                    .id((long) index)
+                    .content("게시물 내용 "+index)
+                    .viewCount(index)
+                    .writer(writer)
+                    .address("서울특별시 중구 세종대로 110")
+                    .x(126.9780)
+                    .y(37.5665)
+                    .build();
+            ReflectionTestUtils.setField(post, "regDate", LocalDateTime.now());
+            POSTS.add(post);
+
+            Comment comment=Comment.builder()
+                    .id((long) index)
+                    .content("댓글 내용 "+index)
+                    .writer(writer)
+                    .post(post)
+                    .build();
+            ReflectionTestUtils.setField(comment, "regDate", LocalDateTime.now());
+            COMMENTS.add(comment);
+        }
+    }
+
+    @BeforeEach
+    void setUp(){
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        // 기존 RootConfig의 ModelMapper 설정
+        // (LOOSE 매칭에서 이름이 겹치는 속성은 모호해지므로 무시한다.)
+        modelMapper=new ModelMapper();
+        modelMapper.getConfiguration()
+                .setFieldMatchingEnabled(true)
+                .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE)
+                .setMatchingStrategy(MatchingStrategies.LOOSE)
+                .setAmbiguityIgnored(true);
+    }
+
+    @Test
+    void postDetailMapping(){
+        UserProfileReadResponseDTO writer=profile();
+        List<String> tags=List.of("카페", "서울");
+        List<String> urls=List.of("http://localhost/api/files/a.png");
+
+        IntFunction<Object> modelMapperMapping=index -> {
+            Post post=POSTS.get(index);
+            return modelMapper.map(post, PostDetailReadAllResponseDTO.class).toBuilder()
+                    .writer(writer)
+                    .tags(tags)
+                    .mediaType(MediaType.IMAGE)
+                    .urls(urls)
+                    .viewCount(post.getViewCount())
+                    .commentCount(3)
+                    .likeCount(5)
+                    .isCommented(false)
+                    .isLiked(true)
+                    .build();
+        };
+        IntFunction<Object> mapStructMapping=index -> {
+            Post post=POSTS.get(index);
+            return postMapper.toPostDetailDTO(post, writer, tags, MediaType.IMAGE, urls, post.getViewCount(), 3, 5, false, true);
+        };
+
+        PostDetailReadAllResponseDTO dto=(PostDetailReadAllResponseDTO) mapStructMapping.apply(1);
+        assertThat(dto.getId()).isEqualTo(1L);
+        assertThat(dto.getContent()).isEqualTo(POSTS.get(1).getContent());
+        assertThat(dto.getRegDate()).isEqualTo(POSTS.get(1).getRegDate());
+        assertThat(dto.getX()).isEqualTo(126.9780);
+        assertSameMapping(modelMapperMapping, mapStructMapping);
+        assertAllocatesLess(modelMapperMapping, mapStructMapping);
+    }
+
+    @Test
+    void momentDetailMapping(){
+        UserProfileReadResponseDTO writer=profile();
+        String url="http://localhost/api/files/a.mp4";
+
+        IntFunction<Object> modelMapperMapping=index -> modelMapper.map(POSTS.get(index), MomentDetailReadAllResponseDTO.class).toBuilder()
+                .writer(writer)
+                .url(url)
+                .isFollowed(true)
+                .commentCount(3)
+                .likeCount(5)
+                .isCommented(false)
+                .isLiked(true)
+                .build();
+        IntFunction<Object> mapStructMapping=index -> postMapper.toMomentDetailDTO(POSTS.get(index), writer, url, true, 3, 5, false, true);
+
+        assertSameMapping(modelMapperMapping, mapStructMapping);
+        assertAllocatesLess(modelMapperMapping, mapStructMapping);
+    }
+
+    @Test
+    void commentMapping(){
+        UserProfileReadResponseDTO writer=profile();
+
+        IntFunction<Object> modelMapperMapping=index -> modelMapper.map(COMMENTS.get(index), CommentReadAllResponseDTO.class).toBuilder()
+                .writer(writer)
+                .likeCount(5)
+                .liked(true)
+                .build();
+        IntFunction<Object> mapStructMapping=index -> commentMapper.toReadAllDTO(COMMENTS.get(index), writer, 5, true);
+
+        CommentReadAllResponseDTO dto=(CommentReadAllResponseDTO) mapStructMapping.apply(1);
+        assertThat(dto.getContent()).isEqualTo(COMMENTS.get(1).getContent());
+        assertThat(dto.getRegDate()).isEqualTo(COMMENTS.get(1).getRegDate());
+        assertSameMapping(modelMapperMapping, mapStructMapping);
+        assertAllocatesLess(modelMapperMapping, mapStructMapping);
+    }
+
+    @Test
+    void userProfileMapping(){
+        String profileImage="http://localhost/api/files/profile.png";
+
+        IntFunction<Object> modelMapperMapping=index -> modelMapper.map(USERS.get(index), UserProfileReadResponseDTO.class).toBuilder()
+                .profileImage(profileImage)
+                .build();
+        IntFunction<Object> mapStructMapping=index -> userMapper.toProfileDTO(USERS.get(index), profileImage);
+
+        UserProfileReadResponseDTO dto=(UserProfileReadResponseDTO) mapStructMapping.apply(1);
+        assertThat(dto.getNickname()).isEqualTo(USERS.get(1).getNickname());
+        assertSameMapping(modelMapperMapping, mapStructMapping);
+        assertAllocatesLess(modelMapperMapping, mapStructMapping);
+    }
+
+
+    private UserProfileReadResponseDTO profile(){
+        return UserProfileReadResponseDTO.builder()
+                .id("user")
+                .nickname("닉네임")
+                .profileImage("http://localhost/api/files/profile.png")
+                .build();
+    }
+
+    /**
+     * 변환을 ROW_COUNT번 반복하면서 행 하나당 힙 할당량 측정
+     * (워밍업 이후 여러 번 측정해서 가장 낮은 값을 사용)
+     */
+    private long measure(IntFunction<Object> mapping){
+        Object sink=null;
+        for(int round=0; round<WARMUP_ROUNDS; round++){
+            for(int index=0; index<ROW_COUNT; index++){
+                sink=mapping.apply(index);
+            }
+        }
+
+        long threadId=Thread.currentThread().getId();
+        long minBytes=Long.MAX_VALUE;
+        for(int round=0; round<MEASURE_ROUNDS; round++){
+            long startBytes=threadMXBean.getThreadAllocatedBytes(threadId);
+            for(int index=0; index<ROW_COUNT; index++){
+                sink=mapping.apply(index);
+            }
+            minBytes=Math.min(minBytes, threadMXBean.getThreadAllocatedBytes(threadId)-startBytes);
+        }
+        assertThat(sink).isNotNull();
+        return minBytes/ROW_COUNT;
+    }
+
+    /**
+     * 기존 방식과 생성 코드가 같은 DTO를 만드는지 확인 (COMPARE_STEP 행마다 하나씩)
+     */
+    private void assertSameMapping(IntFunction<Object> before, IntFunction<Object> after){
+        for(int index=0; index<ROW_COUNT; index+=COMPARE_STEP){
+            assertThat(after.apply(index)).usingRecursiveComparison().isEqualTo(before.apply(index));
+        }
+    }
+
+    /**
+     * 생성 코드가 행 하나당 더 적게 할당하는지 확인
+     */
+    private void assertAllocatesLess(IntFunction<Object> before, IntFunction<Object> after){
+        assertThat(measure(after)).isLessThan(measure(before));
+    }
+}
@@ -0,0 +1,156 @@
+package applesquare.moment.search.analysis;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KoreanNGramAnalyzerTest {
+    private static final String FIELD="content";
+
+    // 검색 대상 말뭉치 (문서 번호 = 목록 인덱스)
+    private static final List<String> CORPUS=List.of(
+            "성수동 카페에서 커피 한 잔",          // 0
+            "고양이가 창가에서 낮잠을 잔다",        // 1
+            "주말에는 한강으로 자전거를 타러 간다",  // 2
+            "사과 한 박스를 샀다",                  // 3
+            "제주도 여행 사진 모음 #여행스타그램",   // 4
+            "고양시 일산 호수공원 산책",            // 5
+            "Coffee and 케이크"                    // 6
+    );
+
+    private static Directory directory;
+    private static DirectoryReader reader;
+    private static IndexSearcher searcher;
+    private static final KoreanNGramQueryBuilder queryBuilder=new KoreanNGramQueryBuilder();
+
+
+    @BeforeAll
+    static void buildIndex() throws IOException {
+        directory=new ByteBuffersDirectory();
+        try(IndexWriter writer=new IndexWriter(directory, new IndexWriterConfig(KoreanNGramAnalyzer.forIndex()))){
+            for(int i=0; i<CORPUS.size(); i++){
+                Document document=new Document();
+                document.add(new StoredField("no", i));
+                document.add(new TextField(FIELD, CORPUS.get(i), Field.Store.NO));
+                writer.addDocument(document);
+            }
+        }
+        reader=DirectoryReader.open(directory);
+        searcher=new IndexSearcher(reader);
+    }
+
+    @AfterAll
+    static void closeIndex() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+
+    @Test
+    void stripParticle(){
+        assertThat(KoreanParticleFilter.stripParticle("카페에서")).isEqualTo("카페");
+        assertThat(KoreanParticleFilter.stripParticle("한강으로")).isEqualTo("한강");
+        assertThat(KoreanParticleFilter.stripParticle("고양이가")).isEqualTo("고양이");
+        // 조사를 떼면 한 글자만 남는 경우에는 그대로 둔다.
+        assertThat(KoreanParticleFilter.stripParticle("사과")).isEqualTo("사과");
+        assertThat(KoreanParticleFilter.stripParticle("나는")).isEqualTo("나는");
+        // 한글이 아닌 토큰은 그대로 둔다.
+        assertThat(KoreanParticleFilter.stripParticle("coffee")).isEqualTo("coffee");
+    }
+
+    @Test
+    void indexTokensContainStemGrams() throws IOException {
+        List<String> tokens=analyze(KoreanNGramAnalyzer.forIndex(), "카페에서");
+
+        assertThat(tokens).contains("카페", "카페에", "페에", "에서", "카페에서");
+    }
+
+    @Test
+    void queryTokensUseLongestGrams(){
+        assertThat(queryBuilder.analyze("카페에서")).containsExactly("카페");
+        assertThat(queryBuilder.analyze("자전거를")).containsExactly("자전거");
+        assertThat(queryBuilder.analyze("호수공원")).containsExactly("호수공", "수공원");
+        assertThat(queryBuilder.analyze("COFFEE")).containsExactly("cof", "off", "ffe", "fee");
+    }
+
+    @Test
+    void searchWithParticles() throws IOException {
+        assertThat(search("카페")).containsExactly(0);
+        assertThat(search("카페에서")).containsExactly(0);
+        assertThat(search("한강에서")).containsExactly(2);
+        assertThat(search("자전거")).containsExactly(2);
+    }
+
+    @Test
+    void searchBySubstring() throws IOException {
+        // 단어 중간의 일부만 입력해도 찾을 수 있다.
+        assertThat(search("수공원")).containsExactly(5);
+        assertThat(search("스타그램")).containsExactly(4);
+        assertThat(search("여행")).containsExactly(4);
+    }
+
+    @Test
+    void searchRequiresAllGrams() throws IOException {
+        assertThat(search("고양")).containsExactlyInAnyOrder(1, 5);
+        assertThat(search("고양시")).containsExactly(5);
+        assertThat(search("고양이 낮잠")).containsExactly(1);
+        assertThat(search("고양이 자전거")).isEmpty();
+    }
+
+    @Test
+    void searchSingleCharacterAndLatin() throws IOException {
+        assertThat(search("잔")).containsExactlyInAnyOrder(0, 1);
+        // 토큰 끝에만 있는 글자도 찾을 수 있다. (잔다, 간다, 샀다)
+        assertThat(search("다")).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(search("coffee")).containsExactly(6);
+        assertThat(search("케이크")).containsExactly(6);
+    }
+
+    @Test
+    void blankQueryHasNoCondition(){
+        assertThat(queryBuilder.build("  ...  ", FIELD)).isNull();
+    }
+
+
+    private static List<Integer> search(String keyword) throws IOException {
+        Query query=queryBuilder.build(keyword, FIELD);
+        List<Integer> result=new ArrayList<>();
+        for(ScoreDoc scoreDoc : searcher.search(query, CORPUS.size()).scoreDocs){
+            result.add(searcher.storedFields().document(scoreDoc.doc).getField("no").numericValue().intValue());
+        }
+        return result;
+    }
+
+    private static List<String> analyze(Analyzer analyzer, String text) throws IOException {
+        List<String> tokens=new ArrayList<>();
+        try(TokenStream tokenStream=analyzer.tokenStream(FIELD, text)){
+            CharTermAttribute charTermAttribute=tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while(tokenStream.incrementToken()){
+                tokens.add(charTermAttribute.toString());
+            }
+            tokenStream.end();
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,206 @@
+package applesquare.moment.search.analysis;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 색인 크기와 검색 지연 시간 비교
+ * - 부분 문자열 전체 조회 (기존 LIKE '%keyword%')
+ * - 토큰 단위 색인 (StandardAnalyzer, 조사가 붙은 단어와 부분 문자열은 찾지 못함)
+ * - 조사 제거 + n-gram 색인 (KoreanNGramAnalyzer)
+ *
+ * 검색 결과 비교는 기본 테스트에서 실행하고,
+ * 크기와 지연 시간 비교는 실행 환경에 따라 흔들리므로 benchmark 태그로만 실행한다. (gradle benchmark)
+ */
+class KoreanNGramIndexBenchmarkTest {
+    private static final String FIELD="content";
+    private static final int DOCUMENT_COUNT=50_000;
+    private static final int WARMUP_ROUNDS=3;
+    private static final int MEASURE_ROUNDS=5;
+
+    private static final String[] NOUNS={
+            "카페", "커피", "고양이", "강아지", "한강", "자전거", "제주도", "여행", "사진", "바다",
+            "노을", "케이크", "맛집", "주말", "산책", "공원", "호수", "친구", "가족", "벚꽃",
+            "단풍", "눈사람", "도서관", "책방", "영화", "전시회", "미술관", "야경", "등산", "캠핑",
+            "성수동", "연남동", "부산", "강릉", "경주", "전주", "빵집", "디저트", "브런치", "점심"
+    };
+    private static final String[] PARTICLES={"", "", "에서", "으로", "를", "을", "이", "가", "와", "도", "까지"};
+    private static final String[] VERBS={"갔다", "먹었다", "찍었다", "걸었다", "좋았다", "봤다", "샀다", "쉬었다"};
+
+    // 검색어 (조사가 붙은 단어, 단어 일부, 한 글자, 여러 단어)
+    private static final List<String> KEYWORDS=List.of("카페에서", "고양", "자전거", "미술", "강", "다", "제주도 바다", "브런치 맛집");
+
+    private static final List<String> CORPUS=new ArrayList<>(DOCUMENT_COUNT);
+    private static final KoreanNGramQueryBuilder queryBuilder=new KoreanNGramQueryBuilder();
+    private static Directory ngramDirectory;
+
+
+    @BeforeAll
+    static void createCorpus(){
+        Random random=new Random(42);
+        for(int i=0; i<DOCUMENT_COUNT; i++){
+            StringBuilder content=new StringBuilder();
+            int wordCount=5+random.nextInt(10);
+            for(int w=0; w<wordCount; w++){
+                content.append(NOUNS[random.nextInt(NOUNS.length)])
+                        .append(PARTICLES[random.nextInt(PARTICLES.length)])
+                        .append(' ');
+            }
+            content.append(VERBS[random.nextInt(VERBS.length)]);
+            CORPUS.add(content.toString());
+        }
+    }
+
+    @BeforeAll
+    static void buildNGramIndex() throws IOException {
+        ngramDirectory=buildIndex(KoreanNGramAnalyzer.forIndex());
+    }
+
+    @AfterAll
+    static void closeNGramIndex() throws IOException {
+        ngramDirectory.close();
+    }
+
+    @Test
+    void ngramIndexFindsSameDocumentsAsSubstringScan() throws IOException {
+        try(DirectoryReader reader=DirectoryReader.open(ngramDirectory)){
+            IndexSearcher searcher=new IndexSearcher(reader);
+
+            // 전체 조회와 같은 문서를 찾는지 확인 (조사가 붙은 검색어는 조사를 뗀 단어로 비교)
+            assertThat(searcher.count(queryBuilder.build("고양", FIELD))).isEqualTo(CORPUS.stream().filter(content -> content.contains("고양")).count());
+            assertThat(searcher.count(queryBuilder.build("다", FIELD))).isEqualTo(CORPUS.stream().filter(content -> content.contains("다")).count());
+            assertThat(searcher.count(queryBuilder.build("카페에서", FIELD))).isEqualTo(CORPUS.stream().filter(content -> content.contains("카페")).count());
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    void indexSizeVersusQueryLatency(TestReporter reporter) throws IOException {
+        long textBytes=CORPUS.stream().mapToLong(content -> content.getBytes(StandardCharsets.UTF_8).length).sum();
+
+        // 부분 문자열 전체 조회 (색인 없음)
+        double scanMicros=measure(() -> {
+            long hits=0;
+            for(String keyword : KEYWORDS){
+                for(String content : CORPUS){
+                    if(content.contains(keyword)) hits++;
+                }
+            }
+            return hits;
+        });
+        report(reporter, "substring scan (LIKE)", textBytes, textBytes, scanMicros);
+
+        // 토큰 단위 색인
+        try(Directory directory=buildIndex(new StandardAnalyzer());
+            DirectoryReader reader=DirectoryReader.open(directory)){
+            IndexSearcher searcher=new IndexSearcher(reader);
+            double tokenMicros=measure(() -> {
+                long hits=0;
+                for(String keyword : KEYWORDS){
+                    for(String token : keyword.split(" ")){
+                        hits+=searcher.count(new TermQuery(new Term(FIELD, token)));
+                    }
+                }
+                return hits;
+            });
+            report(reporter, "token index (StandardAnalyzer)", textBytes, sizeOf(directory), tokenMicros);
+        }
+
+        // 조사 제거 + n-gram 색인
+        try(DirectoryReader reader=DirectoryReader.open(ngramDirectory)){
+            IndexSearcher searcher=new IndexSearcher(reader);
+            List<Query> queries=KEYWORDS.stream().map(keyword -> queryBuilder.build(keyword, FIELD)).toList();
+            double ngramMicros=measure(() -> {
+                long hits=0;
+                for(Query query : queries){
+                    hits+=searcher.count(query);
+                }
+                return hits;
+            });
+            long ngramBytes=sizeOf(ngramDirectory);
+            report(reporter, "n-gram index (KoreanNGramAnalyzer)", textBytes, ngramBytes, ngramMicros);
+
+            assertThat(ngramBytes).isLessThan(textBytes);
+            assertThat(ngramMicros).isLessThan(scanMicros);
+        }
+    }
+
+
+    private static Directory buildIndex(Analyzer analyzer) throws IOException {
+        Directory directory=new ByteBuffersDirectory();
+        try(IndexWriter writer=new IndexWriter(directory, new IndexWriterConfig(analyzer))){
+            for(String content : CORPUS){
+                Document document=new Document();
+                document.add(new TextField(FIELD, content, Field.Store.NO));
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        return directory;
+    }
+
+    private long sizeOf(Directory directory) throws IOException {
+        long bytes=0;
+        for(String file : directory.listAll()){
+            bytes+=directory.fileLength(file);
+        }
+        return bytes;
+    }
+
+    /**
+     * 검색어 목록 전체를 한 번 검색하는 데 걸리는 시간을, 검색어 하나당 평균으로 측정
+     * (워밍업 이후 여러 번 측정해서 가장 낮은 값을 사용)
+     */
+    private double measure(Search search) throws IOException {
+        long hits=0;
+        for(int round=0; round<WARMUP_ROUNDS; round++){
+            hits+=search.run();
+        }
+
+        long minNanos=Long.MAX_VALUE;
+        for(int round=0; round<MEASURE_ROUNDS; round++){
+            long startNanos=System.nanoTime();
+            hits+=search.run();
+            minNanos=Math.min(minNanos, System.nanoTime()-startNanos);
+        }
+        assertThat(hits).isPositive();
+        return minNanos/1000.0/KEYWORDS.size();
+    }
+
+    /**
+     * 측정 결과를 테스트 보고서에 기록 (표준 출력에는 쓰지 않는다.)
+     */
+    private void report(TestReporter reporter, String name, long textBytes, long indexBytes, double micros){
+        reporter.publishEntry(name, String.format("%d bytes (%.2fx text), %.1f us/query", indexBytes, (double) indexBytes/textBytes, micros));
+    }
+
+    @FunctionalInterface
+    private interface Search {
+        long run() throws IOException;
+    }
+}
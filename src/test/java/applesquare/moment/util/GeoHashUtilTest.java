@@ -0,0 +1,164 @@
+package applesquare.moment.util;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoHashUtilTest {
+    // 서울 근처에 흩어진 합성 게시물 위치 (게시물 ID = 배열 인덱스)
+    private static final int POST_COUNT=1_000_000;
+    private static final int STORED_PRECISION=9;
+    private static final double[] XS=new double[POST_COUNT];
+    private static final double[] YS=new double[POST_COUNT];
+
+    private static final int FINE_CELL_PRECISION=6;
+    private static final int COARSE_CELL_PRECISION=5;
+    private static final int PAGE_SIZE=21;
+    private static final long MAX_ROWS_READ_PER_PAGE=400;
+
+    // (geohash, id) 인덱스를 흉내 낸 정렬 맵
+    private static final TreeMap<String, List<Integer>> GEOHASH_INDEX=new TreeMap<>();
+    // (geohash_n, id) 인덱스를 흉내 낸 맵 (셀 -> 최신순 ID)
+    private static final Map<String, TreeSet<Integer>> CELL_INDEX=new HashMap<>();
+
+
+    @BeforeAll
+    static void createPosts(){
+        Random random=new Random(42);
+        for(int id=0; id<POST_COUNT; id++){
+            XS[id]=126.7+random.nextDouble()*0.5;
+            YS[id]=37.4+random.nextDouble()*0.3;
+            String geohash=GeoHashUtil.encode(XS[id], YS[id], STORED_PRECISION);
+            GEOHASH_INDEX.computeIfAbsent(geohash, key -> new ArrayList<>()).add(id);
+            CELL_INDEX.computeIfAbsent(geohash.substring(0, FINE_CELL_PRECISION), key -> new TreeSet<>(Comparator.reverseOrder())).add(id);
+            CELL_INDEX.computeIfAbsent(geohash.substring(0, COARSE_CELL_PRECISION), key -> new TreeSet<>(Comparator.reverseOrder())).add(id);
+        }
+    }
+
+    @Test
+    void encodesKnownGeohash(){
+        assertThat(GeoHashUtil.encode(-5.6, 42.6, 5)).isEqualTo("ezs42");
+        assertThat(GeoHashUtil.encode(126.9780, 37.5665, 7)).isEqualTo("wydm9qy");
+    }
+
+    @Test
+    void coverCellsShareOnePrecision(){
+        Set<String> cells=GeoHashUtil.coverCells(126.9780, 37.5665, 1000, STORED_PRECISION);
+
+        assertThat(cells).isNotEmpty().hasSizeLessThanOrEqualTo(GeoHashUtil.MAX_COVER_CELLS);
+        assertThat(cells.stream().map(String::length).distinct()).hasSize(1);
+        assertThat(cells).contains(GeoHashUtil.encode(126.9780, 37.5665, cells.iterator().next().length()));
+    }
+
+    @Test
+    void coverCellsAreNotLongerThanStoredGeohash(){
+        // 아주 작은 반경이라도 저장된 지오해시보다 긴 셀은 고르지 않는다.
+        Set<String> cells=GeoHashUtil.coverCells(126.9780, 37.5665, 1, STORED_PRECISION);
+
+        assertThat(cells).allSatisfy(cell -> assertThat(cell).hasSize(STORED_PRECISION));
+        assertThat(cells).contains(GeoHashUtil.encode(126.9780, 37.5665, STORED_PRECISION));
+    }
+
+    @Test
+    void distanceMatchesKnownValue(){
+        // 서울시청 ~ 부산시청 (약 325km)
+        double distance=GeoHashUtil.distance(126.9780, 37.5665, 129.0750, 35.1796);
+        assertThat(distance).isBetween(320_000.0, 330_000.0);
+    }
+
+    @Test
+    void coverCellsFindSameNearbyPostsAsFullScan(){
+        for(int radius : new int[]{1, 100, 500, 1000, 5000}){
+            double x=126.9780, y=37.5665;
+
+            // 전체 조회 (인덱스 없이 모든 게시물의 거리 계산)
+            Set<Integer> expected=new HashSet<>();
+            for(int id=0; id<POST_COUNT; id++){
+                if(GeoHashUtil.distance(x, y, XS[id], YS[id])<=radius) expected.add(id);
+            }
+
+            // 지오해시 셀 구간만 읽고, 경계 사각형과 거리로 거르기
+            double dx=GeoHashUtil.longitudeDelta(y, radius);
+            double dy=GeoHashUtil.latitudeDelta(radius);
+            Set<Integer> actual=new HashSet<>();
+            int scannedCount=0;
+            for(String cell : GeoHashUtil.coverCells(x, y, radius, STORED_PRECISION)){
+                for(List<Integer> ids : GEOHASH_INDEX.subMap(cell, true, cell+Character.MAX_VALUE, false).values()){
+                    for(int id : ids){
+                        scannedCount++;
+                        if(XS[id]<x-dx || XS[id]>x+dx || YS[id]<y-dy || YS[id]>y+dy) continue;
+                        if(GeoHashUtil.distance(x, y, XS[id], YS[id])<=radius) actual.add(id);
+                    }
+                }
+            }
+
+            assertThat(actual).isEqualTo(expected);
+            // 셀 구간에서 읽는 게시물은 반경 안 게시물의 몇 배 정도여야 한다. (전체 게시물이 아니라)
+            assertThat(scannedCount).isLessThan(expected.size()*6+100);
+        }
+    }
+
+    @Test
+    void cellKeysetPagesReadOnlyAFewRowsPerCell(){
+        for(int radius : new int[]{100, 1000, 5000}){
+            double x=126.9780, y=37.5665;
+
+            // 전체 조회 결과를 최신순으로
+            List<Integer> expected=new ArrayList<>();
+            for(int id=POST_COUNT-1; id>=0; id--){
+                if(GeoHashUtil.distance(x, y, XS[id], YS[id])<=radius) expected.add(id);
+            }
+
+            // 셀마다 최신순으로 PAGE_SIZE개씩 읽고 합치기 (PostReadServiceImpl.readNearbyPostIds와 같은 방식)
+            double dx=GeoHashUtil.longitudeDelta(y, radius);
+            double dy=GeoHashUtil.latitudeDelta(radius);
+            double minX=x-dx, maxX=x+dx, minY=y-dy, maxY=y+dy;
+            int cellPrecision=(GeoHashUtil.countCells(minX, maxX, minY, maxY, FINE_CELL_PRECISION)<=GeoHashUtil.MAX_COVER_CELLS)
+                    ? FINE_CELL_PRECISION
+                    : COARSE_CELL_PRECISION;
+            Set<String> cells=GeoHashUtil.cellsAt(minX, maxX, minY, maxY, cellPrecision);
+            assertThat(cells).hasSizeLessThanOrEqualTo(GeoHashUtil.MAX_COVER_CELLS);
+
+            List<String> openCells=new ArrayList<>(cells);
+            List<Integer> page=new ArrayList<>();
+            long readCount=0;
+            Integer cursor=null;
+            while(page.size()<PAGE_SIZE && !openCells.isEmpty()){
+                List<Integer> candidates=new ArrayList<>();
+                Integer frontierId=null;
+                Iterator<String> cellIterator=openCells.iterator();
+                while(cellIterator.hasNext()){
+                    TreeSet<Integer> cellIds=CELL_INDEX.getOrDefault(cellIterator.next(), new TreeSet<>(Comparator.reverseOrder()));
+                    List<Integer> cellCandidates=(cursor==null ? cellIds : cellIds.tailSet(cursor, false)).stream().limit(PAGE_SIZE).toList();
+                    readCount+=cellCandidates.size();
+                    candidates.addAll(cellCandidates);
+                    if(cellCandidates.size()<PAGE_SIZE){
+                        cellIterator.remove();
+                        continue;
+                    }
+                    int lastId=cellCandidates.get(cellCandidates.size()-1);
+                    if(frontierId==null || lastId>frontierId) frontierId=lastId;
+                }
+
+                candidates.sort(Comparator.reverseOrder());
+                for(int id : candidates){
+                    if(frontierId!=null && id<frontierId) break;
+                    if(GeoHashUtil.distance(x, y, XS[id], YS[id])<=radius){
+                        page.add(id);
+                        if(page.size()==PAGE_SIZE) break;
+                    }
+                }
+                cursor=frontierId;
+            }
+
+            assertThat(page).isEqualTo(expected.subList(0, Math.min(PAGE_SIZE, expected.size())));
+            // 한 페이지를 채우는 데 읽는 행은 반경과 상관없이 수백 개 정도여야 한다.
+            // (셀 전체를 읽으면 반경 5km에서 10만 개 이상)
+            long cellRowCount=cells.stream().mapToLong(cell -> CELL_INDEX.getOrDefault(cell, new TreeSet<>()).size()).sum();
+            assertThat(readCount).isLessThan(MAX_ROWS_READ_PER_PAGE).isLessThanOrEqualTo(cellRowCount);
+        }
+    }
+}